@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Acquires a batch of async jobs from a table with many due jobs, the way the acquire jobs runnable of the async executor does.
+ * The async executor itself is not started, every invocation unacquires the jobs again so the number of due jobs stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AsyncJobAcquisitionBenchmark {
+
+    @Param({ "1000" })
+    public int jobs;
+
+    @Param({ "1", "10", "100" })
+    public int acquireSize;
+
+    protected ProcessEngine processEngine;
+    protected CommandExecutor commandExecutor;
+    protected AsyncExecutor asyncExecutor;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandaloneInMemProcessEngineConfiguration configuration = new StandaloneInMemProcessEngineConfiguration();
+        configuration.setEngineName("async-job-acquisition-benchmark");
+        configuration.setJdbcUrl("jdbc:h2:mem:async-job-acquisition-benchmark;DB_CLOSE_DELAY=1000");
+        configuration.setHistoryLevel(HistoryLevel.NONE);
+        configuration.setAsyncExecutorActivate(false);
+        configuration.setAsyncExecutorMaxAsyncJobsDuePerAcquisition(acquireSize);
+        processEngine = configuration.buildProcessEngine();
+
+        ProcessEngineConfigurationImpl engineConfiguration = configuration;
+        commandExecutor = engineConfiguration.getCommandExecutor();
+        asyncExecutor = engineConfiguration.getAsyncExecutor();
+        jobServiceConfiguration = engineConfiguration.getJobServiceConfiguration();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addString("asyncProcess.bpmn20.xml", BenchmarkModels.asyncProcess())
+                .deploy();
+
+        RuntimeService runtimeService = processEngine.getRuntimeService();
+        for (int i = 0; i < jobs; i++) {
+            runtimeService.startProcessInstanceByKey(BenchmarkModels.ASYNC_PROCESS_KEY);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public int acquireAndUnacquireJobs() {
+        List<? extends JobInfoEntity> acquiredJobs = commandExecutor.execute(
+                new AcquireJobsCmd(asyncExecutor, Integer.MAX_VALUE, jobServiceConfiguration.getJobEntityManager()));
+        commandExecutor.execute(new UnacquireOwnedJobsCmd(asyncExecutor.getLockOwner(), null, jobServiceConfiguration));
+        return acquiredJobs.size();
+    }
+}
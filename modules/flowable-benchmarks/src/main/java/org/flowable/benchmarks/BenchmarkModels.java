@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+/**
+ * Generates the deterministic BPMN, CMMN and DMN models that are used by the benchmarks,
+ * so the benchmarks only depend on their parameters and results are comparable between runs.
+ */
+public final class BenchmarkModels {
+
+    public static final String SIMPLE_PROCESS_KEY = "simpleProcess";
+    public static final String PARALLEL_PROCESS_KEY = "parallelProcess";
+    public static final String ASYNC_PROCESS_KEY = "asyncProcess";
+    public static final String SEQUENTIAL_PROCESS_KEY = "sequentialProcess";
+    public static final String SENTRY_CASE_KEY = "sentryCase";
+    public static final String DECISION_KEY = "decision";
+
+    private static final String BPMN_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" xmlns:flowable=\"http://flowable.org/bpmn\" "
+            + "targetNamespace=\"http://flowable.org/benchmarks\">\n";
+
+    private BenchmarkModels() {
+    }
+
+    /**
+     * start -> user task -> end
+     */
+    public static String simpleProcess() {
+        return BPMN_HEADER
+                + "  <process id=\"" + SIMPLE_PROCESS_KEY + "\">\n"
+                + "    <startEvent id=\"start\" />\n"
+                + "    <sequenceFlow id=\"flow1\" sourceRef=\"start\" targetRef=\"task\" />\n"
+                + "    <userTask id=\"task\" />\n"
+                + "    <sequenceFlow id=\"flow2\" sourceRef=\"task\" targetRef=\"end\" />\n"
+                + "    <endEvent id=\"end\" />\n"
+                + "  </process>\n"
+                + "</definitions>";
+    }
+
+    /**
+     * start -> parallel fork -> the given number of user tasks -> parallel join -> end
+     */
+    public static String parallelProcess(int branches) {
+        StringBuilder xml = new StringBuilder(BPMN_HEADER)
+                .append("  <process id=\"").append(PARALLEL_PROCESS_KEY).append("\">\n")
+                .append("    <startEvent id=\"start\" />\n")
+                .append("    <sequenceFlow id=\"flowStart\" sourceRef=\"start\" targetRef=\"fork\" />\n")
+                .append("    <parallelGateway id=\"fork\" />\n")
+                .append("    <parallelGateway id=\"join\" />\n");
+
+        for (int i = 0; i < branches; i++) {
+            xml.append("    <sequenceFlow id=\"flowFork").append(i).append("\" sourceRef=\"fork\" targetRef=\"task").append(i).append("\" />\n")
+                    .append("    <userTask id=\"task").append(i).append("\" />\n")
+                    .append("    <sequenceFlow id=\"flowJoin").append(i).append("\" sourceRef=\"task").append(i).append("\" targetRef=\"join\" />\n");
+        }
+
+        return xml.append("    <sequenceFlow id=\"flowEnd\" sourceRef=\"join\" targetRef=\"end\" />\n")
+                .append("    <endEvent id=\"end\" />\n")
+                .append("  </process>\n")
+                .append("</definitions>")
+                .toString();
+    }
+
+    /**
+     * start -> async service task -> end, every started process instance leaves one async job behind.
+     */
+    public static String asyncProcess() {
+        return BPMN_HEADER
+                + "  <process id=\"" + ASYNC_PROCESS_KEY + "\">\n"
+                + "    <startEvent id=\"start\" />\n"
+                + "    <sequenceFlow id=\"flow1\" sourceRef=\"start\" targetRef=\"asyncTask\" />\n"
+                + "    <serviceTask id=\"asyncTask\" flowable:async=\"true\" flowable:expression=\"${true}\" />\n"
+                + "    <sequenceFlow id=\"flow2\" sourceRef=\"asyncTask\" targetRef=\"end\" />\n"
+                + "    <endEvent id=\"end\" />\n"
+                + "  </process>\n"
+                + "</definitions>";
+    }
+
+    /**
+     * start -> the given number of user tasks with documentation, listeners and conditional flows -> end
+     */
+    public static String sequentialProcess(int tasks) {
+        StringBuilder xml = new StringBuilder(BPMN_HEADER)
+                .append("  <process id=\"").append(SEQUENTIAL_PROCESS_KEY).append("\">\n")
+                .append("    <startEvent id=\"start\" />\n")
+                .append("    <sequenceFlow id=\"flowStart\" sourceRef=\"start\" targetRef=\"task0\" />\n");
+
+        for (int i = 0; i < tasks; i++) {
+            String target = i == tasks - 1 ? "end" : "task" + (i + 1);
+            xml.append("    <userTask id=\"task").append(i).append("\" name=\"Task ").append(i)
+                    .append("\" flowable:assignee=\"${assignee}\" flowable:candidateGroups=\"group").append(i % 10).append("\">\n")
+                    .append("      <documentation>Task number ").append(i).append("</documentation>\n")
+                    .append("      <extensionElements>\n")
+                    .append("        <flowable:taskListener event=\"create\" expression=\"${task.setVariable('created', true)}\" />\n")
+                    .append("      </extensionElements>\n")
+                    .append("    </userTask>\n")
+                    .append("    <sequenceFlow id=\"flow").append(i).append("\" sourceRef=\"task").append(i).append("\" targetRef=\"").append(target).append("\">\n")
+                    .append("      <conditionExpression xsi:type=\"tFormalExpression\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">")
+                    .append("<![CDATA[${approved}]]></conditionExpression>\n")
+                    .append("    </sequenceFlow>\n");
+        }
+
+        return xml.append("    <endEvent id=\"end\" />\n")
+                .append("  </process>\n")
+                .append("</definitions>")
+                .toString();
+    }
+
+    /**
+     * A case with the given number of human tasks, every task has an entry sentry with an if part {@code ${level >= i}}.
+     */
+    public static String sentryCase(int planItems) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<definitions xmlns=\"http://www.omg.org/spec/CMMN/20151109/MODEL\" xmlns:flowable=\"http://flowable.org/cmmn\" ")
+                .append("targetNamespace=\"http://flowable.org/benchmarks\">\n")
+                .append("  <case id=\"").append(SENTRY_CASE_KEY).append("\">\n")
+                .append("    <casePlanModel id=\"casePlanModel\">\n");
+
+        for (int i = 0; i < planItems; i++) {
+            xml.append("      <planItem id=\"planItem").append(i).append("\" definitionRef=\"task").append(i).append("\">\n")
+                    .append("        <entryCriterion id=\"entryCriterion").append(i).append("\" sentryRef=\"sentry").append(i).append("\" />\n")
+                    .append("      </planItem>\n")
+                    .append("      <sentry id=\"sentry").append(i).append("\">\n")
+                    .append("        <ifPart>\n")
+                    .append("          <condition><![CDATA[${level >= ").append(i).append("}]]></condition>\n")
+                    .append("        </ifPart>\n")
+                    .append("      </sentry>\n")
+                    .append("      <humanTask id=\"task").append(i).append("\" />\n");
+        }
+
+        return xml.append("    </casePlanModel>\n")
+                .append("  </case>\n")
+                .append("</definitions>")
+                .toString();
+    }
+
+    /**
+     * A decision table with the given number of rules on a number and a string input. Rule {@code i} matches the ages
+     * {@code [i * 10, i * 10 + 10)} of category {@code 'category' + (i % 5)}, so with the unique hit policy exactly one rule matches.
+     */
+    public static String decisionTable(int rules) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<definitions xmlns=\"https://www.omg.org/spec/DMN/20191111/MODEL/\" id=\"benchmark\" name=\"Benchmark\" ")
+                .append("namespace=\"http://flowable.org/benchmarks\">\n")
+                .append("  <decision id=\"").append(DECISION_KEY).append("\" name=\"Benchmark decision\">\n")
+                .append("    <decisionTable id=\"decisionTable\" hitPolicy=\"UNIQUE\">\n")
+                .append("      <input id=\"minimumAgeInput\">\n")
+                .append("        <inputExpression id=\"minimumAgeExpression\" typeRef=\"number\"><text>age</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <input id=\"maximumAgeInput\">\n")
+                .append("        <inputExpression id=\"maximumAgeExpression\" typeRef=\"number\"><text>age</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <input id=\"categoryInput\">\n")
+                .append("        <inputExpression id=\"categoryExpression\" typeRef=\"string\"><text>category</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <output id=\"output\" name=\"result\" typeRef=\"string\" />\n");
+
+        for (int i = 0; i < rules; i++) {
+            xml.append("      <rule id=\"rule").append(i).append("\">\n")
+                    .append("        <inputEntry id=\"minimumAgeEntry").append(i).append("\"><text><![CDATA[>= ").append(i * 10)
+                    .append("]]></text></inputEntry>\n")
+                    .append("        <inputEntry id=\"maximumAgeEntry").append(i).append("\"><text><![CDATA[< ").append(i * 10 + 10)
+                    .append("]]></text></inputEntry>\n")
+                    .append("        <inputEntry id=\"categoryEntry").append(i).append("\"><text><![CDATA[== \"category").append(i % 5)
+                    .append("\"]]></text></inputEntry>\n")
+                    .append("        <outputEntry id=\"outputEntry").append(i).append("\"><text><![CDATA[\"result").append(i)
+                    .append("\"]]></text></outputEntry>\n")
+                    .append("      </rule>\n");
+        }
+
+        return xml.append("    </decisionTable>\n")
+                .append("  </decision>\n")
+                .append("</definitions>")
+                .toString();
+    }
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts and completes simple and parallel process instances on an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BpmnProcessBenchmark {
+
+    @Param({ "none", "audit" })
+    public String historyLevel;
+
+    @Param({ "5" })
+    public int parallelBranches;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandaloneInMemProcessEngineConfiguration engineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        engineConfiguration.setEngineName("bpmn-process-benchmark");
+        engineConfiguration.setJdbcUrl("jdbc:h2:mem:bpmn-process-benchmark;DB_CLOSE_DELAY=1000");
+        engineConfiguration.setHistoryLevel(HistoryLevel.getHistoryLevelForKey(historyLevel));
+        engineConfiguration.setAsyncExecutorActivate(false);
+        processEngine = engineConfiguration.buildProcessEngine();
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addString("simpleProcess.bpmn20.xml", BenchmarkModels.simpleProcess())
+                .addString("parallelProcess.bpmn20.xml", BenchmarkModels.parallelProcess(parallelBranches))
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public String startAndCompleteSimpleProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(BenchmarkModels.SIMPLE_PROCESS_KEY);
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        return processInstance.getId();
+    }
+
+    @Benchmark
+    public String startAndCompleteParallelProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(BenchmarkModels.PARALLEL_PROCESS_KEY);
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        return processInstance.getId();
+    }
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates the sentries of a case with many plan items that each have an entry criterion with an if part.
+ * Every invocation starts a case instance, in which all sentries are evaluated, and then makes half of the sentries satisfied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CmmnSentryBenchmark {
+
+    @Param({ "10", "50" })
+    public int planItems;
+
+    protected CmmnEngine cmmnEngine;
+    protected CmmnRuntimeService cmmnRuntimeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandaloneInMemCmmnEngineConfiguration engineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        engineConfiguration.setCmmnEngineName("cmmn-sentry-benchmark");
+        engineConfiguration.setJdbcUrl("jdbc:h2:mem:cmmn-sentry-benchmark;DB_CLOSE_DELAY=1000");
+        engineConfiguration.setDatabaseSchemaUpdate(StandaloneInMemCmmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        engineConfiguration.setHistoryLevel(HistoryLevel.NONE);
+        engineConfiguration.setAsyncExecutorActivate(false);
+        cmmnEngine = engineConfiguration.buildCmmnEngine();
+        cmmnRuntimeService = cmmnEngine.getCmmnRuntimeService();
+
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addString("sentryCase.cmmn", BenchmarkModels.sentryCase(planItems))
+                .deploy();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCaseInstances() {
+        for (CaseInstance caseInstance : cmmnRuntimeService.createCaseInstanceQuery().list()) {
+            cmmnRuntimeService.deleteCaseInstance(caseInstance.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cmmnEngine.close();
+    }
+
+    @Benchmark
+    public String startCaseAndEvaluateSentries() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey(BenchmarkModels.SENTRY_CASE_KEY)
+                .variable("level", 0)
+                .start();
+
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "level", planItems / 2);
+        cmmnRuntimeService.evaluateCriteria(caseInstance.getId());
+        return caseInstance.getId();
+    }
+}
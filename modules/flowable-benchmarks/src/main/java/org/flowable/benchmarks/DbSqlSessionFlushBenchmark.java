@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link org.flowable.common.engine.impl.db.DbSqlSession#flush() DbSqlSession flush} of the given number of entities
+ * in one command. {@link #insertAndFlush()} inserts byte array entities. {@link #updateAndFlush(UpdateState)} loads that number of tasks
+ * and modifies every other one, so half of the revisioned entities are updated and the other half are unchanged,
+ * with and without batched updates and dirty tracking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DbSqlSessionFlushBenchmark {
+
+    protected static final String BYTE_ARRAY_NAME = "benchmark";
+
+    @Param({ "10", "100", "1000" })
+    public int entities;
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl engineConfiguration;
+    protected byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandaloneInMemProcessEngineConfiguration configuration = new StandaloneInMemProcessEngineConfiguration();
+        configuration.setEngineName("db-sql-session-flush-benchmark");
+        configuration.setJdbcUrl("jdbc:h2:mem:db-sql-session-flush-benchmark;DB_CLOSE_DELAY=1000");
+        configuration.setHistoryLevel(HistoryLevel.NONE);
+        configuration.setAsyncExecutorActivate(false);
+        processEngine = configuration.buildProcessEngine();
+        engineConfiguration = configuration;
+        bytes = new byte[256];
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteByteArrays() throws SQLException {
+        try (Connection connection = engineConfiguration.getDataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from ACT_GE_BYTEARRAY where NAME_ = '" + BYTE_ARRAY_NAME + "'");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public int insertAndFlush() {
+        return engineConfiguration.getCommandExecutor().execute(commandContext -> {
+            ByteArrayEntityManager byteArrayEntityManager = engineConfiguration.getByteArrayEntityManager();
+            for (int i = 0; i < entities; i++) {
+                ByteArrayEntity byteArrayEntity = byteArrayEntityManager.create();
+                byteArrayEntity.setName(BYTE_ARRAY_NAME);
+                byteArrayEntity.setBytes(bytes);
+                byteArrayEntityManager.insert(byteArrayEntity);
+            }
+            return entities;
+        });
+    }
+
+    @Benchmark
+    public int updateAndFlush(UpdateState updateState) {
+        int priority = ++updateState.updates;
+        return updateState.engineConfiguration.getCommandExecutor().execute(commandContext -> {
+            List<Task> tasks = updateState.processEngine.getTaskService().createTaskQuery()
+                    .processDefinitionKey(BenchmarkModels.SIMPLE_PROCESS_KEY)
+                    .list();
+            for (int i = 0; i < tasks.size(); i += 2) {
+                ((TaskEntity) tasks.get(i)).setPriority(priority);
+            }
+            return tasks.size();
+        });
+    }
+
+    @State(Scope.Benchmark)
+    public static class UpdateState {
+
+        @Param({ "false", "true" })
+        public boolean batchUpdate;
+
+        @Param({ "false", "true" })
+        public boolean dirtyTracking;
+
+        protected ProcessEngine processEngine;
+        protected ProcessEngineConfigurationImpl engineConfiguration;
+        protected int updates;
+
+        @Setup(Level.Trial)
+        public void setUp(DbSqlSessionFlushBenchmark benchmark) {
+            StandaloneInMemProcessEngineConfiguration configuration = new StandaloneInMemProcessEngineConfiguration();
+            configuration.setEngineName("db-sql-session-update-flush-benchmark");
+            configuration.setJdbcUrl("jdbc:h2:mem:db-sql-session-update-flush-benchmark;DB_CLOSE_DELAY=1000");
+            configuration.setHistoryLevel(HistoryLevel.NONE);
+            configuration.setAsyncExecutorActivate(false);
+            configuration.setBatchUpdateEnabled(batchUpdate);
+            configuration.setDirtyTrackingEnabled(dirtyTracking);
+            processEngine = configuration.buildProcessEngine();
+            engineConfiguration = configuration;
+
+            processEngine.getRepositoryService().createDeployment()
+                    .addString("simpleProcess.bpmn20.xml", BenchmarkModels.simpleProcess())
+                    .deploy();
+            for (int i = 0; i < benchmark.entities; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey(BenchmarkModels.SIMPLE_PROCESS_KEY);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            processEngine.close();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a decision table with many rules, of which only the last one matches, so every rule is evaluated.
+ * The execution goes through the decision service and the rule engine executor, without history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DmnDecisionTableBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int rules;
+
+    protected DmnEngine dmnEngine;
+    protected DmnDecisionService dmnDecisionService;
+    protected int age;
+    protected String category;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandaloneInMemDmnEngineConfiguration engineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        engineConfiguration.setEngineName("dmn-decision-table-benchmark");
+        engineConfiguration.setJdbcUrl("jdbc:h2:mem:dmn-decision-table-benchmark;DB_CLOSE_DELAY=1000");
+        engineConfiguration.setDatabaseSchemaUpdate(StandaloneInMemDmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        engineConfiguration.setHistoryEnabled(false);
+        dmnEngine = engineConfiguration.buildDmnEngine();
+        dmnDecisionService = dmnEngine.getDmnDecisionService();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addString("decision.dmn", BenchmarkModels.decisionTable(rules))
+                .deploy();
+
+        int lastRule = rules - 1;
+        age = lastRule * 10 + 5;
+        category = "category" + (lastRule % 5);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> executeDecision() {
+        return dmnDecisionService.createExecuteDecisionBuilder()
+                .decisionKey(BenchmarkModels.DECISION_KEY)
+                .variable("age", age)
+                .variable("category", category)
+                .executeWithSingleResult();
+    }
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.variable.MapDelegateVariableContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates JUEL expressions through the {@link DefaultExpressionManager}, both with an expression that is parsed once
+ * and with an expression that is created for every evaluation, as is done for expressions that are not cached.
+ * A compilation threshold of -1 interprets the parsed expressions, 0 compiles them on the first evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    protected static final Map<String, String> EXPRESSIONS = new HashMap<>();
+
+    static {
+        EXPRESSIONS.put("variable", "${amount}");
+        EXPRESSIONS.put("condition", "${amount > 1000 && customer.vip == true || approved}");
+        EXPRESSIONS.put("method", "${customer.name.toUpperCase().startsWith('ACME')}");
+    }
+
+    @Param({ "variable", "condition", "method" })
+    public String expressionType;
+
+    @Param({ "-1", "0" })
+    public int compilationThreshold;
+
+    protected DefaultExpressionManager expressionManager;
+    protected String expressionText;
+    protected Expression expression;
+    protected VariableContainer variableContainer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expressionManager = new DefaultExpressionManager(null);
+        expressionManager.setExpressionCompilationThreshold(compilationThreshold);
+        expressionText = EXPRESSIONS.get(expressionType);
+        expression = expressionManager.createExpression(expressionText);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "Acme Corporation");
+        customer.put("vip", Boolean.TRUE);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 2500);
+        variables.put("approved", Boolean.FALSE);
+        variables.put("customer", customer);
+        variableContainer = new MapDelegateVariableContainer(variables, VariableContainer.empty());
+    }
+
+    @Benchmark
+    public Object evaluateParsedExpression() {
+        return expression.getValue(variableContainer);
+    }
+
+    @Benchmark
+    public Object createAndEvaluateExpression() {
+        return expressionManager.createExpression(expressionText).getValue(variableContainer);
+    }
+}
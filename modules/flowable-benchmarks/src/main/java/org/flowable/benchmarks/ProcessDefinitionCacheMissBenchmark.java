@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves a process definition that is not in the process definition cache, from a deployment with the given number of process definitions.
+ * <p>
+ * {@link #resolveFromWholeDeployment()} redeploys the whole deployment, {@link #resolveFromProcessDefinitionResourceOnly()} only the BPMN resource
+ * of the process definition (see {@link ProcessEngineConfigurationImpl#setResolveProcessDefinitionResourceOnly(boolean)}).
+ * {@link #convertProcessDefinitionResource()} only converts the BPMN XML of the process definition into a {@link BpmnModel},
+ * which is the most that a persisted pre-parsed model of the process definition could save on a cache miss.
+ * Comparing it with the resolve benchmarks shows which share of a cache miss is spent on the XML conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProcessDefinitionCacheMissBenchmark {
+
+    @Param({ "1", "10" })
+    public int processDefinitions;
+
+    @Param({ "10", "100" })
+    public int tasks;
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected RepositoryService repositoryService;
+    protected String processDefinitionId;
+    protected byte[] bpmnBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("process-definition-cache-miss-benchmark");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:process-definition-cache-miss-benchmark;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        repositoryService = processEngine.getRepositoryService();
+
+        String bpmnXml = BenchmarkModels.sequentialProcess(tasks);
+        bpmnBytes = bpmnXml.getBytes(StandardCharsets.UTF_8);
+
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (int i = 0; i < processDefinitions; i++) {
+            String processDefinitionKey = BenchmarkModels.SEQUENTIAL_PROCESS_KEY + i;
+            deploymentBuilder.addString(processDefinitionKey + ".bpmn20.xml",
+                    bpmnXml.replace("id=\"" + BenchmarkModels.SEQUENTIAL_PROCESS_KEY + "\"", "id=\"" + processDefinitionKey + "\""));
+        }
+        String deploymentId = deploymentBuilder.deploy().getId();
+
+        processDefinitionId = repositoryService.createProcessDefinitionQuery()
+                .deploymentId(deploymentId)
+                .processDefinitionKey(BenchmarkModels.SEQUENTIAL_PROCESS_KEY + 0)
+                .singleResult()
+                .getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public BpmnModel resolveFromWholeDeployment() {
+        processEngineConfiguration.setResolveProcessDefinitionResourceOnly(false);
+        return resolveProcessDefinition();
+    }
+
+    @Benchmark
+    public BpmnModel resolveFromProcessDefinitionResourceOnly() {
+        processEngineConfiguration.setResolveProcessDefinitionResourceOnly(true);
+        return resolveProcessDefinition();
+    }
+
+    @Benchmark
+    public BpmnModel convertProcessDefinitionResource() {
+        return new BpmnXMLConverter().convertToBpmnModel(() -> new ByteArrayInputStream(bpmnBytes), false, false);
+    }
+
+    protected BpmnModel resolveProcessDefinition() {
+        processEngineConfiguration.getProcessDefinitionCache().remove(processDefinitionId);
+        return repositoryService.getBpmnModel(processDefinitionId);
+    }
+}
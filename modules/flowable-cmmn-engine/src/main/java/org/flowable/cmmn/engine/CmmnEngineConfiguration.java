@@ -16,6 +16,7 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -80,6 +81,7 @@ import org.flowable.cmmn.engine.impl.delete.DeleteHistoricCaseInstanceIdsJobHand
 import org.flowable.cmmn.engine.impl.delete.DeleteHistoricCaseInstanceIdsStatusJobHandler;
 import org.flowable.cmmn.engine.impl.delete.DeleteHistoricCaseInstancesSequentialJobHandler;
 import org.flowable.cmmn.engine.impl.deployer.CaseDefinitionDiagramHelper;
+import org.flowable.cmmn.engine.impl.deployer.CaseDefinitionExpressionPrecompiler;
 import org.flowable.cmmn.engine.impl.deployer.CmmnDeployer;
 import org.flowable.cmmn.engine.impl.deployer.CmmnDeploymentManager;
 import org.flowable.cmmn.engine.impl.el.CmmnExpressionManager;
@@ -173,10 +175,12 @@ import org.flowable.cmmn.engine.impl.parser.handler.TaskParseHandler;
 import org.flowable.cmmn.engine.impl.parser.handler.TimerEventListenerParseHandler;
 import org.flowable.cmmn.engine.impl.parser.handler.UserEventListenerParseHandler;
 import org.flowable.cmmn.engine.impl.parser.handler.VariableEventListenerParseHandler;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManagerImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntityManager;
@@ -261,6 +265,8 @@ import org.flowable.common.engine.impl.cfg.mail.FlowableMailClientCreator;
 import org.flowable.common.engine.impl.cfg.mail.MailServerInfo;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeCache;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
@@ -323,6 +329,7 @@ import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJsonCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
@@ -442,6 +449,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected CmmnDeployer cmmnDeployer;
     protected CmmnDeploymentManager deploymentManager;
     protected CaseDefinitionDiagramHelper caseDefinitionDiagramHelper;
+    protected CaseDefinitionExpressionPrecompiler caseDefinitionExpressionPrecompiler;
     protected CaseValidator caseValidator;
 
     protected int caseDefinitionCacheLimit = -1;
@@ -469,9 +477,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    protected TreeCache expressionTreeCache;
+    protected int expressionCompilationThreshold = -1; // negative value to disable the compilation of expressions
+    protected boolean enableExpressionPrecompilation = true;
 
     // Scripting support
     protected ScriptingEngines scriptingEngines;
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
     protected ScriptBindingsFactory scriptBindingsFactory;
     protected List<ResolverFactory> resolverFactories;
     protected Collection<ResolverFactory> preDefaultResolverFactories;
@@ -661,6 +674,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryEnabled;
     protected boolean asyncHistoryExecutorActivate;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    protected AsyncHistoryJsonCodec asyncHistoryJsonCodec;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
@@ -1007,6 +1021,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             
             expressionManager = cmmnExpressionManager;
         }
+
+        if (expressionTreeCache != null && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setExpressionTreeCache(expressionTreeCache);
+        }
+        if (expressionCompilationThreshold >= 0 && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setExpressionCompilationThreshold(expressionCompilationThreshold);
+        }
         
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
         expressionManager.setAstFunctionCreators(astFunctionCreators);
@@ -1228,10 +1249,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         initCmmnParser();
         initCaseDefinitionDiagramHelper();
+        initCaseDefinitionExpressionPrecompiler();
 
         cmmnDeployer.setIdGenerator(idGenerator);
         cmmnDeployer.setCmmnParser(cmmnParser);
         cmmnDeployer.setCaseDefinitionDiagramHelper(caseDefinitionDiagramHelper);
+        cmmnDeployer.setCaseDefinitionExpressionPrecompiler(enableExpressionPrecompilation ? caseDefinitionExpressionPrecompiler : null);
         cmmnDeployer.setUsePrefixId(usePrefixId);
 
         defaultDeployers.add(cmmnDeployer);
@@ -1342,6 +1365,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    public void initCaseDefinitionExpressionPrecompiler() {
+        if (caseDefinitionExpressionPrecompiler == null) {
+            caseDefinitionExpressionPrecompiler = new CaseDefinitionExpressionPrecompiler();
+        }
+    }
+
     public void initCaseInstanceHelper() {
         if (caseInstanceHelper == null) {
             caseInstanceHelper = new CaseInstanceHelperImpl(this);
@@ -1462,6 +1491,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new CmmnEngineScriptTraceEnhancer());
+            scriptingEngines.setCacheCompiledScripts(cacheCompiledScripts);
+            scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
         }
     }
     
@@ -1510,6 +1541,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (isBulkInsertEnabled && "oracle".equals(databaseType)) {
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(HistoricTaskLogEntryEntityImpl.class);
         }
+
+        defaultInitSharedCacheableEntityClasses(Arrays.asList(CaseDefinitionEntityImpl.class, CmmnDeploymentEntityImpl.class));
     }
 
     public void initVariableTypes() {
@@ -1836,6 +1869,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
             this.jobServiceConfiguration.setExpressionManager(this.expressionManager);
+            this.jobServiceConfiguration.setMetricsRecorder(this.metricsRecorder);
     
             List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
             if (customAsyncRunnableExecutionExceptionHandlers != null) {
@@ -1870,6 +1904,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setJobTypeAsyncHistory(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            if (asyncHistoryJsonCodec != null) {
+                jobServiceConfiguration.setAsyncHistoryJsonCodec(asyncHistoryJsonCodec);
+            }
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
             
@@ -2609,6 +2646,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public CaseDefinitionExpressionPrecompiler getCaseDefinitionExpressionPrecompiler() {
+        return caseDefinitionExpressionPrecompiler;
+    }
+
+    public CmmnEngineConfiguration setCaseDefinitionExpressionPrecompiler(CaseDefinitionExpressionPrecompiler caseDefinitionExpressionPrecompiler) {
+        this.caseDefinitionExpressionPrecompiler = caseDefinitionExpressionPrecompiler;
+        return this;
+    }
+
     public CmmnActivityBehaviorFactory getActivityBehaviorFactory() {
         return activityBehaviorFactory;
     }
@@ -2821,6 +2867,45 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableExpressionPrecompilation() {
+        return enableExpressionPrecompilation;
+    }
+
+    /**
+     * Whether the expressions of a case definition are created once when it is put in the case definition cache,
+     * so the runtime doesn't need to look them up or parse them again.
+     */
+    public CmmnEngineConfiguration setEnableExpressionPrecompilation(boolean enableExpressionPrecompilation) {
+        this.enableExpressionPrecompilation = enableExpressionPrecompilation;
+        return this;
+    }
+
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    /**
+     * Sets the number of evaluations after which a parsed expression is compiled into evaluation nodes that are specialized for its operators.
+     * A negative value (the default) disables the compilation.
+     */
+    public CmmnEngineConfiguration setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
+    public TreeCache getExpressionTreeCache() {
+        return expressionTreeCache;
+    }
+
+    /**
+     * Sets the cache for the parsed expression trees, e.g. an {@link org.flowable.common.engine.impl.el.ExpressionTreeCache} that is shared with other engines
+     * that have the same function delegates and AST function creators. By default every expression manager has its own cache.
+     */
+    public CmmnEngineConfiguration setExpressionTreeCache(TreeCache expressionTreeCache) {
+        this.expressionTreeCache = expressionTreeCache;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -3834,6 +3919,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public AsyncHistoryJsonCodec getAsyncHistoryJsonCodec() {
+        return asyncHistoryJsonCodec;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryJsonCodec(AsyncHistoryJsonCodec asyncHistoryJsonCodec) {
+        this.asyncHistoryJsonCodec = asyncHistoryJsonCodec;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -4470,6 +4564,30 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    /**
+     * Whether scripts of script engines that support compilation are compiled once and reused for later evaluations.
+     */
+    public CmmnEngineConfiguration setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    /**
+     * The maximum number of compiled scripts that are kept, a value of 0 or less means no limit.
+     */
+    public CmmnEngineConfiguration setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     public List<ResolverFactory> getResolverFactories() {
         return resolverFactories;
     }
@@ -571,7 +571,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         if (isEventListenerWithAvailableCondition(planItem)) {
             EventListener eventListener = (EventListener) planItem.getPlanItemDefinition();
             if (StringUtils.isNotEmpty(eventListener.getAvailableConditionExpression())) {
-                Expression expression = CommandContextUtil.getExpressionManager(commandContext).createExpression(eventListener.getAvailableConditionExpression());
+                Expression expression = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), eventListener.getAvailableConditionExpression());
                 Object result = expression.getValue(planItemInstanceEntity);
 
                 if (LOGGER.isDebugEnabled()) {
@@ -703,7 +703,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected boolean evaluateSentryIfPart(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry, VariableContainer variableContainer) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
         try { 
-            Expression conditionExpression = cmmnEngineConfiguration.getExpressionManager().createExpression(sentry.getSentryIfPart().getCondition());
+            Expression conditionExpression = CaseDefinitionUtil.getExpression(getCaseInstanceEntity().getCaseDefinitionId(), sentry.getSentryIfPart().getCondition());
             Object result = conditionExpression.getValue(variableContainer);
 
             if (LOGGER.isDebugEnabled()) {
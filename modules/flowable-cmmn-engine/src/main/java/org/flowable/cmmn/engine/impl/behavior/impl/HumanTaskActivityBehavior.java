@@ -25,6 +25,7 @@ import org.flowable.cmmn.engine.impl.behavior.CmmnActivityWithMigrationContextBe
 import org.flowable.cmmn.engine.impl.behavior.PlanItemActivityBehavior;
 import org.flowable.cmmn.engine.impl.event.FlowableCmmnEventBuilder;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.task.TaskHelper;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
@@ -43,7 +44,6 @@ import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.assignment.CandidateUtil;
-import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.CmmnLoggingSessionConstants;
@@ -79,7 +79,6 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         if (evaluateIsBlocking(planItemInstanceEntity)) {
             CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
             TaskService taskService = cmmnEngineConfiguration.getTaskServiceConfiguration().getTaskService();
-            ExpressionManager expressionManager = CommandContextUtil.getExpressionManager(commandContext);
 
             TaskEntity taskEntity = taskService.createTask();
 
@@ -108,14 +107,14 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
                 cmmnEngineConfiguration.getCreateHumanTaskInterceptor().beforeCreateHumanTask(beforeContext);
             }
             
-            handleTaskName(planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleTaskDescription(planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleAssignee(planItemInstanceEntity, taskService, expressionManager, taskEntity, beforeContext, migrationContext);
-            handleOwner(planItemInstanceEntity, taskService, expressionManager, taskEntity, beforeContext);
-            handlePriority(planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleFormKey(planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleDueDate(commandContext, planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleCategory(planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
+            handleTaskName(planItemInstanceEntity, taskEntity, beforeContext);
+            handleTaskDescription(planItemInstanceEntity, taskEntity, beforeContext);
+            handleAssignee(planItemInstanceEntity, taskService, taskEntity, beforeContext, migrationContext);
+            handleOwner(planItemInstanceEntity, taskService, taskEntity, beforeContext);
+            handlePriority(planItemInstanceEntity, taskEntity, beforeContext);
+            handleFormKey(planItemInstanceEntity, taskEntity, beforeContext);
+            handleDueDate(commandContext, planItemInstanceEntity, taskEntity, beforeContext);
+            handleCategory(planItemInstanceEntity, taskEntity, beforeContext);
 
             TaskHelper.insertTask(taskEntity, true, cmmnEngineConfiguration);
             
@@ -138,9 +137,9 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
                 }
             }
 
-            handleCandidateUsers(commandContext, planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleCandidateGroups(commandContext, planItemInstanceEntity, expressionManager, taskEntity, beforeContext);
-            handleTaskIdVariableStorage(planItemInstanceEntity, humanTask, expressionManager, taskEntity);
+            handleCandidateUsers(commandContext, planItemInstanceEntity, taskEntity, beforeContext);
+            handleCandidateGroups(commandContext, planItemInstanceEntity, taskEntity, beforeContext);
+            handleTaskIdVariableStorage(planItemInstanceEntity, humanTask, taskEntity);
 
             planItemInstanceEntity.setReferenceId(taskEntity.getId());
             planItemInstanceEntity.setReferenceType(ReferenceTypes.PLAN_ITEM_CHILD_HUMAN_TASK);
@@ -172,11 +171,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
     }
 
-    protected void handleTaskName(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager, 
-                    TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+    protected void handleTaskName(PlanItemInstanceEntity planItemInstanceEntity, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         if (StringUtils.isNotEmpty(beforeContext.getName())) {
-            Object name = expressionManager.createExpression(beforeContext.getName()).getValue(planItemInstanceEntity);
+            Object name = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getName()).getValue(planItemInstanceEntity);
             if (name != null) {
                 if (name instanceof String) {
                     taskEntity.setName((String) name);
@@ -187,11 +185,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
     }
 
-    protected void handleTaskDescription(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager, 
-                    TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+    protected void handleTaskDescription(PlanItemInstanceEntity planItemInstanceEntity, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         if (StringUtils.isNotEmpty(beforeContext.getDescription())) {
-            Object description = expressionManager.createExpression(beforeContext.getDescription()).getValue(planItemInstanceEntity);
+            Object description = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getDescription()).getValue(planItemInstanceEntity);
             if (description != null) {
                 if (description instanceof String) {
                     taskEntity.setDescription((String) description);
@@ -203,7 +200,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     }
 
     protected void handleAssignee(PlanItemInstanceEntity planItemInstanceEntity, TaskService taskService,
-            ExpressionManager expressionManager, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext,
+            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext,
             MigrationContext migrationContext) {
         
         String assigneeStringValue = null;
@@ -215,7 +212,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
         
         if (StringUtils.isNotEmpty(assigneeStringValue)) {
-            Object assigneeExpressionValue = expressionManager.createExpression(assigneeStringValue).getValue(planItemInstanceEntity);
+            Object assigneeExpressionValue = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), assigneeStringValue).getValue(planItemInstanceEntity);
             String assigneeValue = null;
             if (assigneeExpressionValue != null) {
                 assigneeValue = assigneeExpressionValue.toString();
@@ -226,10 +223,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     }
 
     protected void handleOwner(PlanItemInstanceEntity planItemInstanceEntity, TaskService taskService,
-            ExpressionManager expressionManager, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         if (StringUtils.isNotEmpty(beforeContext.getOwner())) {
-            Object ownerExpressionValue = expressionManager.createExpression(beforeContext.getOwner()).getValue(planItemInstanceEntity);
+            Object ownerExpressionValue = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getOwner()).getValue(planItemInstanceEntity);
             String ownerValue = null;
             if (ownerExpressionValue != null) {
                 ownerValue = ownerExpressionValue.toString();
@@ -239,11 +236,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
     }
 
-    protected void handlePriority(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager, 
-                    TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+    protected void handlePriority(PlanItemInstanceEntity planItemInstanceEntity, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         if (StringUtils.isNotEmpty(beforeContext.getPriority())) {
-            Object priority = expressionManager.createExpression(beforeContext.getPriority()).getValue(planItemInstanceEntity);
+            Object priority = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getPriority()).getValue(planItemInstanceEntity);
             if (priority != null) {
                 if (priority instanceof String) {
                     try {
@@ -260,11 +256,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
     }
 
-    protected void handleFormKey(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager,
-            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+    protected void handleFormKey(PlanItemInstanceEntity planItemInstanceEntity, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
 
         if (StringUtils.isNotEmpty(beforeContext.getFormKey())) {
-            Object formKey = expressionManager.createExpression(beforeContext.getFormKey()).getValue(planItemInstanceEntity);
+            Object formKey = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getFormKey()).getValue(planItemInstanceEntity);
             if (formKey != null) {
                 if (formKey instanceof String) {
                     taskEntity.setFormKey((String) formKey);
@@ -276,10 +271,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     }
 
     protected void handleDueDate(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity,
-            ExpressionManager expressionManager, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         if (StringUtils.isNotEmpty(beforeContext.getDueDate())) {
-            Object dueDate = expressionManager.createExpression(beforeContext.getDueDate()).getValue(planItemInstanceEntity);
+            Object dueDate = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getDueDate()).getValue(planItemInstanceEntity);
             if (dueDate != null) {
                 if (dueDate instanceof Date) {
                     taskEntity.setDueDate((Date) dueDate);
@@ -300,11 +295,10 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
     }
 
-    protected void handleCategory(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager,
-            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+    protected void handleCategory(PlanItemInstanceEntity planItemInstanceEntity, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         if (StringUtils.isNotEmpty(beforeContext.getCategory())) {
-            final Object category = expressionManager.createExpression(beforeContext.getCategory()).getValue(planItemInstanceEntity);
+            final Object category = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), beforeContext.getCategory()).getValue(planItemInstanceEntity);
             if (category != null) {
                 if (category instanceof String) {
                     taskEntity.setCategory((String) category);
@@ -317,14 +311,14 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected void handleCandidateUsers(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity,
-            ExpressionManager expressionManager, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
         List<String> candidateUsers = beforeContext.getCandidateUsers();
         if (candidateUsers != null && !candidateUsers.isEmpty()) {
             List<IdentityLinkEntity> allIdentityLinkEntities = new ArrayList<>();
             for (String candidateUser : candidateUsers) {
-                Expression userIdExpr = expressionManager.createExpression(candidateUser);
+                Expression userIdExpr = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), candidateUser);
                 Object value = userIdExpr.getValue(planItemInstanceEntity);
                 Collection<String> candidates = CandidateUtil.extractCandidates(value);
                 List<IdentityLinkEntity> identityLinkEntities = cmmnEngineConfiguration.getIdentityLinkServiceConfiguration()
@@ -348,14 +342,14 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected void handleCandidateGroups(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity,
-            ExpressionManager expressionManager, TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
+            TaskEntity taskEntity, CreateHumanTaskBeforeContext beforeContext) {
         
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
         List<String> candidateGroups = beforeContext.getCandidateGroups();
         if (candidateGroups != null && !candidateGroups.isEmpty()) {
             List<IdentityLinkEntity> allIdentityLinkEntities = new ArrayList<>();
             for (String candidateGroup : candidateGroups) {
-                Expression groupIdExpr = expressionManager.createExpression(candidateGroup);
+                Expression groupIdExpr = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), candidateGroup);
                 Object value = groupIdExpr.getValue(planItemInstanceEntity);
                 Collection<String> candidates = CandidateUtil.extractCandidates(value);
                 List<IdentityLinkEntity> identityLinkEntities = cmmnEngineConfiguration.getIdentityLinkServiceConfiguration()
@@ -377,9 +371,9 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         }
     }
 
-    private void handleTaskIdVariableStorage(PlanItemInstanceEntity planItemInstanceEntity, HumanTask humanTask, ExpressionManager expressionManager, TaskEntity taskEntity) {
+    private void handleTaskIdVariableStorage(PlanItemInstanceEntity planItemInstanceEntity, HumanTask humanTask, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getTaskIdVariableName())) {
-            Expression expression = expressionManager.createExpression(humanTask.getTaskIdVariableName());
+            Expression expression = CaseDefinitionUtil.getExpression(planItemInstanceEntity.getCaseDefinitionId(), humanTask.getTaskIdVariableName());
             String idVariableName = (String) expression.getValue(planItemInstanceEntity);
             if (StringUtils.isNotEmpty(idVariableName)) {
                 planItemInstanceEntity.setVariable(idVariableName, taskEntity.getId());
@@ -422,8 +416,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         } else if (PlanItemTransition.COMPLETE.equals(transition)) {
             if (humanTask.getTaskCompleterVariableName() != null) {
 
-                ExpressionManager expressionManager = CommandContextUtil.getExpressionManager(commandContext);
-                Expression expression = expressionManager.createExpression(humanTask.getTaskCompleterVariableName());
+                Expression expression = CaseDefinitionUtil.getExpression(planItemInstance.getCaseDefinitionId(), humanTask.getTaskCompleterVariableName());
                 String completerVariableName = (String) expression.getValue(planItemInstance);
                 String completer = Authentication.getAuthenticatedUserId();
 
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.deployer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.EventListener;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemControl;
+import org.flowable.cmmn.model.PlanItemDefinition;
+import org.flowable.cmmn.model.PlanItemRule;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.Stage;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.PrecompiledExpressions;
+
+/**
+ * Collects the expressions of a case that are evaluated at runtime (sentry if parts, plan item control rules,
+ * available conditions of event listeners, stage auto complete conditions and the human task properties)
+ * and creates them once, so they can be kept in the case definition cache entry.
+ */
+public class CaseDefinitionExpressionPrecompiler {
+
+    public PrecompiledExpressions precompile(Case caze, ExpressionManager expressionManager) {
+        List<String> expressionTexts = new ArrayList<>();
+        if (caze.getPlanModel() != null) {
+            collectExpressions(caze.getPlanModel(), expressionTexts);
+        }
+        return PrecompiledExpressions.precompile(expressionManager, expressionTexts);
+    }
+
+    protected void collectExpressions(PlanFragment planFragment, List<String> expressionTexts) {
+        if (planFragment instanceof Stage) {
+            expressionTexts.add(((Stage) planFragment).getAutoCompleteCondition());
+        }
+
+        for (Sentry sentry : planFragment.getSentries()) {
+            if (sentry.getSentryIfPart() != null) {
+                expressionTexts.add(sentry.getSentryIfPart().getCondition());
+            }
+        }
+
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            collectExpressions(planItem.getItemControl(), expressionTexts);
+
+            PlanItemDefinition planItemDefinition = planItem.getPlanItemDefinition();
+            if (planItemDefinition != null) {
+                collectExpressions(planItemDefinition.getDefaultControl(), expressionTexts);
+            }
+
+            if (planItemDefinition instanceof PlanFragment) {
+                collectExpressions((PlanFragment) planItemDefinition, expressionTexts);
+
+            } else if (planItemDefinition instanceof EventListener) {
+                expressionTexts.add(((EventListener) planItemDefinition).getAvailableConditionExpression());
+
+            } else if (planItemDefinition instanceof HumanTask) {
+                collectExpressions((HumanTask) planItemDefinition, expressionTexts);
+            }
+        }
+    }
+
+    protected void collectExpressions(PlanItemControl planItemControl, List<String> expressionTexts) {
+        if (planItemControl != null) {
+            collectExpressions(planItemControl.getRequiredRule(), expressionTexts);
+            collectExpressions(planItemControl.getRepetitionRule(), expressionTexts);
+            collectExpressions(planItemControl.getManualActivationRule(), expressionTexts);
+            collectExpressions(planItemControl.getCompletionNeutralRule(), expressionTexts);
+        }
+    }
+
+    protected void collectExpressions(PlanItemRule planItemRule, List<String> expressionTexts) {
+        if (planItemRule != null) {
+            expressionTexts.add(planItemRule.getCondition());
+        }
+    }
+
+    protected void collectExpressions(HumanTask humanTask, List<String> expressionTexts) {
+        expressionTexts.add(humanTask.getName());
+        expressionTexts.add(humanTask.getDocumentation());
+        expressionTexts.add(humanTask.getAssignee());
+        expressionTexts.add(humanTask.getOwner());
+        expressionTexts.add(humanTask.getPriority());
+        expressionTexts.add(humanTask.getDueDate());
+        expressionTexts.add(humanTask.getCategory());
+        expressionTexts.add(humanTask.getFormKey());
+        expressionTexts.add(humanTask.getTaskIdVariableName());
+        if (humanTask.getCandidateUsers() != null) {
+            expressionTexts.addAll(humanTask.getCandidateUsers());
+        }
+        if (humanTask.getCandidateGroups() != null) {
+            expressionTexts.addAll(humanTask.getCandidateGroups());
+        }
+    }
+}
@@ -69,6 +69,7 @@ public class CmmnDeployer implements EngineDeployer {
     protected IdGenerator idGenerator;
     protected CmmnParser cmmnParser;
     protected CaseDefinitionDiagramHelper caseDefinitionDiagramHelper;
+    protected CaseDefinitionExpressionPrecompiler caseDefinitionExpressionPrecompiler;
     protected boolean usePrefixId;
     
     public CmmnDeployer(CmmnEngineConfiguration cmmnEngineConfiguration) {
@@ -295,6 +296,9 @@ public class CmmnDeployer implements EngineDeployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            if (caseDefinitionExpressionPrecompiler != null && caze != null) {
+                cacheEntry.setPrecompiledExpressions(caseDefinitionExpressionPrecompiler.precompile(caze, cmmnEngineConfiguration.getExpressionManager()));
+            }
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
@@ -360,6 +364,14 @@ public class CmmnDeployer implements EngineDeployer {
         this.caseDefinitionDiagramHelper = caseDefinitionDiagramHelper;
     }
 
+    public CaseDefinitionExpressionPrecompiler getCaseDefinitionExpressionPrecompiler() {
+        return caseDefinitionExpressionPrecompiler;
+    }
+
+    public void setCaseDefinitionExpressionPrecompiler(CaseDefinitionExpressionPrecompiler caseDefinitionExpressionPrecompiler) {
+        this.caseDefinitionExpressionPrecompiler = caseDefinitionExpressionPrecompiler;
+    }
+
     public boolean isUsePrefixId() {
         return usePrefixId;
     }
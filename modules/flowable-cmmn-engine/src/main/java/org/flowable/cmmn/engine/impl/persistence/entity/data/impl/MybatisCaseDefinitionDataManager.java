@@ -132,6 +132,7 @@ public class MybatisCaseDefinitionDataManager extends AbstractCmmnDataManager<Ca
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().directUpdate("updateCaseDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().invalidateSharedEntityCache(CaseDefinitionEntityImpl.class);
     }
 
     @Override
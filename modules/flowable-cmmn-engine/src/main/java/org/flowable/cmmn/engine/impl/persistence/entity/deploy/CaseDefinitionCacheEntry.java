@@ -15,12 +15,15 @@ package org.flowable.cmmn.engine.impl.persistence.entity.deploy;
 import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.PrecompiledExpressions;
 
 public class CaseDefinitionCacheEntry {
     
     protected CaseDefinition caseDefinition;
     protected CmmnModel cmmnModel;
     protected Case caze;
+    protected PrecompiledExpressions precompiledExpressions;
 
     public CaseDefinitionCacheEntry(CaseDefinition caseDefinition, CmmnModel cmmnModel, Case caze) {
         this.caseDefinition = caseDefinition;
@@ -52,4 +55,19 @@ public class CaseDefinitionCacheEntry {
         this.caze = caze;
     }
 
+    public PrecompiledExpressions getPrecompiledExpressions() {
+        return precompiledExpressions;
+    }
+
+    public void setPrecompiledExpressions(PrecompiledExpressions precompiledExpressions) {
+        this.precompiledExpressions = precompiledExpressions;
+    }
+
+    /**
+     * @return the expression for the given text that was created when the case definition was cached, or null if there is none
+     */
+    public Expression getPrecompiledExpression(String expressionText) {
+        return precompiledExpressions != null ? precompiledExpressions.get(expressionText) : null;
+    }
+
 }
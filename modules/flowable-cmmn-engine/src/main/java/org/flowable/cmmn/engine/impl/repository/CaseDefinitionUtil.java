@@ -21,6 +21,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCac
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.common.engine.api.delegate.Expression;
 
 /**
  * @author Joram Barrez
@@ -74,4 +75,22 @@ public class CaseDefinitionUtil {
         return getCmmnModel(caseDefinitionId).getPrimaryCase();
     }
 
+    /**
+     * Returns the expression for the given text, using the expression that was precompiled for the case definition when it is cached
+     * and creating a new one through the expression manager otherwise.
+     */
+    public static Expression getExpression(String caseDefinitionId, String expressionText) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        if (caseDefinitionId != null) {
+            CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getDeploymentManager().getCaseDefinitionCache().get(caseDefinitionId);
+            if (cacheEntry != null) {
+                Expression expression = cacheEntry.getPrecompiledExpression(expressionText);
+                if (expression != null) {
+                    return expression;
+                }
+            }
+        }
+        return cmmnEngineConfiguration.getExpressionManager().createExpression(expressionText);
+    }
+
 }
@@ -17,10 +17,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceContainer;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.model.Criterion;
 import org.flowable.cmmn.model.PlanItem;
 import org.flowable.cmmn.model.PlanItemControl;
@@ -50,7 +52,14 @@ public class ExpressionUtil {
     }
 
     public static Object evaluateExpression(CommandContext commandContext, VariableContainer variableContainer, String expression) {
-        Expression exp = CommandContextUtil.getExpressionManager(commandContext).createExpression(expression);
+        Expression exp;
+        if (variableContainer instanceof PlanItemInstance) {
+            exp = CaseDefinitionUtil.getExpression(((PlanItemInstance) variableContainer).getCaseDefinitionId(), expression);
+        } else if (variableContainer instanceof CaseInstance) {
+            exp = CaseDefinitionUtil.getExpression(((CaseInstance) variableContainer).getCaseDefinitionId(), expression);
+        } else {
+            exp = CommandContextUtil.getExpressionManager(commandContext).createExpression(expression);
+        }
         return exp.getValue(variableContainer);
     }
 
@@ -149,6 +149,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     // EXPRESSION MANAGER /////////////////////////////////////////////
     protected ExpressionManager expressionManager;
+    protected int expressionCompilationThreshold = -1; // negative value to disable the compilation of expressions
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
     protected Collection<ELResolver> preDefaultELResolvers;
@@ -454,6 +455,10 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
             expressionManager = dmnExpressionManager;
         }
 
+        if (expressionCompilationThreshold >= 0 && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setExpressionCompilationThreshold(expressionCompilationThreshold);
+        }
+
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
     }
 
@@ -819,6 +824,19 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    /**
+     * Sets the number of evaluations after which a parsed expression is compiled into evaluation nodes that are specialized for its operators.
+     * A negative value (the default) disables the compilation.
+     */
+    public DmnEngineConfiguration setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
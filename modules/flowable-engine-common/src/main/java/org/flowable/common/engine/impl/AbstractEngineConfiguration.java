@@ -102,10 +102,16 @@ import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.logging.LoggingListener;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
+import org.flowable.common.engine.impl.metrics.MetricsAgendaOperationRunner;
+import org.flowable.common.engine.impl.metrics.MetricsCommandInterceptor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+import org.flowable.common.engine.impl.metrics.MetricsSqlExecutionPlugin;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
+import org.flowable.common.engine.impl.persistence.cache.DefaultSharedEntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -236,6 +242,40 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
+    /**
+     * If set to true, updates of entities that share the same update statement are flushed as one JDBC batch instead of one round-trip per entity.
+     * The optimistic locking checks are done based on the row counts of the batch result. When the JDBC driver doesn't report these row counts
+     * ({@link java.sql.Statement#SUCCESS_NO_INFO}), the flush fails with an optimistic locking exception and batch updates are turned off. Default false.
+     */
+    protected boolean isBatchUpdateEnabled = false;
+
+    /**
+     * If set to true, cached entities implementing {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity} that haven't been
+     * modified are skipped when determining the updates at flush time, instead of comparing their persistent state. Default false.
+     */
+    protected boolean isDirtyTrackingEnabled = false;
+
+    /**
+     * If set to true, entities that are (almost) never changed after being inserted, such as definitions and deployments, are kept in a {@link SharedEntityCache}
+     * shared by all commands, so fetching them by id doesn't need a database round-trip. Like the deployment cache, the shared entity cache is local to this engine:
+     * changes done by other nodes (e.g. suspending a process definition) are only seen after eviction or expiry.
+     * Only enable it for a single node, or set a {@link #sharedEntityCacheTimeToLive} that bounds how long such changes can go unnoticed. Default false.
+     */
+    protected boolean isSharedEntityCacheEnabled = false;
+    protected int sharedEntityCacheLimit = 1000;
+
+    /**
+     * The time after which an entity in the default {@link SharedEntityCache} expires. When not set, entities only leave the cache
+     * when they are evicted or invalidated by this engine.
+     */
+    protected Duration sharedEntityCacheTimeToLive;
+    protected SharedEntityCache sharedEntityCache;
+
+    /**
+     * The entity classes that are put in the {@link SharedEntityCache}. When not set, the engine specific defaults are used.
+     */
+    protected Set<Class<? extends Entity>> sharedCacheableEntityClasses;
+
     protected String mybatisMappingFile;
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -329,6 +369,12 @@ public abstract class AbstractEngineConfiguration {
      */
     protected boolean enableLogSqlExecutionTime;
 
+    /**
+     * When set, the command executions, sql statements, db flushes, entity cache lookups, agenda operations and jobs
+     * of the engine are instrumented and recorded with this recorder.
+     */
+    protected MetricsRecorder metricsRecorder;
+
     protected Properties databaseTypeMappings = getDefaultDatabaseTypeMappings();
 
     /**
@@ -568,6 +614,7 @@ public abstract class AbstractEngineConfiguration {
     public void initCommandExecutors() {
         initDefaultCommandConfig();
         initSchemaCommandConfig();
+        initMetricsAgendaOperationRunner();
         initCommandInvoker();
         initCommandInterceptors();
         initCommandExecutor();
@@ -592,6 +639,16 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Wraps the {@link AgendaOperationRunner} so the agenda operations are recorded when a {@link MetricsRecorder} is configured.
+     * Needs to be called before the command invoker is created.
+     */
+    public void initMetricsAgendaOperationRunner() {
+        if (metricsRecorder != null && !(agendaOperationRunner instanceof MetricsAgendaOperationRunner)) {
+            agendaOperationRunner = new MetricsAgendaOperationRunner(agendaOperationRunner, metricsRecorder);
+        }
+    }
+
     public void initCommandInterceptors() {
         if (commandInterceptors == null) {
             commandInterceptors = new ArrayList<>();
@@ -611,6 +668,10 @@ public abstract class AbstractEngineConfiguration {
             List<CommandInterceptor> interceptors = new ArrayList<>();
             interceptors.add(new LogInterceptor());
 
+            if (metricsRecorder != null) {
+                interceptors.add(new MetricsCommandInterceptor(metricsRecorder));
+            }
+
             if (DATABASE_TYPE_COCKROACHDB.equals(databaseType)) {
                 interceptors.add(new CrDbRetryInterceptor());
             }
@@ -786,8 +847,12 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdateEnabled(isBatchUpdateEnabled);
+        dbSqlSessionFactory.setDirtyTrackingEnabled(isDirtyTrackingEnabled);
+        dbSqlSessionFactory.setMetricsRecorder(metricsRecorder);
 
         initDbSqlSessionFactoryEntitySettings();
+        initSharedEntityCache();
 
         addSessionFactory(dbSqlSessionFactory);
     }
@@ -816,6 +881,24 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    protected void defaultInitSharedCacheableEntityClasses(List<Class<? extends Entity>> defaultSharedCacheableEntityClasses) {
+        if (sharedCacheableEntityClasses != null) {
+            dbSqlSessionFactory.getSharedCacheableEntityClasses().addAll(sharedCacheableEntityClasses);
+        } else if (defaultSharedCacheableEntityClasses != null) {
+            dbSqlSessionFactory.getSharedCacheableEntityClasses().addAll(defaultSharedCacheableEntityClasses);
+        }
+    }
+
+    public void initSharedEntityCache() {
+        if (isSharedEntityCacheEnabled) {
+            if (sharedEntityCache == null) {
+                sharedEntityCache = new DefaultSharedEntityCache(sharedEntityCacheLimit,
+                        sharedEntityCacheTimeToLive != null ? sharedEntityCacheTimeToLive.toMillis() : 0);
+            }
+            dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
+        }
+    }
+
     public void initTransactionFactory() {
         if (transactionFactory == null) {
             if (transactionsExternallyManaged) {
@@ -893,6 +976,9 @@ public abstract class AbstractEngineConfiguration {
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
+        if (metricsRecorder != null) {
+            initMyBatisMetricsPlugin(configuration);
+        }
 
         configuration = parseMybatisConfiguration(parser);
         return configuration;
@@ -966,6 +1052,10 @@ public abstract class AbstractEngineConfiguration {
         configuration.addInterceptor(new LogSqlExecutionTimePlugin());
     }
 
+    public void initMyBatisMetricsPlugin(Configuration configuration) {
+        configuration.addInterceptor(new MetricsSqlExecutionPlugin(metricsRecorder));
+    }
+
     public Configuration parseMybatisConfiguration(XMLConfigBuilder parser) {
         Configuration configuration = parser.parse();
 
@@ -1569,6 +1659,69 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdateEnabled() {
+        return isBatchUpdateEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdateEnabled(boolean isBatchUpdateEnabled) {
+        this.isBatchUpdateEnabled = isBatchUpdateEnabled;
+        return this;
+    }
+
+    public boolean isDirtyTrackingEnabled() {
+        return isDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setDirtyTrackingEnabled(boolean isDirtyTrackingEnabled) {
+        this.isDirtyTrackingEnabled = isDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isSharedEntityCacheEnabled() {
+        return isSharedEntityCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheEnabled(boolean isSharedEntityCacheEnabled) {
+        this.isSharedEntityCacheEnabled = isSharedEntityCacheEnabled;
+        return this;
+    }
+
+    public int getSharedEntityCacheLimit() {
+        return sharedEntityCacheLimit;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheLimit(int sharedEntityCacheLimit) {
+        this.sharedEntityCacheLimit = sharedEntityCacheLimit;
+        return this;
+    }
+
+    public Duration getSharedEntityCacheTimeToLive() {
+        return sharedEntityCacheTimeToLive;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheTimeToLive(Duration sharedEntityCacheTimeToLive) {
+        this.sharedEntityCacheTimeToLive = sharedEntityCacheTimeToLive;
+        return this;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+        return this;
+    }
+
+    public Set<Class<? extends Entity>> getSharedCacheableEntityClasses() {
+        return sharedCacheableEntityClasses;
+    }
+
+    public AbstractEngineConfiguration setSharedCacheableEntityClasses(Set<Class<? extends Entity>> sharedCacheableEntityClasses) {
+        this.sharedCacheableEntityClasses = sharedCacheableEntityClasses;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -1752,6 +1905,15 @@ public abstract class AbstractEngineConfiguration {
         this.enableLogSqlExecutionTime = enableLogSqlExecutionTime;
     }
 
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public AbstractEngineConfiguration setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
     public Map<Class<?>, SessionFactory> getSessionFactories() {
         return sessionFactories;
     }
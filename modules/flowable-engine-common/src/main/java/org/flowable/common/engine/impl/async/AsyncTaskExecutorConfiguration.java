@@ -60,6 +60,26 @@ public class AsyncTaskExecutorConfiguration {
      */
     protected String threadPoolNamingPattern;
 
+    /**
+     * Whether each task runs on its own virtual thread, instead of on a thread of the thread pool.
+     * Requires Java 21 or later. The pool size, keep alive and queue size settings are not used in this mode.
+     */
+    protected boolean useVirtualThreads;
+
+    /**
+     * The maximum number of tasks that are executing or waiting to execute on virtual threads.
+     * This is the capacity reported to the job acquisition. Only used when {@link #useVirtualThreads} is enabled.
+     */
+    protected int maxConcurrentTasks = 1024;
+
+    /**
+     * The maximum number of tasks that run at the same time on virtual threads. Other tasks wait on their virtual thread until a permit is free.
+     * As a job holds a database connection while it runs, this should not be larger than the database connection pool,
+     * so tasks wait here instead of failing on a connection pool timeout. Only used when {@link #useVirtualThreads} is enabled.
+     * A value of 0 or less does not limit the running tasks.
+     */
+    protected int databaseConnectionPermits = -1;
+
     public int getCorePoolSize() {
         return corePoolSize;
     }
@@ -116,6 +136,30 @@ public class AsyncTaskExecutorConfiguration {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
 
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    public int getDatabaseConnectionPermits() {
+        return databaseConnectionPermits;
+    }
+
+    public void setDatabaseConnectionPermits(int databaseConnectionPermits) {
+        this.databaseConnectionPermits = databaseConnectionPermits;
+    }
+
     public void setThreadNamePrefix(String prefix) {
         if (prefix == null) {
             this.threadPoolNamingPattern = "%d";
@@ -20,13 +20,17 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +66,16 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     protected RejectedExecutionHandler rejectedExecutionHandler;
 
+    /**
+     * The permits for the tasks executing or waiting on virtual threads, null when not using virtual threads.
+     */
+    protected Semaphore taskPermits;
+
+    /**
+     * The permits for the tasks running at the same time on virtual threads, null when not limited.
+     */
+    protected Semaphore databaseConnectionPermits;
+
     public DefaultAsyncTaskExecutor() {
         this(new AsyncTaskExecutorConfiguration());
         this.configuration.setThreadPoolNamingPattern("flowable-async-job-executor-thread-%d");
@@ -76,12 +90,46 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     @Override
     public void execute(Runnable task) {
-        executorService.execute(task);
+        if (taskPermits == null) {
+            executorService.execute(task);
+            return;
+        }
+
+        if (!taskPermits.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum of " + getConfiguration().getMaxConcurrentTasks() + " concurrent tasks reached");
+        }
+
+        try {
+            executorService.execute(() -> runWithPermits(task));
+        } catch (RejectedExecutionException e) {
+            taskPermits.release();
+            throw e;
+        }
+    }
+
+    protected void runWithPermits(Runnable task) {
+        try {
+            if (databaseConnectionPermits != null) {
+                // Parking a virtual thread is cheap, this avoids tasks timing out on the database connection pool
+                databaseConnectionPermits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    databaseConnectionPermits.release();
+                }
+
+            } else {
+                task.run();
+            }
+
+        } finally {
+            taskPermits.release();
+        }
     }
 
     @Override
     public CompletableFuture<?> submit(Runnable task) {
-        return CompletableFuture.runAsync(task, executorService);
+        return CompletableFuture.runAsync(task, this::execute);
     }
 
     @Override
@@ -93,7 +141,7 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
                 sneakyThrow(exception);
                 return null;
             }
-        }, executorService);
+        }, this::execute);
     }
 
     public void start() {
@@ -127,6 +175,10 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
     }
 
     protected ExecutorService initializeExecutor() {
+        if (getConfiguration().isUseVirtualThreads()) {
+            return initializeVirtualThreadExecutor();
+        }
+
         if (threadPoolQueue == null) {
             int queueSize = getQueueSize();
             logger.info("Creating thread pool queue of size {}", queueSize);
@@ -158,6 +210,39 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     }
 
+    protected ExecutorService initializeVirtualThreadExecutor() {
+        int maxConcurrentTasks = getConfiguration().getMaxConcurrentTasks();
+        taskPermits = new Semaphore(maxConcurrentTasks);
+
+        int maxRunningTasks = getConfiguration().getDatabaseConnectionPermits();
+        if (maxRunningTasks > 0) {
+            databaseConnectionPermits = new Semaphore(maxRunningTasks, true);
+        }
+
+        if (threadFactory == null) {
+            String threadNamePrefix = getThreadPoolNamingPattern().replace("%d", "");
+            logger.info("Creating virtual thread factory with name prefix {}", threadNamePrefix);
+            threadFactory = createVirtualThreadFactory(threadNamePrefix);
+        }
+
+        logger.info("Creating virtual thread executor service with {} max concurrent tasks and {} database connection permits", maxConcurrentTasks, maxRunningTasks);
+        // Every task gets a new thread, as threads are not kept alive. The task permits bound the number of threads.
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+
+    protected ThreadFactory createVirtualThreadFactory(String threadNamePrefix) {
+        // Accessed reflectively, as virtual threads are only available as of Java 21
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Virtual threads are not available, they require Java 21 or later", e);
+        }
+    }
+
     public AsyncTaskExecutorConfiguration getConfiguration() {
         return configuration;
     }
@@ -244,6 +329,9 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     @Override
     public int getRemainingCapacity() {
+        if (taskPermits != null) {
+            return taskPermits.availablePermits();
+        }
         return threadPoolQueue.remainingCapacity();
     }
 }
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,15 +25,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
@@ -50,6 +59,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -58,6 +68,7 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
+    protected Set<Class<?>> sharedCacheInvalidatedClasses;
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
@@ -302,10 +313,30 @@ public class DbSqlSession implements Session {
         if (useCache) {
             entity = entityCache.findInCache(entityClass, id);
             if (entity != null) {
+                recordEntityCacheLookup(entityClass, MetricsRecorder.RESULT_HIT);
                 return entity;
             }
         }
 
+        // Entities changed in this session are not taken from or put in the shared cache, as those changes are not committed yet
+        boolean useSharedCache = dbSqlSessionFactory.isSharedCacheable(entityClass)
+                && (sharedCacheInvalidatedClasses == null || !sharedCacheInvalidatedClasses.contains(entityClass));
+        long sharedCacheVersion = 0L;
+        if (useSharedCache) {
+            SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+            entity = sharedEntityCache.get(entityClass, id);
+            if (entity != null) {
+                entityCache.put(entity, true);
+                recordEntityCacheLookup(entityClass, MetricsRecorder.RESULT_SHARED_HIT);
+                return entity;
+            }
+            sharedCacheVersion = sharedEntityCache.getVersion(); // Needs to be fetched before the select, see SharedEntityCache#put
+        }
+
+        if (useCache) {
+            recordEntityCacheLookup(entityClass, MetricsRecorder.RESULT_MISS);
+        }
+
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
         entity = (T) sqlSession.selectOne(selectStatement, id);
@@ -313,10 +344,101 @@ public class DbSqlSession implements Session {
             return null;
         }
 
+        if (useSharedCache) {
+            dbSqlSessionFactory.getSharedEntityCache().put(entity, sharedCacheVersion);
+        }
+
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
         return entity;
     }
 
+    protected void recordEntityCacheLookup(Class<?> entityClass, String result) {
+        MetricsRecorder metricsRecorder = dbSqlSessionFactory.getMetricsRecorder();
+        if (metricsRecorder != null) {
+            metricsRecorder.increment(MetricsRecorder.ENTITY_CACHE, MetricsRecorder.TAG_ENTITY, entityClass.getSimpleName(), MetricsRecorder.TAG_RESULT, result);
+        }
+    }
+
+    // shared entity cache
+    // ///////////////////////////////////////////////////
+
+    /**
+     * Removes all entities of the given class from the {@link SharedEntityCache}, now and again when the transaction is committed.
+     * Needs to be called when entities of a shared cacheable class are changed by a {@link #directUpdate(String, Object)}.
+     */
+    public void invalidateSharedEntityCache(Class<?> entityClass) {
+        if (dbSqlSessionFactory.isSharedCacheable(entityClass)) {
+            Set<Class<?>> entityClasses = new HashSet<>(1);
+            entityClasses.add(entityClass);
+            invalidateSharedEntityCache(entityClasses, new HashMap<>());
+        }
+    }
+
+    protected void invalidateSharedEntityCache() {
+        Set<Class<?>> invalidatedClasses = new HashSet<>();
+        Map<Class<?>, Set<String>> invalidatedIds = new HashMap<>();
+
+        for (Class<? extends Entity> entityClass : bulkDeleteOperations.keySet()) {
+            if (dbSqlSessionFactory.isSharedCacheable(entityClass)) {
+                invalidatedClasses.add(entityClass);
+            }
+        }
+
+        // Inserts are included too: it prevents a concurrent command from caching a row it read while this transaction is not yet committed
+        collectSharedCacheableIds(insertedObjects.values(), invalidatedIds);
+        collectSharedCacheableIds(deletedObjects.values(), invalidatedIds);
+        for (Entity updatedObject : updatedObjects) {
+            if (dbSqlSessionFactory.isSharedCacheable(updatedObject.getClass())) {
+                invalidatedIds.computeIfAbsent(updatedObject.getClass(), key -> new HashSet<>()).add(updatedObject.getId());
+            }
+        }
+
+        if (!invalidatedClasses.isEmpty() || !invalidatedIds.isEmpty()) {
+            invalidateSharedEntityCache(invalidatedClasses, invalidatedIds);
+        }
+    }
+
+    protected void collectSharedCacheableIds(Collection<Map<String, Entity>> entityMaps, Map<Class<?>, Set<String>> invalidatedIds) {
+        for (Map<String, Entity> entityMap : entityMaps) {
+            for (Entity entity : entityMap.values()) {
+                if (dbSqlSessionFactory.isSharedCacheable(entity.getClass())) {
+                    invalidatedIds.computeIfAbsent(entity.getClass(), key -> new HashSet<>()).add(entity.getId());
+                }
+            }
+        }
+    }
+
+    protected void invalidateSharedEntityCache(Set<Class<?>> invalidatedClasses, Map<Class<?>, Set<String>> invalidatedIds) {
+        if (sharedCacheInvalidatedClasses == null) {
+            sharedCacheInvalidatedClasses = new HashSet<>();
+        }
+        sharedCacheInvalidatedClasses.addAll(invalidatedClasses);
+        sharedCacheInvalidatedClasses.addAll(invalidatedIds.keySet());
+
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        doInvalidateSharedEntityCache(sharedEntityCache, invalidatedClasses, invalidatedIds);
+
+        // A concurrent command could have put the old state in the cache before the transaction got committed
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> doInvalidateSharedEntityCache(sharedEntityCache, invalidatedClasses, invalidatedIds));
+        }
+    }
+
+    protected void doInvalidateSharedEntityCache(SharedEntityCache sharedEntityCache, Set<Class<?>> invalidatedClasses, Map<Class<?>, Set<String>> invalidatedIds) {
+        for (Class<?> entityClass : invalidatedClasses) {
+            sharedEntityCache.invalidate(entityClass);
+        }
+        for (Map.Entry<Class<?>, Set<String>> entry : invalidatedIds.entrySet()) {
+            if (!invalidatedClasses.contains(entry.getKey())) {
+                for (String id : entry.getValue()) {
+                    sharedEntityCache.invalidate(entry.getKey(), id);
+                }
+            }
+        }
+    }
+
     // internal session cache
     // ///////////////////////////////////////////////////
 
@@ -358,9 +480,28 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        MetricsRecorder metricsRecorder = dbSqlSessionFactory.getMetricsRecorder();
+        if (metricsRecorder == null) {
+            doFlush();
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            doFlush();
+        } finally {
+            metricsRecorder.recordTime(MetricsRecorder.DB_FLUSH, System.nanoTime() - startTime);
+        }
+    }
+
+    protected void doFlush() {
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
+        if (dbSqlSessionFactory.getSharedEntityCache() != null) {
+            invalidateSharedEntityCache();
+        }
+
         if (LOGGER.isDebugEnabled()) {
             debugFlush();
         }
@@ -418,6 +559,7 @@ public class DbSqlSession implements Session {
 
                 if (!isEntityInserted(cachedEntity) &&
                         (cachedEntity instanceof AlwaysUpdatedPersistentObject || !isEntityToBeDeleted(cachedEntity)) &&
+                        !(dbSqlSessionFactory.isDirtyTrackingEnabled() && cachedObject.isUnmodified()) &&
                         cachedObject.hasChanged()) {
 
                     updatedObjects.add(cachedEntity);
@@ -567,6 +709,43 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        if (dbSqlSessionFactory.isBatchUpdateEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+
+        LOGGER.debug("updating: {}", updatedObject);
+
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
+
+    /**
+     * Groups the updated entities by their update statement and executes each group as one JDBC batch.
+     * The row counts returned by the batch are verified per entity, so optimistic locking behaves the same as with regular updates.
+     */
+    protected void flushBatchUpdates() {
+        Map<String, List<Entity>> updatedObjectsByStatement = new LinkedHashMap<>();
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
@@ -575,20 +754,76 @@ public class DbSqlSession implements Session {
                 throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
             }
 
-            LOGGER.debug("updating: {}", updatedObject);
+            updatedObjectsByStatement.computeIfAbsent(updateStatement, key -> new ArrayList<>()).add(updatedObject);
+        }
 
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        for (Map.Entry<String, List<Entity>> entry : updatedObjectsByStatement.entrySet()) {
+            List<Entity> entities = entry.getValue();
+            if (entities.size() == 1) {
+                flushRegularUpdate(entities.get(0));
+            } else {
+                flushBatchUpdate(entry.getKey(), entities);
             }
+        }
+    }
 
-            // See https://activiti.atlassian.net/browse/ACT-1290
-            if (updatedObject instanceof HasRevision) {
-                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+    protected void flushBatchUpdate(String updateStatement, List<Entity> entities) {
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (List<Entity> entitiesWithSameSql : groupBySql(batchSqlSession, updateStatement, entities)) {
+            for (Entity entity : entitiesWithSameSql) {
+                LOGGER.debug("updating (batched): {}", entity);
+                batchSqlSession.update(updateStatement, entity);
             }
+        }
 
+        List<BatchResult> batchResults = batchSqlSession.flushStatements();
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    // The batch has already been executed, so it can't be executed again with regular updates to verify the row counts.
+                    // The transaction is rolled back instead and batch updates are turned off, as the driver will never report the row counts.
+                    LOGGER.warn("The JDBC driver does not report the row counts of batched updates, batch updates are disabled to keep optimistic locking working");
+                    dbSqlSessionFactory.setBatchUpdateEnabled(false);
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " could not be verified to be updated, the JDBC driver did not report the row count");
+
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " was updated by another transaction concurrently");
+                }
+            }
         }
-        updatedObjects.clear();
+
+        for (Entity entity : entities) {
+            if (entity instanceof HasRevision) {
+                ((HasRevision) entity).setRevision(((HasRevision) entity).getRevisionNext());
+            }
+        }
+    }
+
+    /**
+     * Most update statements only set the columns that were changed, so the same update statement can result in different sql for different entities.
+     * As only consecutive executions of the same sql end up in the same JDBC batch, the entities are grouped by the sql generated for them.
+     */
+    protected Collection<List<Entity>> groupBySql(SqlSession batchSqlSession, String updateStatement, List<Entity> entities) {
+        MappedStatement mappedStatement = batchSqlSession.getConfiguration().getMappedStatement(updateStatement);
+        Map<String, List<Entity>> entitiesBySql = new LinkedHashMap<>();
+        for (Entity entity : entities) {
+            String sql = mappedStatement.getBoundSql(entity).getSql();
+            entitiesBySql.computeIfAbsent(sql, key -> new ArrayList<>()).add(entity);
+        }
+        return entitiesBySql.values();
+    }
+
+    /**
+     * Returns a {@link SqlSession} with a batch executor that shares the connection of the regular {@link SqlSession}.
+     * It is deliberately never closed: closing it would close the shared connection, which is managed by the regular session.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            batchSqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(ExecutorType.BATCH, sqlSession.getConnection());
+        }
+        return batchSqlSession;
     }
 
     protected void flushDeletes() {
@@ -659,11 +894,12 @@ public class DbSqlSession implements Session {
     }
 
     public void commit() {
-        sqlSession.commit();
+        // When updates went through the batch session, the regular session isn't marked as dirty and needs to be forced
+        sqlSession.commit(batchSqlSession != null);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchSqlSession != null);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
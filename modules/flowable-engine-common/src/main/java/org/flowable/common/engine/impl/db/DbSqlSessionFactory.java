@@ -28,7 +28,9 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -62,6 +64,15 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected volatile boolean batchUpdateEnabled; // Turned off by a session when the driver doesn't report the row counts of a batch
+
+    protected boolean dirtyTrackingEnabled;
+
+    protected SharedEntityCache sharedEntityCache;
+    protected Set<Class<? extends Entity>> sharedCacheableEntityClasses = new HashSet<>();
+
+    protected MetricsRecorder metricsRecorder;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -202,6 +213,50 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchUpdateEnabled() {
+        return batchUpdateEnabled;
+    }
+
+    public void setBatchUpdateEnabled(boolean batchUpdateEnabled) {
+        this.batchUpdateEnabled = batchUpdateEnabled;
+    }
+
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
+    public void setDirtyTrackingEnabled(boolean dirtyTrackingEnabled) {
+        this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+    }
+
+    public boolean isSharedCacheable(Class<?> entityClass) {
+        return sharedEntityCache != null && sharedCacheableEntityClasses.contains(entityClass);
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    public Set<Class<? extends Entity>> getSharedCacheableEntityClasses() {
+        return sharedCacheableEntityClasses;
+    }
+
+    public void setSharedCacheableEntityClasses(Set<Class<? extends Entity>> sharedCacheableEntityClasses) {
+        this.sharedCacheableEntityClasses = sharedCacheableEntityClasses;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
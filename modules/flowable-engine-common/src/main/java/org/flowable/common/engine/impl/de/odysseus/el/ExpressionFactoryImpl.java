@@ -25,6 +25,7 @@ import java.util.Properties;
 
 import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeCache;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeStore;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Cache;
@@ -350,11 +351,19 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 				throw new ELException("Cannot parse EL property " + PROP_CACHE_SIZE, e);
 			}
 		}
-		Cache cache = cacheSize > 0 ? new Cache(cacheSize) : null;
+		TreeCache cache = cacheSize > 0 ? createTreeCache(cacheSize) : null;
 
 		return new TreeStore(builder, cache);
 	}
 
+	/**
+	 * Create the factory's tree cache with the given capacity. This implementation creates a
+	 * {@link Cache}.
+	 */
+	protected TreeCache createTreeCache(int cacheSize) {
+		return new Cache(cacheSize);
+	}
+
 	/**
 	 * Create the factory's type converter. This implementation takes the
 	 * <code>de.odysseus.el.misc.TypeConverter</code> property as the name of a class implementing
@@ -43,6 +43,10 @@ public class TreeStore {
 	public TreeBuilder getBuilder() {
 		return builder;
 	}
+
+	public TreeCache getCache() {
+		return cache;
+	}
 	
 	/**
 	 * Get a {@link Tree}.
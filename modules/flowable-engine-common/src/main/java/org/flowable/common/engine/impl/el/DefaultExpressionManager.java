@@ -21,8 +21,10 @@ import java.util.function.BiFunction;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeCache;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
+import org.flowable.common.engine.impl.javax.el.BeanMetadataCache;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
 import org.flowable.common.engine.impl.javax.el.CouldNotResolvePropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.ELContext;
@@ -32,6 +34,8 @@ import org.flowable.common.engine.impl.javax.el.ListELResolver;
 import org.flowable.common.engine.impl.javax.el.MapELResolver;
 import org.flowable.common.engine.impl.javax.el.ValueExpression;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link ExpressionManager} implementation that contains the logic for creating 
@@ -45,6 +49,8 @@ import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
  */
 public class DefaultExpressionManager implements ExpressionManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultExpressionManager.class);
+
     protected ExpressionFactory expressionFactory;
     protected List<FlowableFunctionDelegate> functionDelegates;
     protected BiFunction<String, String, FlowableFunctionDelegate> functionResolver;
@@ -55,12 +61,14 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+    protected int expressionCompilationThreshold = -1;
     
     protected List<ELResolver> preDefaultResolvers;
     protected List<ELResolver> postDefaultResolvers;
     protected List<ELResolver> preBeanResolvers;
 
     protected ELResolver staticElResolver;
+    protected BeanMetadataCache beanMetadataCache = BeanMetadataCache.getSharedInstance();
 
     public DefaultExpressionManager(Map<Object, Object> beans) {
         this.expressionFactory = ExpressionFactoryResolver.resolveExpressionFactory();
@@ -106,6 +114,51 @@ public class DefaultExpressionManager implements ExpressionManager {
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
     }
+
+    /**
+     * Returns the cache of the parsed expression trees, or null when the expression factory is not a {@link FlowableExpressionFactory}.
+     */
+    public TreeCache getExpressionTreeCache() {
+        if (expressionFactory instanceof FlowableExpressionFactory) {
+            return ((FlowableExpressionFactory) expressionFactory).getTreeCache();
+        }
+        return null;
+    }
+
+    /**
+     * Uses a new {@link FlowableExpressionFactory} that keeps the parsed expression trees in the given cache,
+     * e.g. to share the parsed trees with the expression managers of other engines.
+     * The tree cache only replaces the default {@link FlowableExpressionFactory}.
+     * A custom expression factory, including a subclass of {@link FlowableExpressionFactory}, is kept and the tree cache is not used.
+     */
+    public void setExpressionTreeCache(TreeCache expressionTreeCache) {
+        if (expressionFactory != null && expressionFactory.getClass() != FlowableExpressionFactory.class) {
+            LOGGER.warn("The expression tree cache is not used, because the custom expression factory {} is kept", expressionFactory.getClass().getName());
+            return;
+        }
+
+        FlowableExpressionFactory flowableExpressionFactory = new FlowableExpressionFactory(expressionTreeCache);
+        if (astFunctionCreators != null) {
+            flowableExpressionFactory.setAstFunctionCreators(astFunctionCreators);
+        }
+        flowableExpressionFactory.setCompilationThreshold(expressionCompilationThreshold);
+        this.expressionFactory = flowableExpressionFactory;
+    }
+
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    /**
+     * Sets the number of evaluations after which a parsed expression is compiled into specialized evaluation nodes.
+     * A negative value (the default) keeps interpreting the parsed expressions.
+     */
+    public void setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        if (expressionFactory instanceof FlowableExpressionFactory) {
+            ((FlowableExpressionFactory) expressionFactory).setCompilationThreshold(expressionCompilationThreshold);
+        }
+    }
     
     @Override
     public ELContext getElContext(VariableContainer variableContainer) {
@@ -158,7 +211,20 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createBeanElResolver() {
-        return new BeanELResolver();
+        return new BeanELResolver(false, beanMetadataCache);
+    }
+
+    public BeanMetadataCache getBeanMetadataCache() {
+        return beanMetadataCache;
+    }
+
+    /**
+     * Sets the cache for the bean properties and selected methods that are used when resolving bean properties and invoking bean methods.
+     * By default all expression managers use {@link BeanMetadataCache#getSharedInstance()}.
+     */
+    public void setBeanMetadataCache(BeanMetadataCache beanMetadataCache) {
+        this.beanMetadataCache = beanMetadataCache;
+        this.staticElResolver = null;
     }
 
     @Override
@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeCache;
+
+/**
+ * Bounded, lock-free {@link TreeCache} that keeps the parsed expression trees by expression text and exposes hit, miss and eviction statistics.
+ *
+ * Entries are evicted in insertion order, but an entry that has been read since it was added or since it was last considered for eviction
+ * gets a second chance (the CLOCK algorithm), so frequently used expressions survive bursts of one-off expressions.
+ * The size can temporarily exceed the capacity while threads concurrently add entries.
+ *
+ * As the trees are immutable, one instance can be shared by the expression managers of several engines,
+ * as long as these engines are configured with the same function delegates and AST function creators.
+ */
+public class ExpressionTreeCache implements TreeCache {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    protected final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    protected final ConcurrentLinkedQueue<String> evictionQueue = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger size = new AtomicInteger();
+    protected final int capacity;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    public ExpressionTreeCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ExpressionTreeCache(int capacity) {
+        if (capacity <= 0) {
+            throw new FlowableIllegalArgumentException("capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Tree get(String expression) {
+        CacheEntry entry = cache.get(expression);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.tree;
+    }
+
+    @Override
+    public void put(String expression, Tree tree) {
+        if (cache.putIfAbsent(expression, new CacheEntry(tree)) == null) {
+            evictionQueue.offer(expression);
+            if (size.incrementAndGet() > capacity) {
+                evict();
+            }
+        }
+    }
+
+    protected void evict() {
+        // Every entry gets at most one second chance, so this ends after at most twice the capacity
+        int maxAttempts = 2 * capacity + 1;
+        for (int i = 0; i < maxAttempts; i++) {
+            String candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+
+            CacheEntry entry = cache.get(candidate);
+            if (entry != null && entry.referenced && i < maxAttempts - 1) {
+                entry.referenced = false;
+                evictionQueue.offer(candidate);
+
+            } else {
+                if (entry != null && cache.remove(candidate, entry)) {
+                    size.decrementAndGet();
+                    evictionCount.increment();
+                }
+                return;
+            }
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+        evictionQueue.clear();
+        size.set(0);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the ratio of lookups that found a parsed tree, or 0 when there were no lookups yet
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    protected static class CacheEntry {
+
+        protected final Tree tree;
+        protected volatile boolean referenced;
+
+        protected CacheEntry(Tree tree) {
+            this.tree = tree;
+        }
+    }
+}
@@ -19,11 +19,17 @@ import java.util.Map;
 
 import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeCache;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeStore;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Parser;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Scanner;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstFunction;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstParameters;
+import org.flowable.common.engine.impl.el.compiler.CompilingNode;
+import org.flowable.common.engine.impl.el.compiler.ExpressionNodeCompiler;
 
 /**
  * @author Filip Hrisafov
@@ -34,11 +40,28 @@ public class FlowableExpressionFactory extends ExpressionFactoryImpl {
         super();
     }
 
+    /**
+     * Creates a factory that keeps the parsed expression trees in the given cache, which can be shared between factories.
+     * The builder gets the features of the default JEE6 profile, <code>el.properties</code> is not taken into account.
+     */
+    public FlowableExpressionFactory(TreeCache treeCache) {
+        super(new TreeStore(new FlowableExpressionBuilder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS), treeCache));
+    }
+
     @Override
     protected TreeBuilder createDefaultTreeBuilder(Builder.Feature... features) {
         return new FlowableExpressionBuilder(features);
     }
 
+    @Override
+    protected TreeCache createTreeCache(int cacheSize) {
+        return new ExpressionTreeCache(cacheSize);
+    }
+
+    public TreeCache getTreeCache() {
+        return store.getCache();
+    }
+
     public void setAstFunctionCreators(Collection<FlowableAstFunctionCreator> astFunctionCreators) {
         TreeBuilder storeBuilder = this.store.getBuilder();
         if (storeBuilder instanceof FlowableExpressionBuilder) {
@@ -52,6 +75,25 @@ public class FlowableExpressionFactory extends ExpressionFactoryImpl {
         }
     }
 
+    public int getCompilationThreshold() {
+        TreeBuilder storeBuilder = this.store.getBuilder();
+        if (storeBuilder instanceof FlowableExpressionBuilder) {
+            return ((FlowableExpressionBuilder) storeBuilder).getCompilationThreshold();
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the number of evaluations after which an expression is compiled with the {@link ExpressionNodeCompiler}.
+     * A negative value (the default) disables the compilation. Only applies to expressions that are parsed after this is set.
+     */
+    public void setCompilationThreshold(int compilationThreshold) {
+        TreeBuilder storeBuilder = this.store.getBuilder();
+        if (storeBuilder instanceof FlowableExpressionBuilder) {
+            ((FlowableExpressionBuilder) storeBuilder).setCompilationThreshold(compilationThreshold);
+        }
+    }
+
     protected static class FlowableExpressionBuilder extends Builder {
 
         protected final Map<String, FlowableAstFunctionCreator> astFunctionCreators = new HashMap<>();
@@ -68,6 +110,9 @@ public class FlowableExpressionFactory extends ExpressionFactoryImpl {
             }
         };
 
+        protected int compilationThreshold = -1;
+        protected ExpressionNodeCompiler expressionNodeCompiler = new ExpressionNodeCompiler();
+
         protected FlowableExpressionBuilder(Builder.Feature... features) {
             super(features);
         }
@@ -101,6 +146,22 @@ public class FlowableExpressionFactory extends ExpressionFactoryImpl {
         public void setDefaultFunctionCreator(FlowableAstFunctionCreator defaultFunctionCreator) {
             this.defaultFunctionCreator = defaultFunctionCreator;
         }
+
+        public int getCompilationThreshold() {
+            return compilationThreshold;
+        }
+
+        public void setCompilationThreshold(int compilationThreshold) {
+            this.compilationThreshold = compilationThreshold;
+        }
+
+        public ExpressionNodeCompiler getExpressionNodeCompiler() {
+            return expressionNodeCompiler;
+        }
+
+        public void setExpressionNodeCompiler(ExpressionNodeCompiler expressionNodeCompiler) {
+            this.expressionNodeCompiler = expressionNodeCompiler;
+        }
     }
 
     protected static class FlowableExpressionParserImpl extends Parser implements FlowableExpressionParser {
@@ -121,6 +182,17 @@ public class FlowableExpressionFactory extends ExpressionFactoryImpl {
         protected AstFunction createAstFunction(String name, int index, AstParameters params) {
             return flowableContext.getAstFunctionCreator(name).createFunction(name, index, params, context.isEnabled(Builder.Feature.VARARGS), this);
         }
+
+        @Override
+        protected AstEval eval(boolean required, boolean deferred) throws Scanner.ScanException, ParseException {
+            AstEval eval = super.eval(required, deferred);
+            if (eval != null && flowableContext.getCompilationThreshold() >= 0) {
+                CompilingNode compilingNode = new CompilingNode(eval.getChild(0), flowableContext.getCompilationThreshold(),
+                        flowableContext.getExpressionNodeCompiler());
+                return new AstEval(compilingNode, eval.isDeferred());
+            }
+            return eval;
+        }
     }
 
 }
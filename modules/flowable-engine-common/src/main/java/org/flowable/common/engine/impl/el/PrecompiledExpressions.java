@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The expressions of a definition, created once when the definition is deployed or loaded into the definition cache,
+ * so the runtime can get a ready {@link Expression} for an expression text of the definition without parsing it again.
+ *
+ * Instances are filled before they are published through the definition cache and are only read afterwards.
+ */
+public class PrecompiledExpressions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecompiledExpressions.class);
+
+    protected final Map<String, Expression> expressions = new HashMap<>();
+
+    /**
+     * Creates the expressions for the given texts. Texts that are not expressions (i.e. don't contain <code>${</code> or <code>#{</code>) are skipped.
+     * Texts that can't be parsed are skipped as well, they fail the same way as before once they are evaluated.
+     */
+    public static PrecompiledExpressions precompile(ExpressionManager expressionManager, Collection<String> expressionTexts) {
+        PrecompiledExpressions precompiledExpressions = new PrecompiledExpressions();
+        for (String expressionText : expressionTexts) {
+            precompiledExpressions.add(expressionManager, expressionText);
+        }
+        return precompiledExpressions;
+    }
+
+    protected void add(ExpressionManager expressionManager, String expressionText) {
+        if (!isExpression(expressionText) || expressions.containsKey(expressionText)) {
+            return;
+        }
+
+        try {
+            expressions.put(expressionText, expressionManager.createExpression(expressionText));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not precompile expression {}", expressionText, e);
+        }
+    }
+
+    protected boolean isExpression(String text) {
+        return text != null && (text.contains("${") || text.contains("#{"));
+    }
+
+    /**
+     * @return the precompiled expression for the given text, or null if the text is not part of the definition
+     */
+    public Expression get(String expressionText) {
+        return expressionText != null ? expressions.get(expressionText) : null;
+    }
+
+    /**
+     * @return the precompiled expression for the given text, or a new expression created by the expression manager
+     * if the text is not part of the definition (e.g. because it was changed through the dynamic BPMN service)
+     */
+    public Expression getOrCreate(String expressionText, ExpressionManager expressionManager) {
+        Expression expression = get(expressionText);
+        return expression != null ? expression : expressionManager.createExpression(expressionText);
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+}
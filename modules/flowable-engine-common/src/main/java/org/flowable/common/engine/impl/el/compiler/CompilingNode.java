@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el.compiler;
+
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.MethodInfo;
+import org.flowable.common.engine.impl.javax.el.ValueReference;
+
+/**
+ * Wraps the child of an <code>${...}</code> or <code>#{...}</code> node. The wrapped node is interpreted until it has been evaluated
+ * the configured number of times, after which it is compiled with the {@link ExpressionNodeCompiler} and the compiled form is used.
+ * All other operations (e.g. setting a value or invoking a method) are delegated to the wrapped node.
+ *
+ * The evaluation count is not synchronized: concurrent evaluations can miss increments, which only delays the compilation.
+ */
+public class CompilingNode extends AstNode {
+
+    protected final AstNode child;
+    protected final int compilationThreshold;
+    protected final ExpressionNodeCompiler compiler;
+
+    protected int evaluationCount;
+    protected volatile CompiledNode compiledNode;
+
+    public CompilingNode(AstNode child, int compilationThreshold, ExpressionNodeCompiler compiler) {
+        this.child = child;
+        this.compilationThreshold = compilationThreshold;
+        this.compiler = compiler;
+    }
+
+    @Override
+    public Object eval(Bindings bindings, ELContext context) {
+        CompiledNode compiled = compiledNode;
+        if (compiled != null) {
+            return compiled.eval(bindings, context);
+        }
+
+        if (evaluationCount++ >= compilationThreshold) {
+            compiled = compiler.compile(child);
+            compiledNode = compiled;
+            return compiled.eval(bindings, context);
+        }
+
+        return child.eval(bindings, context);
+    }
+
+    public boolean isCompiled() {
+        return compiledNode != null;
+    }
+
+    public AstNode getWrappedNode() {
+        return child;
+    }
+
+    @Override
+    public void appendStructure(StringBuilder builder, Bindings bindings) {
+        child.appendStructure(builder, bindings);
+    }
+
+    @Override
+    public boolean isLiteralText() {
+        return child.isLiteralText();
+    }
+
+    @Override
+    public boolean isLeftValue() {
+        return child.isLeftValue();
+    }
+
+    @Override
+    public boolean isMethodInvocation() {
+        return child.isMethodInvocation();
+    }
+
+    @Override
+    public ValueReference getValueReference(Bindings bindings, ELContext context) {
+        return child.getValueReference(bindings, context);
+    }
+
+    @Override
+    public Class<?> getType(Bindings bindings, ELContext context) {
+        return child.getType(bindings, context);
+    }
+
+    @Override
+    public boolean isReadOnly(Bindings bindings, ELContext context) {
+        return child.isReadOnly(bindings, context);
+    }
+
+    @Override
+    public void setValue(Bindings bindings, ELContext context, Object value) {
+        child.setValue(bindings, context, value);
+    }
+
+    @Override
+    public MethodInfo getMethodInfo(Bindings bindings, ELContext context, Class<?> returnType, Class<?>[] paramTypes) {
+        return child.getMethodInfo(bindings, context, returnType, paramTypes);
+    }
+
+    @Override
+    public Object invoke(Bindings bindings, ELContext context, Class<?> returnType, Class<?>[] paramTypes, Object[] paramValues) {
+        return child.invoke(bindings, context, returnType, paramTypes, paramValues);
+    }
+
+    @Override
+    public int getCardinality() {
+        return 1;
+    }
+
+    @Override
+    public AstNode getChild(int i) {
+        return i == 0 ? child : null;
+    }
+
+    @Override
+    public String toString() {
+        return child.toString();
+    }
+}
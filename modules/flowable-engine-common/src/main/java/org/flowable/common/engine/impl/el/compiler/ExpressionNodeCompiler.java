@@ -0,0 +1,189 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el.compiler;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+
+/**
+ * Compiles an expression tree into a tree of {@link CompiledNode}s, where every node is specialized for its operator
+ * and its literal values are resolved up front. Arithmetic and comparison operators get a fast path for
+ * {@link Long}, {@link Integer}, {@link Boolean} and {@link String} operands that gives the same result as the generic
+ * coercion rules of {@link NumberOperations} and {@link BooleanOperations}, which are used for all other operand types.
+ *
+ * Identifiers, properties, method invocations and functions are left to the interpreter (i.e. the {@link AstNode} itself),
+ * as these are resolved through the configured EL resolvers and function mappers.
+ */
+public class ExpressionNodeCompiler {
+
+    public CompiledNode compile(AstNode node) {
+        if (node instanceof AstNumber || node instanceof AstString || node instanceof AstBoolean || node instanceof AstNull) {
+            Object value = node.eval(null, null);
+            return (bindings, context) -> value;
+
+        } else if (node instanceof AstNested) {
+            return compile(((AstNested) node).getChild(0));
+
+        } else if (node instanceof AstBinary) {
+            CompiledNode compiledNode = compileBinary((AstBinary) node);
+            if (compiledNode != null) {
+                return compiledNode;
+            }
+
+        } else if (node instanceof AstUnary) {
+            CompiledNode compiledNode = compileUnary((AstUnary) node);
+            if (compiledNode != null) {
+                return compiledNode;
+            }
+
+        } else if (node instanceof AstChoice) {
+            AstChoice choice = (AstChoice) node;
+            CompiledNode question = compile(choice.getChild(0));
+            CompiledNode yes = compile(choice.getChild(1));
+            CompiledNode no = compile(choice.getChild(2));
+            return (bindings, context) -> toBoolean(bindings, question.eval(bindings, context)) ? yes.eval(bindings, context) : no.eval(bindings, context);
+        }
+
+        return node::eval;
+    }
+
+    protected CompiledNode compileBinary(AstBinary node) {
+        AstBinary.Operator operator = node.getOperator();
+        CompiledNode left = compile(node.getChild(0));
+        CompiledNode right = compile(node.getChild(1));
+
+        if (operator == AstBinary.AND) {
+            return (bindings, context) -> toBoolean(bindings, left.eval(bindings, context)) ? toBoolean(bindings, right.eval(bindings, context)) : Boolean.FALSE;
+        } else if (operator == AstBinary.OR) {
+            return (bindings, context) -> toBoolean(bindings, left.eval(bindings, context)) ? Boolean.TRUE : toBoolean(bindings, right.eval(bindings, context));
+        } else if (operator == AstBinary.EQ) {
+            return (bindings, context) -> eq(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.NE) {
+            return (bindings, context) -> !eq(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.LT) {
+            return (bindings, context) -> lt(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.GT) {
+            return (bindings, context) -> gt(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.LE) {
+            return (bindings, context) -> le(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.GE) {
+            return (bindings, context) -> ge(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.ADD) {
+            return (bindings, context) -> add(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.SUB) {
+            return (bindings, context) -> sub(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.MUL) {
+            return (bindings, context) -> mul(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.DIV) {
+            return (bindings, context) -> NumberOperations.div(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        } else if (operator == AstBinary.MOD) {
+            return (bindings, context) -> NumberOperations.mod(bindings, left.eval(bindings, context), right.eval(bindings, context));
+        }
+
+        return null;
+    }
+
+    protected CompiledNode compileUnary(AstUnary node) {
+        AstUnary.Operator operator = node.getOperator();
+        CompiledNode child = compile(node.getChild(0));
+
+        if (operator == AstUnary.NOT) {
+            return (bindings, context) -> !toBoolean(bindings, child.eval(bindings, context));
+        } else if (operator == AstUnary.EMPTY) {
+            return (bindings, context) -> BooleanOperations.empty(bindings, child.eval(bindings, context));
+        } else if (operator == AstUnary.NEG) {
+            return (bindings, context) -> NumberOperations.neg(bindings, child.eval(bindings, context));
+        }
+
+        return null;
+    }
+
+    protected static boolean toBoolean(TypeConverter converter, Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return converter.convert(value, Boolean.class);
+    }
+
+    protected static boolean isLongOrInteger(Object value) {
+        return value instanceof Long || value instanceof Integer;
+    }
+
+    protected static boolean eq(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() == ((Number) o2).longValue();
+        } else if ((o1 instanceof String && o2 instanceof String) || (o1 instanceof Boolean && o2 instanceof Boolean)) {
+            return o1.equals(o2);
+        }
+        return BooleanOperations.eq(converter, o1, o2);
+    }
+
+    protected static boolean lt(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() < ((Number) o2).longValue();
+        }
+        return BooleanOperations.lt(converter, o1, o2);
+    }
+
+    protected static boolean gt(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() > ((Number) o2).longValue();
+        }
+        return BooleanOperations.gt(converter, o1, o2);
+    }
+
+    protected static boolean le(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() <= ((Number) o2).longValue();
+        }
+        return BooleanOperations.le(converter, o1, o2);
+    }
+
+    protected static boolean ge(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() >= ((Number) o2).longValue();
+        }
+        return BooleanOperations.ge(converter, o1, o2);
+    }
+
+    protected static Number add(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() + ((Number) o2).longValue();
+        }
+        return NumberOperations.add(converter, o1, o2);
+    }
+
+    protected static Number sub(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() - ((Number) o2).longValue();
+        }
+        return NumberOperations.sub(converter, o1, o2);
+    }
+
+    protected static Number mul(TypeConverter converter, Object o1, Object o2) {
+        if (isLongOrInteger(o1) && isLongOrInteger(o2)) {
+            return ((Number) o1).longValue() * ((Number) o2).longValue();
+        }
+        return NumberOperations.mul(converter, o1, o2);
+    }
+}
@@ -25,10 +25,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 // This class is adapted to match the BeanELResolver from Tomcat from https://github.com/apache/tomcat/tree/febda9acf2a9d6ed833382c4c49eec8964bc1431/java/jakarta/el
 // The adaptations are done in order for us to use the Util class for finding methods
+// The bean properties and selected methods are kept in a BeanMetadataCache, which is shared between the resolvers by default
 /**
  * Defines property resolution behavior on objects using the JavaBeans component architecture. This
  * resolver handles base objects of any type, as long as the base is not null. It accepts any object
@@ -103,7 +103,7 @@ public class BeanELResolver extends ELResolver {
 	}
 
 	private final boolean readOnly;
-	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	private final BeanMetadataCache cache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -118,8 +118,16 @@ public class BeanELResolver extends ELResolver {
 	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter.
 	 */
 	public BeanELResolver(boolean readOnly) {
+		this(readOnly, BeanMetadataCache.getSharedInstance());
+	}
+
+	/**
+	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter
+	 * and that keeps the reflection metadata of the beans in the given cache.
+	 */
+	public BeanELResolver(boolean readOnly, BeanMetadataCache cache) {
 		this.readOnly = readOnly;
-		this.cache = new ConcurrentHashMap<>();
+		this.cache = cache;
 	}
 
 	/**
@@ -466,7 +474,7 @@ public class BeanELResolver extends ELResolver {
 			}
 			String name = method.toString();
 			ExpressionFactory factory = getExpressionFactory(context);
-			Method target = Util.findMethod(base.getClass(), base, name, paramTypes, params, factory);
+			Method target = cache.findMethod(base.getClass(), base, name, paramTypes, params, factory);
 			if (target == null) {
 				throw new MethodNotFoundException("Cannot find method " + name + " with " + params.length + " parameters in " + base.getClass());
 			}
@@ -527,14 +535,7 @@ public class BeanELResolver extends ELResolver {
 	 *             if no BeanProperty can be found.
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
-		BeanProperties beanProperties = cache.get(base.getClass());
-		if (beanProperties == null) {
-			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
-			beanProperties = cache.putIfAbsent(base.getClass(), newBeanProperties);
-			if (beanProperties == null) { // put succeeded, use new value
-				beanProperties = newBeanProperties;
-			}
-		}
+		BeanProperties beanProperties = cache.getBeanProperties(base.getClass());
 		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
 		return beanProperty;
 	}
@@ -551,11 +552,8 @@ public class BeanELResolver extends ELResolver {
 	 */
 	@SuppressWarnings("unused")
 	private final void purgeBeanClasses(ClassLoader loader) {
-		Iterator<Class<?>> classes = cache.keySet().iterator();
-		while (classes.hasNext()) {
-			if (loader == classes.next().getClassLoader()) {
-				classes.remove();
-			}
-		}
+		// The metadata is stored with the classes, so it is gone when the classes are unloaded.
+		// The cache can't be purged per class loader, clearing it drops the metadata of all classes.
+		cache.clear();
 	}
 }
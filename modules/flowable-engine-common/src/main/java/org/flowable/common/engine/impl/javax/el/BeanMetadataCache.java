@@ -0,0 +1,204 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.javax.el;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the reflection metadata that the {@link BeanELResolver} needs for a bean class: its JavaBeans properties
+ * and the methods that were selected for a method invocation with arguments of given types.
+ *
+ * The metadata is kept in a {@link ClassValue}, so it is stored with the class itself and doesn't prevent the class
+ * (or its class loader) from being unloaded. Classes that are loaded again by a new class loader (e.g. after a redeployment)
+ * are different classes and get their own metadata.
+ *
+ * A method selection is only cached when it can't depend on the argument values, i.e. when the selected method
+ * is not a varargs method and every argument is non-null and assignable to the corresponding parameter type.
+ * Overloads that would only match after coercing an argument value (e.g. a String to a Long) never win
+ * against such a method, so the same arguments types always select the same method.
+ *
+ * The key of a cached method selection references the argument classes. It is therefore only cached when every argument class
+ * is loaded by the class loader of the bean class or one of its parents. Otherwise a long living bean (e.g. a Spring bean) that is called
+ * with an argument from a child class loader (e.g. the class loader of a deployment) would keep that class loader from being unloaded.
+ */
+public class BeanMetadataCache {
+
+    protected static final BeanMetadataCache SHARED_INSTANCE = new BeanMetadataCache();
+
+    protected volatile ClassValue<ClassMetadata> classMetadata = createClassValue();
+
+    /**
+     * @return the cache that is used by all {@link BeanELResolver}s that are not given a cache explicitly
+     */
+    public static BeanMetadataCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    protected ClassValue<ClassMetadata> createClassValue() {
+        return new ClassValue<ClassMetadata>() {
+
+            @Override
+            protected ClassMetadata computeValue(Class<?> type) {
+                return new ClassMetadata(type);
+            }
+        };
+    }
+
+    BeanELResolver.BeanProperties getBeanProperties(Class<?> beanClass) {
+        return classMetadata.get(beanClass).getBeanProperties();
+    }
+
+    Method findMethod(Class<?> beanClass, Object base, String methodName, Class<?>[] paramTypes, Object[] params, ExpressionFactory factory) {
+        if (paramTypes != null) {
+            return Util.findMethod(beanClass, base, methodName, paramTypes, params, factory);
+        }
+
+        MethodKey methodKey = MethodKey.of(methodName, params);
+        if (methodKey == null) {
+            return Util.findMethod(beanClass, base, methodName, null, params, factory);
+        }
+
+        ClassMetadata metadata = classMetadata.get(beanClass);
+        Method method = metadata.methods.get(methodKey);
+        if (method == null) {
+            method = Util.findMethod(beanClass, base, methodName, null, params, factory);
+            if (method != null && isSelectedByArgumentTypes(method, methodKey.argumentTypes)
+                    && areVisibleFrom(beanClass.getClassLoader(), methodKey.argumentTypes)) {
+                metadata.methods.putIfAbsent(methodKey, method);
+            }
+        }
+        return method;
+    }
+
+    protected boolean isSelectedByArgumentTypes(Method method, Class<?>[] argumentTypes) {
+        if (method.isVarArgs()) {
+            return false;
+        }
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != argumentTypes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!Util.isAssignableFrom(argumentTypes[i], parameterTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if all the given classes are loaded by the given class loader or one of its parents
+     */
+    protected boolean areVisibleFrom(ClassLoader classLoader, Class<?>[] classes) {
+        for (Class<?> clazz : classes) {
+            if (!isParentOrSame(clazz.getClassLoader(), classLoader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean isParentOrSame(ClassLoader parent, ClassLoader classLoader) {
+        if (parent == null) {
+            // The bootstrap class loader is the parent of all class loaders
+            return true;
+        }
+
+        for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+            if (current == parent) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops all the cached metadata, e.g. when classes have been redefined.
+     *
+     * The metadata is not removed from the classes it is attached to right away: a new {@link ClassValue} is used from now on,
+     * and the JDK releases the metadata of the previous one after that has been garbage collected.
+     */
+    public void clear() {
+        classMetadata = createClassValue();
+    }
+
+    protected static class ClassMetadata {
+
+        protected final Class<?> beanClass;
+        protected final ConcurrentMap<MethodKey, Method> methods = new ConcurrentHashMap<>();
+        protected volatile BeanELResolver.BeanProperties beanProperties;
+
+        protected ClassMetadata(Class<?> beanClass) {
+            this.beanClass = beanClass;
+        }
+
+        protected BeanELResolver.BeanProperties getBeanProperties() {
+            BeanELResolver.BeanProperties properties = beanProperties;
+            if (properties == null) {
+                // Introspecting the class twice when called concurrently is harmless, both results are equal
+                properties = new BeanELResolver.BeanProperties(beanClass);
+                beanProperties = properties;
+            }
+            return properties;
+        }
+    }
+
+    protected static final class MethodKey {
+
+        protected final String methodName;
+        protected final Class<?>[] argumentTypes;
+        protected final int hashCode;
+
+        protected MethodKey(String methodName, Class<?>[] argumentTypes) {
+            this.methodName = methodName;
+            this.argumentTypes = argumentTypes;
+            this.hashCode = 31 * methodName.hashCode() + Arrays.hashCode(argumentTypes);
+        }
+
+        /**
+         * @return the key for the given method name and arguments, or null when an argument is null (as its type is unknown)
+         */
+        protected static MethodKey of(String methodName, Object[] params) {
+            Class<?>[] argumentTypes = new Class<?>[params.length];
+            for (int i = 0; i < params.length; i++) {
+                if (params[i] == null) {
+                    return null;
+                }
+                argumentTypes[i] = params[i].getClass();
+            }
+            return new MethodKey(methodName, argumentTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) o;
+            return methodName.equals(other.methodName) && Arrays.equals(argumentTypes, other.argumentTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
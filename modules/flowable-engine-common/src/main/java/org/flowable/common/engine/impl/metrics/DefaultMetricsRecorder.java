@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A dependency-free {@link MetricsRecorder} that keeps all timers and counters in memory.
+ * The recorded values can be read with {@link #getCount(String, String...)}, {@link #getTimer(String, String...)}
+ * or as a whole with {@link #getCounters()} and {@link #getTimers()}.
+ */
+public class DefaultMetricsRecorder implements MetricsRecorder {
+
+    protected final ConcurrentMap<MetricId, LongAdder> counters = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<MetricId, TimerStatistics> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordTime(String name, long durationInNanos, String... tags) {
+        timers.computeIfAbsent(new MetricId(name, tags), id -> new TimerStatistics()).record(durationInNanos);
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        counters.computeIfAbsent(new MetricId(name, tags), id -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * Returns the value of the counter with the given name and tags, or 0 if nothing was recorded for it.
+     */
+    public long getCount(String name, String... tags) {
+        LongAdder counter = counters.get(new MetricId(name, tags));
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    /**
+     * Returns the sum of all counters with the given name, regardless of their tags.
+     */
+    public long getTotalCount(String name) {
+        long total = 0L;
+        for (Map.Entry<MetricId, LongAdder> entry : counters.entrySet()) {
+            if (entry.getKey().getName().equals(name)) {
+                total += entry.getValue().sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the timer with the given name and tags, or null if nothing was recorded for it.
+     */
+    public TimerStatistics getTimer(String name, String... tags) {
+        return timers.get(new MetricId(name, tags));
+    }
+
+    public Map<MetricId, Long> getCounters() {
+        Map<MetricId, Long> result = new HashMap<>();
+        for (Map.Entry<MetricId, LongAdder> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+
+    public Map<MetricId, TimerStatistics> getTimers() {
+        return Collections.unmodifiableMap(timers);
+    }
+
+    public void reset() {
+        counters.clear();
+        timers.clear();
+    }
+}
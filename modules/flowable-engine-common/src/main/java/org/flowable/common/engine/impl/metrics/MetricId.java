@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * The name and tags of a metric. Two ids are equal when they have the same name and the same tags, regardless of the tag order.
+ */
+public class MetricId {
+
+    protected final String name;
+    protected final Map<String, String> tags;
+
+    public MetricId(String name, String... tags) {
+        if (name == null) {
+            throw new FlowableIllegalArgumentException("name is null");
+        }
+        if (tags.length % 2 != 0) {
+            throw new FlowableIllegalArgumentException("tags must be key value pairs, but got an odd number of values for metric " + name);
+        }
+
+        this.name = name;
+        if (tags.length == 0) {
+            this.tags = Collections.emptyMap();
+        } else {
+            Map<String, String> tagMap = new TreeMap<>();
+            for (int i = 0; i < tags.length; i += 2) {
+                tagMap.put(tags[i], tags[i + 1]);
+            }
+            this.tags = Collections.unmodifiableMap(tagMap);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(String key) {
+        return tags.get(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MetricId metricId = (MetricId) o;
+        return name.equals(metricId.name) && tags.equals(metricId.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, tags);
+    }
+
+    @Override
+    public String toString() {
+        return name + tags;
+    }
+}
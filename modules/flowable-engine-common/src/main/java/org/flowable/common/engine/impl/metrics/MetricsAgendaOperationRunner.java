@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Wraps an {@link AgendaOperationRunner} and records the execution time of the agenda operations per operation class.
+ */
+public class MetricsAgendaOperationRunner implements AgendaOperationRunner {
+
+    protected final AgendaOperationRunner delegate;
+    protected final MetricsRecorder metricsRecorder;
+
+    public MetricsAgendaOperationRunner(AgendaOperationRunner delegate, MetricsRecorder metricsRecorder) {
+        this.delegate = delegate;
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public void executeOperation(CommandContext commandContext, Runnable runnable) {
+        long startTime = System.nanoTime();
+        try {
+            delegate.executeOperation(commandContext, runnable);
+        } finally {
+            metricsRecorder.recordTime(MetricsRecorder.AGENDA_OPERATION, System.nanoTime() - startTime,
+                    MetricsRecorder.TAG_OPERATION, runnable.getClass().getSimpleName());
+        }
+    }
+
+    public AgendaOperationRunner getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * Records the execution time of every command, including the transaction and the db flush, per command class.
+ * The command is tagged with the class name without the package. Lambdas and other hidden or synthetic classes get a generated name
+ * that changes between runs, so they are all tagged with {@link #LAMBDA_COMMAND_NAME}.
+ */
+public class MetricsCommandInterceptor extends AbstractCommandInterceptor {
+
+    public static final String LAMBDA_COMMAND_NAME = "lambda";
+
+    protected static final ClassValue<String> COMMAND_NAMES = new ClassValue<>() {
+
+        @Override
+        protected String computeValue(Class<?> commandClass) {
+            if (commandClass.isHidden() || commandClass.isSynthetic()) {
+                return LAMBDA_COMMAND_NAME;
+            }
+            String className = commandClass.getName();
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+    };
+
+    protected final MetricsRecorder metricsRecorder;
+
+    public MetricsCommandInterceptor(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        long startTime = System.nanoTime();
+        String outcome = MetricsRecorder.OUTCOME_FAILURE;
+        try {
+            T result = next.execute(config, command, commandExecutor);
+            outcome = MetricsRecorder.OUTCOME_SUCCESS;
+            return result;
+
+        } finally {
+            metricsRecorder.recordTime(MetricsRecorder.COMMAND, System.nanoTime() - startTime,
+                    MetricsRecorder.TAG_COMMAND, getCommandName(command), MetricsRecorder.TAG_OUTCOME, outcome);
+        }
+    }
+
+    protected String getCommandName(Command<?> command) {
+        return COMMAND_NAMES.get(command.getClass());
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+}
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+/**
+ * Records the timers and counters of the instrumented hot paths of an engine (command execution, sql statements, db flushes,
+ * agenda operations, job acquisition and execution, entity cache lookups).
+ *
+ * Tags are passed as alternating key and value pairs, e.g. {@code recordTime(COMMAND, duration, "command", commandClassName)}.
+ * Implementations are invoked on the hot path and must be thread safe and cheap.
+ */
+public interface MetricsRecorder {
+
+    /** Timer of a command execution, tagged with {@link #TAG_COMMAND} and {@link #TAG_OUTCOME} */
+    String COMMAND = "flowable.command";
+
+    /** Timer of a sql statement execution, tagged with {@link #TAG_STATEMENT} */
+    String SQL_STATEMENT = "flowable.sql.statement";
+
+    /** Timer of a db flush at the end of a command */
+    String DB_FLUSH = "flowable.db.flush";
+
+    /** Counter of entity lookups by id, tagged with {@link #TAG_ENTITY} and {@link #TAG_RESULT} */
+    String ENTITY_CACHE = "flowable.entity.cache";
+
+    /** Timer of an agenda operation, tagged with {@link #TAG_OPERATION} */
+    String AGENDA_OPERATION = "flowable.agenda.operation";
+
+    /** Timer of a job execution, tagged with {@link #TAG_HANDLER_TYPE} and {@link #TAG_OUTCOME} */
+    String JOB_EXECUTION = "flowable.job.execution";
+
+    /** Counter of async job acquisition cycles, tagged with {@link #TAG_ENGINE} */
+    String JOB_ACQUISITION_CYCLES = "flowable.job.acquisition.cycles";
+
+    /** Counter of the number of jobs requested in the async job acquisition cycles, tagged with {@link #TAG_ENGINE} */
+    String JOB_ACQUISITION_REQUESTED = "flowable.job.acquisition.requested";
+
+    /** Counter of the number of jobs acquired in the async job acquisition cycles, tagged with {@link #TAG_ENGINE} */
+    String JOB_ACQUISITION_ACQUIRED = "flowable.job.acquisition.acquired";
+
+    /** Counter of acquired jobs that could not be offered to the executor, tagged with {@link #TAG_ENGINE} */
+    String JOB_ACQUISITION_REJECTED = "flowable.job.acquisition.rejected";
+
+    /** Counter of async job acquisition cycles that failed with an optimistic locking exception, tagged with {@link #TAG_ENGINE} */
+    String JOB_ACQUISITION_OPTIMISTIC_LOCKING_FAILURES = "flowable.job.acquisition.optimistic.locking.failures";
+
+    String TAG_COMMAND = "command";
+    String TAG_STATEMENT = "statement";
+    String TAG_ENTITY = "entity";
+    String TAG_OPERATION = "operation";
+    String TAG_HANDLER_TYPE = "handlerType";
+    String TAG_ENGINE = "engine";
+    String TAG_OUTCOME = "outcome";
+    String TAG_RESULT = "result";
+
+    String OUTCOME_SUCCESS = "success";
+    String OUTCOME_FAILURE = "failure";
+
+    String RESULT_HIT = "hit";
+    String RESULT_SHARED_HIT = "sharedHit";
+    String RESULT_MISS = "miss";
+
+    void recordTime(String name, long durationInNanos, String... tags);
+
+    void increment(String name, long amount, String... tags);
+
+    default void increment(String name, String... tags) {
+        increment(name, 1L, tags);
+    }
+
+}
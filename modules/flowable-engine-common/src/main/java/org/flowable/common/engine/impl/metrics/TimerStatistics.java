@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The count, total time and max time of a timer of the {@link DefaultMetricsRecorder}.
+ */
+public class TimerStatistics {
+
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder totalTimeInNanos = new LongAdder();
+    protected final LongAccumulator maxTimeInNanos = new LongAccumulator(Math::max, 0L);
+
+    public void record(long durationInNanos) {
+        count.increment();
+        totalTimeInNanos.add(durationInNanos);
+        maxTimeInNanos.accumulate(durationInNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalTime(TimeUnit timeUnit) {
+        return timeUnit.convert(totalTimeInNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxTime(TimeUnit timeUnit) {
+        return timeUnit.convert(maxTimeInNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public double getMeanTime(TimeUnit timeUnit) {
+        long currentCount = count.sum();
+        if (currentCount == 0) {
+            return 0.0;
+        }
+        return (double) totalTimeInNanos.sum() / currentCount / TimeUnit.NANOSECONDS.convert(1, timeUnit);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerStatistics[count=" + getCount() + ", total=" + getTotalTime(TimeUnit.MILLISECONDS) + "ms, max="
+                + getMaxTime(TimeUnit.MILLISECONDS) + "ms]";
+    }
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation generating time-ordered UUIDs, following the version 7 layout: a 48 bit unix timestamp in milliseconds,
+ * followed by a 12 bit sequence and 62 random bits. Ids generated later sort after earlier ones (also as strings), so inserts land at the end
+ * of the primary key indexes instead of on random pages, as happens with the {@link StrongUuidGenerator}.
+ *
+ * Ids generated by one generator are strictly increasing, even when the clock goes backwards or more than 4096 ids are generated in the same millisecond:
+ * the timestamp part is then moved forward. The random part makes ids of different nodes unique.
+ *
+ * Can be used by any engine through {@link AbstractEngineConfiguration#setIdGenerator(IdGenerator)}.
+ */
+public class TimeOrderedUuidGenerator implements IdGenerator {
+
+    protected static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    protected static final long VERSION = 0x7000L;
+    protected static final long VARIANT = 0x8000000000000000L;
+    protected static final long RANDOM_MASK = 0x3fffffffffffffffL;
+
+    /** The last timestamp in milliseconds, shifted left 12 bits, with the sequence in the lower 12 bits */
+    protected final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    @Override
+    public String getNextId() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long mostSignificantBits = ((timestampAndSequence >>> 12) << 16) | VERSION | (timestampAndSequence & 0xfffL);
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return format(mostSignificantBits, leastSignificantBits);
+    }
+
+    protected long nextTimestampAndSequence() {
+        long now = currentTimeMillis() << 12;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next = now > last ? now : last + 1;
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Formats in the canonical 8-4-4-4-12 form, using lower case hex digits, without intermediate objects.
+     */
+    protected String format(long mostSignificantBits, long leastSignificantBits) {
+        char[] chars = new char[36];
+        writeHex(chars, 0, mostSignificantBits >>> 32, 8);
+        chars[8] = '-';
+        writeHex(chars, 9, mostSignificantBits >>> 16, 4);
+        chars[13] = '-';
+        writeHex(chars, 14, mostSignificantBits, 4);
+        chars[18] = '-';
+        writeHex(chars, 19, leastSignificantBits >>> 48, 4);
+        chars[23] = '-';
+        writeHex(chars, 24, leastSignificantBits, 12);
+        return new String(chars);
+    }
+
+    protected void writeHex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -37,6 +38,9 @@ public class CachedEntity {
         if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
+            if (entity instanceof DirtyTrackingEntity) {
+                ((DirtyTrackingEntity) entity).setDirty(false);
+            }
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
@@ -58,6 +62,14 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    /**
+     * Returns true if the entity tracks its own modifications and hasn't been modified since its state was stored.
+     * In that case {@link #hasChanged()} will always return false and doesn't need to be called.
+     */
+    public boolean isUnmodified() {
+        return originalPersistentState != null && entity instanceof DirtyTrackingEntity && !((DirtyTrackingEntity) entity).isDirty();
+    }
+
     public boolean hasChanged() {
         Object currentPersistentState = entity.getPersistentState();
         return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
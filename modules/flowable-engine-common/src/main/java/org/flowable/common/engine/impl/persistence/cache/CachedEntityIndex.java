@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Describes a secondary index of the {@link EntityCache}: the cached entities of a type are grouped by the key returned for them by the key function.
+ *
+ * Only attributes that don't change anymore once they are set (eg a process instance id) can be indexed,
+ * as the {@link EntityCache} isn't notified when an attribute of a cached entity changes.
+ * Entities for which the key is still null are always returned by an index lookup.
+ *
+ * Indexes are compared by identity, so they are typically constants.
+ */
+public class CachedEntityIndex<EntityImpl extends Entity> {
+
+    protected final String name;
+    protected final Function<EntityImpl, String> keyFunction;
+
+    public CachedEntityIndex(String name, Function<EntityImpl, String> keyFunction) {
+        this.name = name;
+        this.keyFunction = keyFunction;
+    }
+
+    public String getKey(EntityImpl entity) {
+        return keyFunction.apply(entity);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedEntityIndex[" + name + "]";
+    }
+
+}
@@ -0,0 +1,238 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link SharedEntityCache}: keeps the serialized form of the entities in a LRU map with a hard limit.
+ * Every {@link #get(Class, String)} deserializes a new copy, so cached entities are never shared between commands.
+ * Entities that can't be serialized are not cached.
+ *
+ * With a time to live, an entry is not returned anymore once it has been cached for longer than that time,
+ * which bounds how long a change made by another node can go unnoticed.
+ */
+public class DefaultSharedEntityCache implements SharedEntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSharedEntityCache.class);
+
+    protected final Map<CacheKey, CacheEntry> cache;
+    protected final AtomicLong version = new AtomicLong();
+    protected final long timeToLiveInMillis;
+
+    public DefaultSharedEntityCache(final int limit) {
+        this(limit, 0);
+    }
+
+    /**
+     * @param timeToLiveInMillis the time after which a cached entity expires, zero or less means the entities don't expire
+     */
+    public DefaultSharedEntityCache(final int limit, long timeToLiveInMillis) {
+        this.timeToLiveInMillis = timeToLiveInMillis;
+        this.cache = new LinkedHashMap<CacheKey, CacheEntry>(limit + 1, 0.75f, true) { // +1 is needed, because the entry is inserted first, before it is removed
+            // true will keep the 'access-order', which is needed to have a real LRU cache
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                boolean removeEldest = size() > limit;
+                if (removeEldest && LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Shared entity cache limit is reached, {} will be evicted", eldest.getKey());
+                }
+                return removeEldest;
+            }
+
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        CacheKey cacheKey = new CacheKey(entityClass, id);
+        CacheEntry cacheEntry;
+        synchronized (cache) {
+            cacheEntry = cache.get(cacheKey);
+            if (cacheEntry != null && cacheEntry.isExpired(currentTimeMillis())) {
+                cache.remove(cacheKey);
+                cacheEntry = null;
+            }
+        }
+
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        try (ObjectInputStream ois = new EntityObjectInputStream(new ByteArrayInputStream(cacheEntry.serializedEntity), entityClass.getClassLoader())) {
+            return (T) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.debug("Could not deserialize cached entity {} with id {}, removing it from the shared entity cache", entityClass.getName(), id, e);
+            invalidate(entityClass, id);
+            return null;
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public void put(Entity entity, long version) {
+        byte[] serializedEntity = serialize(entity);
+        if (serializedEntity == null) {
+            return;
+        }
+
+        long expirationTime = timeToLiveInMillis > 0 ? currentTimeMillis() + timeToLiveInMillis : Long.MAX_VALUE;
+        synchronized (cache) {
+            if (this.version.get() == version) {
+                cache.put(new CacheKey(entity.getClass(), entity.getId()), new CacheEntry(serializedEntity, expirationTime));
+            }
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected byte[] serialize(Entity entity) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(entity);
+        } catch (IOException e) {
+            LOGGER.debug("Could not serialize entity {}, it will not be put in the shared entity cache", entity, e);
+            return null;
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass, String id) {
+        version.incrementAndGet();
+        synchronized (cache) {
+            cache.remove(new CacheKey(entityClass, id));
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass) {
+        version.incrementAndGet();
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.entityClass.equals(entityClass));
+        }
+    }
+
+    @Override
+    public void clear() {
+        version.incrementAndGet();
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getTimeToLiveInMillis() {
+        return timeToLiveInMillis;
+    }
+
+    protected static class CacheEntry {
+
+        protected final byte[] serializedEntity;
+        protected final long expirationTime;
+
+        public CacheEntry(byte[] serializedEntity, long expirationTime) {
+            this.serializedEntity = serializedEntity;
+            this.expirationTime = expirationTime;
+        }
+
+        public boolean isExpired(long currentTimeMillis) {
+            return currentTimeMillis >= expirationTime;
+        }
+    }
+
+    protected static class CacheKey {
+
+        protected final Class<?> entityClass;
+        protected final String id;
+
+        public CacheKey(Class<?> entityClass, String id) {
+            this.entityClass = entityClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return entityClass.equals(cacheKey.entityClass) && Objects.equals(id, cacheKey.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityClass, id);
+        }
+
+        @Override
+        public String toString() {
+            return entityClass.getName() + "[" + id + "]";
+        }
+    }
+
+    protected static class EntityObjectInputStream extends ObjectInputStream {
+
+        protected final ClassLoader classLoader;
+
+        public EntityObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+}
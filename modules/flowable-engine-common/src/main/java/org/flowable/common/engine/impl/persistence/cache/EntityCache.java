@@ -59,6 +59,16 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances of the given type for which the given {@link CachedEntityIndex} returns the given key,
+     * together with those for which it returns null. The returned entities still need to be checked by the caller.
+     *
+     * This default implementation doesn't index and returns all {@link CachedEntity} instances for the type.
+     */
+    default Collection<CachedEntity> findInCacheAsCachedObjects(Class<?> entityClass, CachedEntityIndex<?> index, String key) {
+        return findInCacheAsCachedObjects(entityClass);
+    }
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
@@ -28,15 +28,38 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * The class cache to use for a requested type that isn't cached itself (eg an interface), resolved once by checking the subclasses.
+     * Cleared when a new type is cached, as the resolution could be different then.
+     */
+    protected Map<Class<?>, Map<String, CachedEntity>> resolvedClassCaches = new HashMap<>();
+
+    /**
+     * The secondary indexes per type, built when first used and kept up to date when an entity of the type is put or removed.
+     * Every index maps a key to the cached entities with that key, by entity id.
+     */
+    protected Map<Class<?>, Map<CachedEntityIndex<?>, Map<String, Map<String, CachedEntity>>>> indexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
         if (classCache == null) {
             classCache = new HashMap<>();
             cachedObjects.put(entity.getClass(), classCache);
+            resolvedClassCaches.clear();
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
-        classCache.put(entity.getId(), cachedObject);
+        CachedEntity previousCachedObject = classCache.put(entity.getId(), cachedObject);
+
+        Map<CachedEntityIndex<?>, Map<String, Map<String, CachedEntity>>> classIndexes = indexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (Map.Entry<CachedEntityIndex<?>, Map<String, Map<String, CachedEntity>>> indexEntry : classIndexes.entrySet()) {
+                if (previousCachedObject != null) {
+                    removeFromIndex(indexEntry.getKey(), indexEntry.getValue(), previousCachedObject);
+                }
+                addToIndex(indexEntry.getKey(), indexEntry.getValue(), cachedObject);
+            }
+        }
         return cachedObject;
     }
 
@@ -62,12 +85,19 @@ public class EntityCacheImpl implements EntityCache {
     }
 
     protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
+        if (resolvedClassCaches.containsKey(entityClass)) {
+            return resolvedClassCaches.get(entityClass);
+        }
+
+        Map<String, CachedEntity> classCache = null;
         for (Class<?> clazz : cachedObjects.keySet()) {
             if (entityClass.isAssignableFrom(clazz)) {
-                return cachedObjects.get(clazz);
+                classCache = cachedObjects.get(clazz);
+                break;
             }
         }
-        return null;
+        resolvedClassCaches.put(entityClass, classCache); // null is stored too, so a miss doesn't check all types again
+        return classCache;
     }
 
     @Override
@@ -76,7 +106,17 @@ public class EntityCacheImpl implements EntityCache {
         if (classCache == null) {
             return;
         }
-        classCache.remove(entityId);
+        CachedEntity cachedObject = classCache.remove(entityId);
+        if (cachedObject == null) {
+            return;
+        }
+
+        Map<CachedEntityIndex<?>, Map<String, Map<String, CachedEntity>>> classIndexes = indexes.get(entityClass);
+        if (classIndexes != null) {
+            for (Map.Entry<CachedEntityIndex<?>, Map<String, Map<String, CachedEntity>>> indexEntry : classIndexes.entrySet()) {
+                removeFromIndex(indexEntry.getKey(), indexEntry.getValue(), cachedObject);
+            }
+        }
     }
 
     @Override
@@ -88,6 +128,70 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public Collection<CachedEntity> findInCacheAsCachedObjects(Class<?> entityClass, CachedEntityIndex<?> index, String key) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Map<String, Map<String, CachedEntity>> indexedCachedObjects = getOrBuildIndex(entityClass, classCache, index);
+        Map<String, CachedEntity> cachedObjectsForKey = indexedCachedObjects.get(key);
+        Map<String, CachedEntity> cachedObjectsWithoutKey = indexedCachedObjects.get(null);
+        // A copy is returned, as the index is updated when entities are put or removed while the result is used
+        if (cachedObjectsWithoutKey == null) {
+            return cachedObjectsForKey != null ? new ArrayList<>(cachedObjectsForKey.values()) : Collections.emptyList();
+        } else if (cachedObjectsForKey == null) {
+            return new ArrayList<>(cachedObjectsWithoutKey.values());
+        }
+
+        List<CachedEntity> result = new ArrayList<>(cachedObjectsForKey.size() + cachedObjectsWithoutKey.size());
+        result.addAll(cachedObjectsForKey.values());
+        result.addAll(cachedObjectsWithoutKey.values());
+        return result;
+    }
+
+    protected Map<String, Map<String, CachedEntity>> getOrBuildIndex(Class<?> entityClass, Map<String, CachedEntity> classCache, CachedEntityIndex<?> index) {
+        Map<CachedEntityIndex<?>, Map<String, Map<String, CachedEntity>>> classIndexes = indexes.computeIfAbsent(entityClass, key -> new HashMap<>());
+        Map<String, Map<String, CachedEntity>> indexedCachedObjects = classIndexes.get(index);
+        if (indexedCachedObjects == null) {
+            indexedCachedObjects = new HashMap<>();
+            for (CachedEntity cachedObject : classCache.values()) {
+                addToIndex(index, indexedCachedObjects, cachedObject);
+            }
+            classIndexes.put(index, indexedCachedObjects);
+        }
+        return indexedCachedObjects;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void addToIndex(CachedEntityIndex<?> index, Map<String, Map<String, CachedEntity>> indexedCachedObjects, CachedEntity cachedObject) {
+        Entity entity = cachedObject.getEntity();
+        String key = ((CachedEntityIndex<Entity>) index).getKey(entity);
+        indexedCachedObjects.computeIfAbsent(key, k -> new HashMap<>()).put(entity.getId(), cachedObject);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void removeFromIndex(CachedEntityIndex<?> index, Map<String, Map<String, CachedEntity>> indexedCachedObjects, CachedEntity cachedObject) {
+        Entity entity = cachedObject.getEntity();
+        String key = ((CachedEntityIndex<Entity>) index).getKey(entity);
+        if (!removeFromIndexKey(indexedCachedObjects, key, entity.getId(), cachedObject) && key != null) {
+            // The key could have been set after the entity was indexed without a key
+            removeFromIndexKey(indexedCachedObjects, null, entity.getId(), cachedObject);
+        }
+    }
+
+    protected boolean removeFromIndexKey(Map<String, Map<String, CachedEntity>> indexedCachedObjects, String key, String entityId, CachedEntity cachedObject) {
+        Map<String, CachedEntity> cachedObjectsForKey = indexedCachedObjects.get(key);
+        if (cachedObjectsForKey == null || !cachedObjectsForKey.remove(entityId, cachedObject)) {
+            return false;
+        }
+        if (cachedObjectsForKey.isEmpty()) {
+            indexedCachedObjects.remove(key);
+        }
+        return true;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A cache for {@link Entity} instances that is shared between all commands of an engine, in contrast to the {@link EntityCache}
+ * which only lives as long as one command. It is consulted by {@link DbSqlSession#selectById(Class, String)} for the entity classes
+ * that are configured as shared cacheable, which should only be entities that are (almost) never changed after they are inserted,
+ * such as process definitions, deployments and resources.
+ *
+ * Implementations must never hand out the same instance twice: each call to {@link #get(Class, String)} returns a new copy,
+ * as the returned entity becomes part of the {@link EntityCache} of the command and can be changed there.
+ *
+ * The cache is local to the engine: changes made by engines on other nodes sharing the same database (e.g. suspending a process definition)
+ * are not seen until the entry is evicted or expires. There is no invalidation across nodes, so without a time to live
+ * the cache is only safe when a single engine uses the database.
+ */
+public interface SharedEntityCache {
+
+    /**
+     * Returns a copy of the cached entity of the given class with the given id, or null if no such entity is cached.
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * Returns the current invalidation version. Needs to be fetched before the entity is selected from the database
+     * and passed to {@link #put(Entity, long)} afterwards.
+     */
+    long getVersion();
+
+    /**
+     * Caches the given entity, loaded from the database. The entity is not cached when an invalidation happened since the given version was fetched,
+     * as the entity could have been loaded before a concurrent change was committed.
+     */
+    void put(Entity entity, long version);
+
+    /**
+     * Removes the entity of the given class with the given id from the cache.
+     */
+    void invalidate(Class<?> entityClass, String id);
+
+    /**
+     * Removes all entities of the given class from the cache.
+     */
+    void invalidate(Class<?> entityClass);
+
+    void clear();
+
+    int size();
+
+}
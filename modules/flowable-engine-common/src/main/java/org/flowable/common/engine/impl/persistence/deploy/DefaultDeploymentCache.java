@@ -12,65 +12,163 @@
  */
 package org.flowable.common.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
- * 
+ *
+ * Reads don't lock: the entries are kept in a {@link ConcurrentHashMap} and an access only records a timestamp and a frequency.
+ * When a limit is set, it is either a maximum number of entries or a maximum total weight, determined by a {@link DeploymentCacheWeigher}.
+ * Once the limit is exceeded by an add, entries are evicted: of the least recently used entries, the least frequently used one is removed first
+ * (frequencies are tracked in a small count-min sketch, which is periodically aged, as in TinyLFU). The added entry itself is never evicted,
+ * as the deployers expect to find what they have just added.
+ *
  * @author Joram Barrez
  */
 public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDeploymentCache.class);
 
-    protected Map<String, T> cache;
+    /** The number of least recently used entries of which the least frequently used one is evicted */
+    protected static final int EVICTION_CANDIDATES = 8;
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected final long maximumWeight; // -1 means no limit
+    protected final DeploymentCacheWeigher<T> weigher;
+    protected final FrequencySketch frequencySketch;
+
+    protected final AtomicLong weight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
 
     /** Cache with no limit */
     public DefaultDeploymentCache() {
-        this.cache = Collections.synchronizedMap(new HashMap<>());
+        this.maximumWeight = -1;
+        this.weigher = (id, object) -> 1;
+        this.frequencySketch = null;
     }
 
     /**
      * Cache which has a hard limit: no more elements will be cached than the limit.
      */
-    public DefaultDeploymentCache(final int limit) {
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, T>(limit + 1, 0.75f, true) { // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest && LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
+    public DefaultDeploymentCache(int limit) {
+        this(limit, (id, object) -> 1);
+    }
 
-        });
+    /**
+     * Cache which has a hard limit on the total weight of the cached elements, as determined by the given weigher.
+     */
+    public DefaultDeploymentCache(long maximumWeight, DeploymentCacheWeigher<T> weigher) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.frequencySketch = new FrequencySketch((int) Math.min(maximumWeight, 1 << 16));
     }
 
     @Override
     public T get(String id) {
-        return cache.get(id);
+        CacheEntry<T> entry = cache.get(id);
+        if (frequencySketch != null) {
+            frequencySketch.increment(id);
+        }
+
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        entry.accessTime = System.nanoTime();
+        hitCount.increment();
+        return entry.value;
     }
 
     @Override
     public void add(String id, T obj) {
-        cache.put(id, obj);
+        CacheEntry<T> entry = new CacheEntry<>(id, obj, Math.max(weigher.weigh(id, obj), 0));
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        long currentWeight = weight.addAndGet(entry.weight - (previousEntry != null ? previousEntry.weight : 0));
+
+        if (maximumWeight >= 0 && currentWeight > maximumWeight) {
+            evict(id);
+        }
+    }
+
+    protected void evict(String addedId) {
+        evictionLock.lock();
+        try {
+            while (weight.get() > maximumWeight) {
+                CacheEntry<T> victim = selectVictim(addedId);
+                if (victim == null) {
+                    break;
+                }
+
+                if (cache.remove(victim.id, victim)) {
+                    weight.addAndGet(-victim.weight);
+                    evictionCount.increment();
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} will be evicted", victim.id);
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Evictions only happen when adding, which is rare for deployment caches, hence the scan over all entries is acceptable here.
+     */
+    protected CacheEntry<T> selectVictim(String addedId) {
+        List<CacheEntry<T>> candidates = new ArrayList<>(EVICTION_CANDIDATES + 1);
+        for (CacheEntry<T> entry : cache.values()) {
+            if (entry.id.equals(addedId)) {
+                continue;
+            }
+
+            int index = candidates.size();
+            while (index > 0 && candidates.get(index - 1).accessTime - entry.accessTime > 0) {
+                index--;
+            }
+            if (index < EVICTION_CANDIDATES) {
+                candidates.add(index, entry);
+                if (candidates.size() > EVICTION_CANDIDATES) {
+                    candidates.remove(EVICTION_CANDIDATES);
+                }
+            }
+        }
+
+        CacheEntry<T> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (CacheEntry<T> candidate : candidates) { // ordered from least to most recently used
+            int frequency = frequencySketch.frequency(candidate.id);
+            if (frequency < victimFrequency) {
+                victim = candidate;
+                victimFrequency = frequency;
+            }
+        }
+        return victim;
     }
 
     @Override
     public void remove(String id) {
-        cache.remove(id);
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            weight.addAndGet(-entry.weight);
+        }
     }
 
     @Override
@@ -80,12 +178,19 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
 
     @Override
     public void clear() {
-        cache.clear();
+        Iterator<String> ids = cache.keySet().iterator();
+        while (ids.hasNext()) {
+            remove(ids.next());
+        }
     }
 
     @Override
     public Collection<T> getAll() {
-        return cache.values();
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
     }
 
     @Override
@@ -93,4 +198,101 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
         return cache.size();
     }
 
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final int weight;
+        protected volatile long accessTime = System.nanoTime();
+
+        public CacheEntry(String id, T value, int weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A count-min sketch with 4 rows and counters saturating at 15. All counters are halved once the number of increments reaches
+     * 10 times the table size, so that the frequencies reflect the recent history. Updates are not synchronized: lost increments only make the estimation less precise.
+     */
+    protected static class FrequencySketch {
+
+        protected static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        protected static final int MAXIMUM_FREQUENCY = 15;
+
+        protected final int[] table;
+        protected final int sampleSize;
+        protected int additions;
+
+        public FrequencySketch(int expectedEntries) {
+            int tableSize = Integer.highestOneBit(Math.max(expectedEntries, 16) - 1) << 1;
+            this.table = new int[tableSize];
+            this.sampleSize = 10 * tableSize;
+        }
+
+        public int frequency(String id) {
+            int hash = spread(id.hashCode());
+            int frequency = MAXIMUM_FREQUENCY;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, table[indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        public void increment(String id) {
+            int hash = spread(id.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                if (table[index] < MAXIMUM_FREQUENCY) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        protected void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] >>>= 1;
+            }
+            additions = 0;
+        }
+
+        protected int indexOf(int hash, int row) {
+            long index = (hash + SEEDS[row]) * SEEDS[row];
+            index += index >>> 32;
+            return ((int) index) & (table.length - 1);
+        }
+
+        protected int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
+
 }
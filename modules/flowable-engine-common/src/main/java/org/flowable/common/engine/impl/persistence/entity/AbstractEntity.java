@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.Serializable;
+
 import org.flowable.common.engine.impl.db.HasRevision;
 
 /**
@@ -19,7 +21,9 @@ import org.flowable.common.engine.impl.db.HasRevision;
  * 
  * @author Joram Barrez
  */
-public abstract class AbstractEntity implements Entity, HasRevision {
+public abstract class AbstractEntity implements Entity, HasRevision, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected String id;
     protected int revision = 1;
@@ -27,8 +31,9 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    protected boolean isDirty;
     
-    protected Object originalPersistentState;
+    protected transient Object originalPersistentState; // not part of a serialized copy, which is detached from any entity cache
 
     @Override
     public String getId() {
@@ -85,6 +90,21 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    /**
+     * Flags that a field of the persistent state has been changed. Only used when the subclass implements {@link DirtyTrackingEntity}.
+     */
+    protected void markDirty() {
+        this.isDirty = true;
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
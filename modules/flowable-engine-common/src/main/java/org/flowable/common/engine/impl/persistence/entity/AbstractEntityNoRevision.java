@@ -12,12 +12,16 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.Serializable;
+
 /**
  * Abstract superclass for the common properties of all {@link Entity} implementations.
  * 
  * @author Joram Barrez
  */
-public abstract class AbstractEntityNoRevision implements Entity {
+public abstract class AbstractEntityNoRevision implements Entity, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected String id;
 
@@ -25,7 +29,7 @@ public abstract class AbstractEntityNoRevision implements Entity {
     protected boolean isUpdated;
     protected boolean isDeleted;
     
-    protected Object originalPersistentState;
+    protected transient Object originalPersistentState; // not part of a serialized copy, which is detached from any entity cache
 
     @Override
     public String getId() {
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * {@link Entity} implementations that flag every modification of a field that is part of their {@link Entity#getPersistentState()}
+ * can implement this interface. When dirty tracking is enabled, entities that haven't been modified since they were put in the
+ * entity cache are skipped at flush time, without calculating and comparing their persistent state.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    /**
+     * Returns true when a field that is part of the persistent state has been modified since the last call to {@link #setDirty(boolean)} with false.
+     */
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -18,6 +18,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -27,6 +29,8 @@ import javax.script.ScriptException;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +43,12 @@ import org.slf4j.LoggerFactory;
  * indicates thread safe read access.
  * </p>
  *
+ * <p>
+ * Scripts of cached ScriptEngines that implement {@link Compilable} are compiled once and the {@link CompiledScript}
+ * is kept in a bounded cache, keyed by language and script text. An engine can opt out by returning {@link Boolean#FALSE}
+ * for the {@link #COMPILED_SCRIPTS_PARAMETER} factory parameter, e.g. when its compilation depends on the bindings.
+ * </p>
+ *
  * @author Tom Baeyens
  * @author Joram Barrez
  * @author Frederik Heremans
@@ -52,12 +62,19 @@ public class ScriptingEngines {
     public static final String DEFAULT_SCRIPTING_LANGUAGE = "juel";
     public static final String GROOVY_SCRIPTING_LANGUAGE = "groovy";
 
+    public static final String COMPILED_SCRIPTS_PARAMETER = "flowable.compiledScripts";
+    public static final int DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT = 1000;
+
     private final ScriptEngineManager scriptEngineManager;
     protected ScriptBindingsFactory scriptBindingsFactory;
 
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
+    protected volatile DeploymentCache<CompiledScript> compiledScriptCache;
+
     protected ScriptTraceEnhancer defaultTraceEnhancer;
 
     protected ScriptTraceListener scriptErrorListener = null;
@@ -108,7 +125,13 @@ public class ScriptingEngines {
     protected Object evaluate(ScriptEngine scriptEngine, ScriptEngineRequest request, Bindings bindings) {
         long startNanos = System.nanoTime();
         try {
-            Object scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            Object scriptResult;
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, request);
+            if (compiledScript != null) {
+                scriptResult = compiledScript.eval(bindings);
+            } else {
+                scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            }
             if (scriptSuccessListener != null) {
                 DefaultScriptTrace scriptTrace = DefaultScriptTrace.successTrace(Duration.ofNanos(System.nanoTime() - startNanos), request);
                 enhanceScriptTrace(request, scriptTrace);
@@ -133,6 +156,54 @@ public class ScriptingEngines {
         }
     }
 
+    /**
+     * Returns the cached compiled form of the script, compiling it on first use,
+     * or null when the script should be evaluated from its source.
+     */
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, ScriptEngineRequest request) throws ScriptException {
+        if (!isCompiledScriptCacheable(scriptEngine, request.getLanguage())) {
+            return null;
+        }
+
+        DeploymentCache<CompiledScript> cache = getOrCreateCompiledScriptCache();
+        String cacheKey = request.getLanguage() + ':' + request.getScript();
+        CompiledScript compiledScript = cache.get(cacheKey);
+        if (compiledScript == null) {
+            // Compilation is not guaranteed to be thread safe, even for engines that allow concurrent evaluation
+            synchronized (scriptEngine) {
+                compiledScript = ((Compilable) scriptEngine).compile(request.getScript());
+            }
+            cache.add(cacheKey, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected boolean isCompiledScriptCacheable(ScriptEngine scriptEngine, String language) {
+        if (!cacheCompiledScripts || !(scriptEngine instanceof Compilable)) {
+            return false;
+        }
+
+        // Only engines that are shared between evaluations can share their compiled scripts
+        ScriptEngineFactory factory = scriptEngine.getFactory();
+        return factory != null
+                && cachedEngines.get(language) == scriptEngine
+                && !Boolean.FALSE.equals(factory.getParameter(COMPILED_SCRIPTS_PARAMETER));
+    }
+
+    protected DeploymentCache<CompiledScript> getOrCreateCompiledScriptCache() {
+        DeploymentCache<CompiledScript> cache = compiledScriptCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = compiledScriptCache;
+                if (cache == null) {
+                    cache = compiledScriptCacheLimit > 0 ? new DefaultDeploymentCache<>(compiledScriptCacheLimit) : new DefaultDeploymentCache<>();
+                    compiledScriptCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     protected void notifyScriptTraceListener(ScriptTraceListener listener, ScriptTrace scriptTrace) {
         try {
             listener.onScriptTrace(scriptTrace);
@@ -234,6 +305,30 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    /**
+     * Sets the maximum number of compiled scripts that are kept, a value of 0 or less means no limit.
+     */
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        this.compiledScriptCache = null;
+    }
+
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
     public ScriptTraceEnhancer getDefaultTraceEnhancer() {
         return defaultTraceEnhancer;
     }
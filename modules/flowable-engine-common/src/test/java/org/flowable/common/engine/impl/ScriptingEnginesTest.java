@@ -16,10 +16,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.SimpleBindings;
 
 import org.flowable.common.engine.impl.scripting.CompositeScriptTraceListener;
 import org.flowable.common.engine.impl.scripting.FlowableScriptEvaluationException;
@@ -255,6 +267,196 @@ public class ScriptingEnginesTest {
         });
     }
 
+    @Test
+    public void expectCompiledScriptReusedForSameScript() {
+        CompilableScriptEngineFactory scriptEngineFactory = new CompilableScriptEngineFactory("MULTITHREADED");
+        engines.addScriptEngineFactory(scriptEngineFactory);
+
+        assertThat(engines.evaluate(variableRequest("foo", "fooValue")).getResult()).isEqualTo("fooValue");
+        assertThat(engines.evaluate(variableRequest("foo", "otherFooValue")).getResult()).isEqualTo("otherFooValue");
+        assertThat(engines.evaluate(variableRequest("bar", "barValue")).getResult()).isEqualTo("barValue");
+
+        assertThat(scriptEngineFactory.compilations).hasValue(2);
+        assertThat(scriptEngineFactory.evaluations).hasValue(3);
+        assertThat(engines.getCompiledScriptCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void expectScriptNotCompiledWhenCachingDisabled() {
+        CompilableScriptEngineFactory scriptEngineFactory = new CompilableScriptEngineFactory("MULTITHREADED");
+        engines.addScriptEngineFactory(scriptEngineFactory);
+        engines.setCacheCompiledScripts(false);
+
+        assertThat(engines.evaluate(variableRequest("foo", "fooValue")).getResult()).isEqualTo("fooValue");
+        assertThat(engines.evaluate(variableRequest("foo", "fooValue")).getResult()).isEqualTo("fooValue");
+
+        assertThat(scriptEngineFactory.compilations).hasValue(0);
+        assertThat(scriptEngineFactory.evaluations).hasValue(2);
+    }
+
+    @Test
+    public void expectScriptNotCompiledForEngineThatIsNotThreadSafe() {
+        CompilableScriptEngineFactory scriptEngineFactory = new CompilableScriptEngineFactory(null);
+        engines.addScriptEngineFactory(scriptEngineFactory);
+
+        assertThat(engines.evaluate(variableRequest("foo", "fooValue")).getResult()).isEqualTo("fooValue");
+        assertThat(engines.evaluate(variableRequest("foo", "fooValue")).getResult()).isEqualTo("fooValue");
+
+        assertThat(scriptEngineFactory.compilations).hasValue(0);
+    }
+
+    @Test
+    public void expectCompiledScriptCacheIsBounded() {
+        CompilableScriptEngineFactory scriptEngineFactory = new CompilableScriptEngineFactory("MULTITHREADED");
+        engines.addScriptEngineFactory(scriptEngineFactory);
+        engines.setCompiledScriptCacheLimit(2);
+
+        for (int i = 0; i < 5; i++) {
+            engines.evaluate(variableRequest("var" + i, i));
+        }
+
+        assertThat(scriptEngineFactory.compilations).hasValue(5);
+        assertThat(engines.getCompiledScriptCache().size()).isEqualTo(2);
+    }
+
+    protected ScriptEngineRequest variableRequest(String variableName, Object value) {
+        MapResolver resolver = new MapResolver().put(variableName, value);
+        return ScriptEngineRequest.builder()
+                .script(variableName)
+                .language(CompilableScriptEngineFactory.LANGUAGE)
+                .variableContainer(VariableScope.empty())
+                .additionalResolver(resolver)
+                .build();
+    }
+
+    /**
+     * Factory of a script engine that evaluates a script by looking up the variable with the script as name.
+     */
+    public static class CompilableScriptEngineFactory implements ScriptEngineFactory {
+
+        public static final String LANGUAGE = "compilable";
+
+        protected final String threading;
+        protected final AtomicInteger compilations = new AtomicInteger();
+        protected final AtomicInteger evaluations = new AtomicInteger();
+
+        public CompilableScriptEngineFactory(String threading) {
+            this.threading = threading;
+        }
+
+        @Override
+        public String getEngineName() {
+            return LANGUAGE;
+        }
+
+        @Override
+        public String getEngineVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public List<String> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getMimeTypes() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getNames() {
+            return Collections.singletonList(LANGUAGE);
+        }
+
+        @Override
+        public String getLanguageName() {
+            return LANGUAGE;
+        }
+
+        @Override
+        public String getLanguageVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public Object getParameter(String key) {
+            return "THREADING".equals(key) ? threading : null;
+        }
+
+        @Override
+        public String getMethodCallSyntax(String obj, String m, String... args) {
+            return null;
+        }
+
+        @Override
+        public String getOutputStatement(String toDisplay) {
+            return null;
+        }
+
+        @Override
+        public String getProgram(String... statements) {
+            return null;
+        }
+
+        @Override
+        public ScriptEngine getScriptEngine() {
+            return new CompilableScriptEngine(this);
+        }
+    }
+
+    public static class CompilableScriptEngine extends AbstractScriptEngine implements Compilable {
+
+        protected final CompilableScriptEngineFactory factory;
+
+        public CompilableScriptEngine(CompilableScriptEngineFactory factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object eval(String script, ScriptContext context) {
+            factory.evaluations.incrementAndGet();
+            return context.getAttribute(script);
+        }
+
+        @Override
+        public Object eval(Reader reader, ScriptContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompiledScript compile(String script) {
+            factory.compilations.incrementAndGet();
+            return new CompiledScript() {
+
+                @Override
+                public Object eval(ScriptContext context) {
+                    return CompilableScriptEngine.this.eval(script, context);
+                }
+
+                @Override
+                public ScriptEngine getEngine() {
+                    return CompilableScriptEngine.this;
+                }
+            };
+        }
+
+        @Override
+        public CompiledScript compile(Reader script) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        @Override
+        public ScriptEngineFactory getFactory() {
+            return factory;
+        }
+    }
+
     public static class MyBean {
 
         protected String foo;
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultAsyncTaskExecutorTest {
+
+    protected DefaultAsyncTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void tasksAreLimitedByPermits() throws Exception {
+        executor = createVirtualThreadExecutor(2, -1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+
+        assertThat(executor.getRemainingCapacity()).isEqualTo(2);
+        executor.execute(() -> awaitAndCountDown(release, finished));
+        executor.execute(() -> awaitAndCountDown(release, finished));
+
+        assertThat(executor.getRemainingCapacity()).isZero();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        waitForRemainingCapacity(2);
+    }
+
+    @Test
+    void runningTasksAreLimitedByDatabaseConnectionPermits() throws Exception {
+        executor = createVirtualThreadExecutor(10, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                finished.countDown();
+            });
+        }
+
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void submittedTasksUsePermits() throws Exception {
+        executor = createVirtualThreadExecutor(2, -1);
+
+        assertThat(executor.submit(() -> "done").get(10, TimeUnit.SECONDS)).isEqualTo("done");
+        waitForRemainingCapacity(2);
+    }
+
+    protected DefaultAsyncTaskExecutor createVirtualThreadExecutor(int maxConcurrentTasks, int databaseConnectionPermits) {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setUseVirtualThreads(true);
+        configuration.setMaxConcurrentTasks(maxConcurrentTasks);
+        configuration.setDatabaseConnectionPermits(databaseConnectionPermits);
+        DefaultAsyncTaskExecutor executor = new DefaultAsyncTaskExecutor(configuration);
+        // Platform threads, so the test also runs on Java versions without virtual threads
+        executor.setThreadFactory(Executors.defaultThreadFactory());
+        executor.start();
+        return executor;
+    }
+
+    protected void awaitAndCountDown(CountDownLatch release, CountDownLatch finished) {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finished.countDown();
+    }
+
+    protected void waitForRemainingCapacity(int expectedCapacity) throws InterruptedException {
+        // The permit is released right after the task finished
+        long end = System.currentTimeMillis() + 10_000;
+        while (executor.getRemainingCapacity() != expectedCapacity && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getRemainingCapacity()).isEqualTo(expectedCapacity);
+    }
+
+}
@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DbSqlSessionBatchUpdateTest {
+
+    protected SqlSession batchSqlSession;
+    protected DbSqlSessionFactory dbSqlSessionFactory;
+    protected TestDbSqlSession dbSqlSession;
+
+    @BeforeEach
+    void setUp() {
+        SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+        when(sqlSessionFactory.openSession()).thenReturn(mock(SqlSession.class));
+        batchSqlSession = mock(SqlSession.class);
+
+        dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+        dbSqlSessionFactory.setBatchUpdateEnabled(true);
+        dbSqlSession = new TestDbSqlSession(dbSqlSessionFactory, batchSqlSession);
+    }
+
+    @Test
+    void batchUpdateWithRowCounts() {
+        TestEntityImpl entity1 = createEntity("1");
+        TestEntityImpl entity2 = createEntity("2");
+        when(batchSqlSession.flushStatements()).thenReturn(Collections.singletonList(createBatchResult(new int[] { 1, 1 }, entity1, entity2)));
+
+        dbSqlSession.updatedObjects.addAll(Arrays.asList(entity1, entity2));
+        dbSqlSession.flushUpdates();
+
+        assertThat(entity1.getRevision()).isEqualTo(2);
+        assertThat(entity2.getRevision()).isEqualTo(2);
+        assertThat(dbSqlSessionFactory.isBatchUpdateEnabled()).isTrue();
+    }
+
+    @Test
+    void batchUpdateWithoutRowCountIsNotAccepted() {
+        TestEntityImpl entity1 = createEntity("1");
+        TestEntityImpl entity2 = createEntity("2");
+        when(batchSqlSession.flushStatements())
+                .thenReturn(Collections.singletonList(createBatchResult(new int[] { 1, Statement.SUCCESS_NO_INFO }, entity1, entity2)));
+
+        dbSqlSession.updatedObjects.addAll(Arrays.asList(entity1, entity2));
+        assertThatThrownBy(() -> dbSqlSession.flushUpdates())
+                .isInstanceOf(FlowableOptimisticLockingException.class)
+                .hasMessageContaining("could not be verified");
+
+        assertThat(entity1.getRevision()).isEqualTo(1);
+        assertThat(entity2.getRevision()).isEqualTo(1);
+
+        // The driver never reports the row counts, so the next flushes use regular updates
+        assertThat(dbSqlSessionFactory.isBatchUpdateEnabled()).isFalse();
+    }
+
+    @Test
+    void batchUpdateWithoutUpdatedRow() {
+        TestEntityImpl entity1 = createEntity("1");
+        TestEntityImpl entity2 = createEntity("2");
+        when(batchSqlSession.flushStatements()).thenReturn(Collections.singletonList(createBatchResult(new int[] { 1, 0 }, entity1, entity2)));
+
+        dbSqlSession.updatedObjects.addAll(Arrays.asList(entity1, entity2));
+        assertThatThrownBy(() -> dbSqlSession.flushUpdates())
+                .isInstanceOf(FlowableOptimisticLockingException.class)
+                .hasMessageContaining("was updated by another transaction concurrently");
+
+        assertThat(dbSqlSessionFactory.isBatchUpdateEnabled()).isTrue();
+    }
+
+    protected BatchResult createBatchResult(int[] updateCounts, Object... parameterObjects) {
+        BatchResult batchResult = new BatchResult(null, "update TEST set REV_ = ? where ID_ = ? and REV_ = ?");
+        for (Object parameterObject : parameterObjects) {
+            batchResult.addParameterObject(parameterObject);
+        }
+        batchResult.setUpdateCounts(updateCounts);
+        return batchResult;
+    }
+
+    protected TestEntityImpl createEntity(String id) {
+        TestEntityImpl entity = new TestEntityImpl();
+        entity.setId(id);
+        entity.setRevision(1);
+        return entity;
+    }
+
+    protected static class TestDbSqlSession extends DbSqlSession {
+
+        protected final SqlSession testBatchSqlSession;
+
+        public TestDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, SqlSession batchSqlSession) {
+            super(dbSqlSessionFactory, new EntityCacheImpl());
+            this.testBatchSqlSession = batchSqlSession;
+        }
+
+        @Override
+        protected SqlSession getBatchSqlSession() {
+            return testBatchSqlSession;
+        }
+
+        @Override
+        protected Collection<List<Entity>> groupBySql(SqlSession batchSqlSession, String updateStatement, List<Entity> entities) {
+            return Collections.singletonList(entities);
+        }
+    }
+
+    protected static class TestEntityImpl extends AbstractEntity {
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("id", id);
+            return persistentState;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.variable.MapDelegateVariableContainer;
+import org.junit.jupiter.api.Test;
+
+class ExpressionTreeCacheTest {
+
+    protected final Builder builder = new Builder();
+
+    @Test
+    void getAndPut() {
+        ExpressionTreeCache cache = new ExpressionTreeCache(10);
+        Tree tree = builder.build("${a}");
+
+        assertThat(cache.get("${a}")).isNull();
+        cache.put("${a}", tree);
+
+        assertThat(cache.get("${a}")).isSameAs(tree);
+        assertThat(cache.get("${a}")).isSameAs(tree);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    void evictsWhenCapacityIsReached() {
+        ExpressionTreeCache cache = new ExpressionTreeCache(2);
+        cache.put("${a}", builder.build("${a}"));
+        cache.put("${b}", builder.build("${b}"));
+        cache.put("${c}", builder.build("${c}"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get("${a}")).isNull();
+        assertThat(cache.get("${b}")).isNotNull();
+        assertThat(cache.get("${c}")).isNotNull();
+    }
+
+    @Test
+    void referencedEntryGetsSecondChance() {
+        ExpressionTreeCache cache = new ExpressionTreeCache(2);
+        cache.put("${a}", builder.build("${a}"));
+        cache.put("${b}", builder.build("${b}"));
+        cache.get("${a}");
+        cache.put("${c}", builder.build("${c}"));
+
+        assertThat(cache.get("${a}")).isNotNull();
+        assertThat(cache.get("${b}")).isNull();
+        assertThat(cache.get("${c}")).isNotNull();
+    }
+
+    @Test
+    void invalidCapacity() {
+        assertThatThrownBy(() -> new ExpressionTreeCache(0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    void expressionManagerUsesTreeCache() {
+        ExpressionTreeCache cache = new ExpressionTreeCache(10);
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null);
+        expressionManager.setExpressionTreeCache(cache);
+
+        VariableContainer variableContainer = new MapDelegateVariableContainer(Collections.singletonMap("amount", 10), VariableContainer.empty());
+        assertThat(expressionManager.createExpression("${amount > 5}").getValue(variableContainer)).isEqualTo(true);
+        assertThat(expressionManager.getExpressionTreeCache()).isSameAs(cache);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void customExpressionFactoryIsNotReplacedByTreeCache() {
+        FlowableExpressionFactory customExpressionFactory = new FlowableExpressionFactory() {
+
+        };
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null);
+        expressionManager.setExpressionFactory(customExpressionFactory);
+        expressionManager.setExpressionTreeCache(new ExpressionTreeCache(10));
+
+        assertThat(expressionManager.expressionFactory).isSameAs(customExpressionFactory);
+    }
+
+    @Test
+    void precompiledExpressions() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null);
+        PrecompiledExpressions precompiledExpressions = PrecompiledExpressions.precompile(expressionManager,
+                Arrays.asList("${amount > 5}", "plain text", null, "${amount > 5}"));
+
+        assertThat(precompiledExpressions.size()).isEqualTo(1);
+        assertThat(precompiledExpressions.get("${amount > 5}")).isNotNull();
+        assertThat(precompiledExpressions.get("plain text")).isNull();
+        assertThat(precompiledExpressions.getOrCreate("${other}", expressionManager).getExpressionText()).isEqualTo("${other}");
+    }
+}
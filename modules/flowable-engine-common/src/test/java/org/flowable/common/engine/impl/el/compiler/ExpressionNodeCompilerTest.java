@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el.compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionTreeCache;
+import org.flowable.common.engine.impl.variable.MapDelegateVariableContainer;
+import org.junit.jupiter.api.Test;
+
+class ExpressionNodeCompilerTest {
+
+    protected static final List<String> EXPRESSIONS = Arrays.asList(
+            "${intValue + longValue}",
+            "${intValue - 3 * longValue}",
+            "${intValue / 3}",
+            "${intValue % 3}",
+            "${-intValue}",
+            "${intValue + doubleValue}",
+            "${decimalValue * intValue}",
+            "${intValue == 10}",
+            "${intValue == longValue}",
+            "${intValue != '10'}",
+            "${intValue < longValue}",
+            "${intValue > doubleValue}",
+            "${intValue <= 10 && longValue >= 20}",
+            "${stringValue == 'flowable'}",
+            "${stringValue < 'zzz'}",
+            "${booleanValue || nullValue}",
+            "${!booleanValue}",
+            "${empty nullValue and not empty listValue}",
+            "${intValue > 5 ? stringValue : 'other'}",
+            "${(intValue + 1) * 2}",
+            "${listValue[0] == 'a' && map.key eq 'value'}",
+            "${nullValue == null}",
+            "#{intValue + 1}",
+            "Amount: ${intValue + 1} of ${longValue}"
+    );
+
+    @Test
+    void compiledExpressionGivesSameResultAsInterpretedExpression() {
+        DefaultExpressionManager interpretingExpressionManager = new DefaultExpressionManager(null);
+        DefaultExpressionManager compilingExpressionManager = new DefaultExpressionManager(null);
+        compilingExpressionManager.setExpressionTreeCache(new ExpressionTreeCache());
+        compilingExpressionManager.setExpressionCompilationThreshold(0);
+
+        VariableContainer variableContainer = createVariableContainer();
+        for (String expressionText : EXPRESSIONS) {
+            Object expected = interpretingExpressionManager.createExpression(expressionText).getValue(variableContainer);
+
+            assertThat(compilingExpressionManager.createExpression(expressionText).getValue(variableContainer)).as(expressionText).isEqualTo(expected);
+            assertThat(compilingExpressionManager.createExpression(expressionText).getValue(variableContainer)).as(expressionText).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void compilesAfterThreshold() {
+        CompilingNode node = new CompilingNode(literal(), 2, new ExpressionNodeCompiler());
+
+        node.eval(null, null);
+        node.eval(null, null);
+        assertThat(node.isCompiled()).isFalse();
+
+        assertThat(node.eval(null, null)).isEqualTo(42L);
+        assertThat(node.isCompiled()).isTrue();
+        assertThat(node.eval(null, null)).isEqualTo(42L);
+    }
+
+    protected AstNode literal() {
+        return (AstNode) new Builder().build("${42}").getRoot().getChild(0);
+    }
+
+    protected VariableContainer createVariableContainer() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", "value");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("intValue", 10);
+        variables.put("longValue", 20L);
+        variables.put("doubleValue", 2.5);
+        variables.put("decimalValue", new BigDecimal("1.5"));
+        variables.put("stringValue", "flowable");
+        variables.put("booleanValue", Boolean.TRUE);
+        variables.put("nullValue", null);
+        variables.put("listValue", Arrays.asList("a", "b"));
+        variables.put("map", map);
+        return new MapDelegateVariableContainer(variables, VariableContainer.empty());
+    }
+}
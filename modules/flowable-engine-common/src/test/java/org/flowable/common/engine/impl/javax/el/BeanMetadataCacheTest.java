@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.javax.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.common.engine.impl.variable.MapDelegateVariableContainer;
+import org.junit.jupiter.api.Test;
+
+class BeanMetadataCacheTest {
+
+    @Test
+    void overloadedMethodSelection() {
+        BeanMetadataCache cache = new BeanMetadataCache();
+
+        assertThat(evaluate(cache, "${service.describe(value)}", "text")).isEqualTo("string");
+        assertThat(evaluate(cache, "${service.describe(value)}", 10L)).isEqualTo("long");
+        assertThat(evaluate(cache, "${service.describe(value)}", 10)).isEqualTo("object");
+        assertThat(evaluate(cache, "${service.describe(value)}", "other text")).isEqualTo("string");
+        assertThat(evaluate(cache, "${service.name}", null)).isEqualTo("service");
+
+        assertThat(cache.classMetadata.get(Service.class).methods).hasSize(3);
+    }
+
+    @Test
+    void selectionDependingOnArgumentValueIsNotCached() {
+        BeanMetadataCache cache = new BeanMetadataCache();
+
+        assertThat(evaluate(cache, "${service.increment(value)}", "41")).isEqualTo(42L);
+        assertThat(cache.classMetadata.get(Service.class).methods).isEmpty();
+
+        assertThatThrownBy(() -> evaluate(cache, "${service.increment(value)}", "not a number"))
+                .isInstanceOf(FlowableException.class)
+                .hasRootCauseInstanceOf(MethodNotFoundException.class);
+    }
+
+    @Test
+    void selectionWithArgumentFromChildClassLoaderIsNotCached() throws Exception {
+        BeanMetadataCache cache = new BeanMetadataCache();
+        Object argument = new ChildClassLoader(BeanMetadataCacheTest.class.getClassLoader())
+                .loadChildClass(ChildArgument.class.getName())
+                .getDeclaredConstructor()
+                .newInstance();
+        assertThat(argument.getClass()).isNotEqualTo(ChildArgument.class);
+
+        assertThat(evaluate(cache, "${service.describe(value)}", argument)).isEqualTo("object");
+        assertThat(cache.classMetadata.get(Service.class).methods).isEmpty();
+
+        assertThat(evaluate(cache, "${service.describe(value)}", new ChildArgument())).isEqualTo("object");
+        assertThat(cache.classMetadata.get(Service.class).methods).hasSize(1);
+    }
+
+    @Test
+    void clear() {
+        BeanMetadataCache cache = new BeanMetadataCache();
+        evaluate(cache, "${service.describe(value)}", "text");
+
+        cache.clear();
+
+        assertThat(cache.classMetadata.get(Service.class).methods).isEmpty();
+        assertThat(evaluate(cache, "${service.describe(value)}", "text")).isEqualTo("string");
+    }
+
+    protected Object evaluate(BeanMetadataCache cache, String expression, Object value) {
+        Map<Object, Object> beans = new HashMap<>();
+        beans.put("service", new Service());
+
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(beans);
+        expressionManager.setBeanMetadataCache(cache);
+
+        VariableContainer variableContainer = new MapDelegateVariableContainer(Collections.singletonMap("value", value), VariableContainer.empty());
+        return expressionManager.createExpression(expression).getValue(variableContainer);
+    }
+
+    public static class ChildArgument {
+
+    }
+
+    /**
+     * Defines a class itself instead of delegating to its parent, like the class loader of a deployment.
+     */
+    protected static class ChildClassLoader extends ClassLoader {
+
+        protected ChildClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        protected Class<?> loadChildClass(String className) throws IOException {
+            try (InputStream inputStream = getParent().getResourceAsStream(className.replace('.', '/') + ".class")) {
+                byte[] bytes = IoUtil.readInputStream(inputStream, className);
+                return defineClass(className, bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    public static class Service {
+
+        public String getName() {
+            return "service";
+        }
+
+        public String describe(Object value) {
+            return "object";
+        }
+
+        public String describe(String value) {
+            return "string";
+        }
+
+        public String describe(Long value) {
+            return "long";
+        }
+
+        public long increment(Long value) {
+            return value + 1;
+        }
+    }
+}
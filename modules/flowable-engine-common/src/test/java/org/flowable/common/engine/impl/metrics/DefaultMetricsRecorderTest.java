@@ -0,0 +1,150 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.junit.jupiter.api.Test;
+
+class DefaultMetricsRecorderTest {
+
+    @Test
+    void countersAreRecordedPerNameAndTags() {
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        recorder.increment(MetricsRecorder.ENTITY_CACHE, MetricsRecorder.TAG_ENTITY, "TaskEntityImpl", MetricsRecorder.TAG_RESULT, MetricsRecorder.RESULT_HIT);
+        recorder.increment(MetricsRecorder.ENTITY_CACHE, MetricsRecorder.TAG_RESULT, MetricsRecorder.RESULT_HIT, MetricsRecorder.TAG_ENTITY, "TaskEntityImpl");
+        recorder.increment(MetricsRecorder.ENTITY_CACHE, 3, MetricsRecorder.TAG_ENTITY, "TaskEntityImpl", MetricsRecorder.TAG_RESULT, MetricsRecorder.RESULT_MISS);
+
+        assertThat(recorder.getCount(MetricsRecorder.ENTITY_CACHE, MetricsRecorder.TAG_ENTITY, "TaskEntityImpl", MetricsRecorder.TAG_RESULT, MetricsRecorder.RESULT_HIT))
+                .isEqualTo(2);
+        assertThat(recorder.getCount(MetricsRecorder.ENTITY_CACHE, MetricsRecorder.TAG_ENTITY, "TaskEntityImpl", MetricsRecorder.TAG_RESULT, MetricsRecorder.RESULT_MISS))
+                .isEqualTo(3);
+        assertThat(recorder.getCount(MetricsRecorder.ENTITY_CACHE, MetricsRecorder.TAG_ENTITY, "ExecutionEntityImpl")).isZero();
+        assertThat(recorder.getTotalCount(MetricsRecorder.ENTITY_CACHE)).isEqualTo(5);
+        assertThat(recorder.getCounters()).hasSize(2);
+
+        recorder.reset();
+        assertThat(recorder.getCounters()).isEmpty();
+    }
+
+    @Test
+    void timersKeepCountTotalAndMax() {
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        recorder.recordTime(MetricsRecorder.DB_FLUSH, TimeUnit.MILLISECONDS.toNanos(10));
+        recorder.recordTime(MetricsRecorder.DB_FLUSH, TimeUnit.MILLISECONDS.toNanos(30));
+
+        TimerStatistics timer = recorder.getTimer(MetricsRecorder.DB_FLUSH);
+        assertThat(timer.getCount()).isEqualTo(2);
+        assertThat(timer.getTotalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+        assertThat(timer.getMaxTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+        assertThat(timer.getMeanTime(TimeUnit.MILLISECONDS)).isEqualTo(20.0);
+        assertThat(recorder.getTimer(MetricsRecorder.COMMAND)).isNull();
+    }
+
+    @Test
+    void oddNumberOfTagsIsRejected() {
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        assertThatThrownBy(() -> recorder.increment(MetricsRecorder.COMMAND, MetricsRecorder.TAG_COMMAND))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("key value pairs");
+    }
+
+    @Test
+    void commandInterceptorRecordsOutcomePerCommandClass() {
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        MetricsCommandInterceptor interceptor = new MetricsCommandInterceptor(recorder);
+        interceptor.setNext(new TestCommandInvoker());
+
+        TestCommand command = new TestCommand(false);
+        assertThat(interceptor.execute(new CommandConfig(), command, null)).isEqualTo("done");
+        assertThatThrownBy(() -> interceptor.execute(new CommandConfig(), new TestCommand(true), null))
+                .isInstanceOf(FlowableException.class);
+
+        assertThat(recorder.getTimer(MetricsRecorder.COMMAND, MetricsRecorder.TAG_COMMAND, "DefaultMetricsRecorderTest$TestCommand",
+                MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_SUCCESS).getCount()).isEqualTo(1);
+        assertThat(recorder.getTimer(MetricsRecorder.COMMAND, MetricsRecorder.TAG_COMMAND, "DefaultMetricsRecorderTest$TestCommand",
+                MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_FAILURE).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void commandInterceptorUsesFixedNameForLambdas() {
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        MetricsCommandInterceptor interceptor = new MetricsCommandInterceptor(recorder);
+        interceptor.setNext(new TestCommandInvoker());
+
+        interceptor.execute(new CommandConfig(), commandContext -> "first", null);
+        interceptor.execute(new CommandConfig(), commandContext -> "second", null);
+
+        assertThat(recorder.getTimers()).hasSize(1);
+        assertThat(recorder.getTimer(MetricsRecorder.COMMAND, MetricsRecorder.TAG_COMMAND, MetricsCommandInterceptor.LAMBDA_COMMAND_NAME,
+                MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_SUCCESS).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void agendaOperationRunnerRecordsPerOperationClass() {
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        MetricsAgendaOperationRunner runner = new MetricsAgendaOperationRunner((commandContext, runnable) -> runnable.run(), recorder);
+
+        TestOperation operation = new TestOperation();
+        runner.executeOperation(null, operation);
+        runner.executeOperation(null, operation);
+
+        assertThat(operation.executions).isEqualTo(2);
+        assertThat(recorder.getTimer(MetricsRecorder.AGENDA_OPERATION, MetricsRecorder.TAG_OPERATION, "TestOperation").getCount()).isEqualTo(2);
+    }
+
+    static class TestCommand implements Command<String> {
+
+        protected final boolean fail;
+
+        TestCommand(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public String execute(CommandContext commandContext) {
+            if (fail) {
+                throw new FlowableException("failed");
+            }
+            return "done";
+        }
+    }
+
+    static class TestCommandInvoker extends AbstractCommandInterceptor {
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+            return command.execute(null);
+        }
+    }
+
+    static class TestOperation implements Runnable {
+
+        protected int executions;
+
+        @Override
+        public void run() {
+            executions++;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void generatesVersion7Uuids() {
+        long before = System.currentTimeMillis();
+        String id = new TimeOrderedUuidGenerator().getNextId();
+        long after = System.currentTimeMillis();
+
+        UUID uuid = UUID.fromString(id);
+        assertThat(uuid.toString()).isEqualTo(id);
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasing() {
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void idsAreIncreasingWhenClockGoesBackwards() {
+        long[] time = { 10_000L };
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator() {
+
+            @Override
+            protected long currentTimeMillis() {
+                return time[0];
+            }
+        };
+
+        String first = idGenerator.getNextId();
+        time[0] = 5_000L;
+        String second = idGenerator.getNextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+}
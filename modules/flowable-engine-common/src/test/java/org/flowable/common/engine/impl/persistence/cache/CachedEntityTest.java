@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.junit.jupiter.api.Test;
+
+class CachedEntityTest {
+
+    @Test
+    void unmodifiedDirtyTrackingEntity() {
+        TestDirtyTrackingEntity entity = new TestDirtyTrackingEntity();
+        entity.setName("original");
+
+        CachedEntity cachedEntity = new CachedEntity(entity, true);
+
+        assertThat(entity.isDirty()).isFalse();
+        assertThat(cachedEntity.isUnmodified()).isTrue();
+        assertThat(cachedEntity.hasChanged()).isFalse();
+    }
+
+    @Test
+    void modifiedDirtyTrackingEntity() {
+        TestDirtyTrackingEntity entity = new TestDirtyTrackingEntity();
+        entity.setName("original");
+
+        CachedEntity cachedEntity = new CachedEntity(entity, true);
+        entity.setName("changed");
+
+        assertThat(cachedEntity.isUnmodified()).isFalse();
+        assertThat(cachedEntity.hasChanged()).isTrue();
+    }
+
+    @Test
+    void dirtyTrackingEntitySetToSameValue() {
+        TestDirtyTrackingEntity entity = new TestDirtyTrackingEntity();
+        entity.setName("original");
+
+        CachedEntity cachedEntity = new CachedEntity(entity, true);
+        entity.setName("original");
+
+        // Dirty, but the persistent state comparison still detects that nothing changed
+        assertThat(cachedEntity.isUnmodified()).isFalse();
+        assertThat(cachedEntity.hasChanged()).isFalse();
+    }
+
+    @Test
+    void dirtyTrackingEntityWithoutStoredState() {
+        TestDirtyTrackingEntity entity = new TestDirtyTrackingEntity();
+        entity.setName("original");
+        entity.setDirty(false);
+
+        CachedEntity cachedEntity = new CachedEntity(entity, false);
+
+        assertThat(cachedEntity.isUnmodified()).isFalse();
+        assertThat(cachedEntity.hasChanged()).isTrue();
+    }
+
+    @Test
+    void entityWithoutDirtyTracking() {
+        TestEntity entity = new TestEntity();
+        entity.setName("original");
+
+        CachedEntity cachedEntity = new CachedEntity(entity, true);
+
+        assertThat(cachedEntity.isUnmodified()).isFalse();
+        assertThat(cachedEntity.hasChanged()).isFalse();
+    }
+
+    static class TestEntity extends AbstractEntity {
+
+        protected String name;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("name", name);
+            return persistentState;
+        }
+    }
+
+    static class TestDirtyTrackingEntity extends TestEntity implements DirtyTrackingEntity {
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+            markDirty();
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplTest {
+
+    protected static final CachedEntityIndex<TestEntity> PARENT_ID_INDEX = new CachedEntityIndex<>("parentId", TestEntity::getParentId);
+
+    @Test
+    void findInCacheBySuperType() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        assertThat(entityCache.findInCache(TestEntityInterface.class, "1")).isNull();
+
+        entityCache.put(createEntity("1", "parent"), true);
+
+        assertThat(entityCache.findInCache(TestEntityInterface.class, "1")).isNotNull();
+        assertThat(entityCache.findInCache(Entity.class)).hasSize(1);
+    }
+
+    @Test
+    void findInCacheByIndex() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        entityCache.put(createEntity("1", "parentA"), true);
+        entityCache.put(createEntity("2", "parentA"), true);
+        entityCache.put(createEntity("3", "parentB"), true);
+
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentA"))).containsExactlyInAnyOrder("1", "2");
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentB"))).containsExactly("3");
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentC")).isEmpty();
+
+        // A put updates the index, so the new entity is found
+        entityCache.put(createEntity("4", "parentB"), true);
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentB"))).containsExactlyInAnyOrder("3", "4");
+
+        entityCache.cacheRemove(TestEntity.class, "3");
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentB"))).containsExactly("4");
+
+        // Putting an entity with the same id again replaces it in the index
+        entityCache.put(createEntity("4", "parentC"), true);
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentB")).isEmpty();
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentC"))).containsExactly("4");
+    }
+
+    @Test
+    void findInCacheByIndexReturnsEntitiesWithoutKey() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        TestEntity entity = createEntity("1", null);
+        entityCache.put(entity, true);
+        entityCache.put(createEntity("2", "parentA"), true);
+
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentA"))).containsExactlyInAnyOrder("1", "2");
+
+        // The key is set after the index was built
+        entity.setParentId("parentB");
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentB"))).containsExactly("1");
+
+        entityCache.cacheRemove(TestEntity.class, "1");
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentB")).isEmpty();
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, "parentA"))).containsExactly("2");
+    }
+
+    protected TestEntity createEntity(String id, String parentId) {
+        TestEntity entity = new TestEntity();
+        entity.setId(id);
+        entity.setParentId(parentId);
+        return entity;
+    }
+
+    protected String[] ids(Collection<CachedEntity> cachedEntities) {
+        return cachedEntities.stream().map(cachedEntity -> cachedEntity.getEntity().getId()).toArray(String[]::new);
+    }
+
+    interface TestEntityInterface extends Entity {
+
+    }
+
+    static class TestEntity extends AbstractEntity implements TestEntityInterface {
+
+        protected String parentId;
+
+        public String getParentId() {
+            return parentId;
+        }
+
+        public void setParentId(String parentId) {
+            this.parentId = parentId;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("parentId", parentId);
+            return persistentState;
+        }
+    }
+
+}
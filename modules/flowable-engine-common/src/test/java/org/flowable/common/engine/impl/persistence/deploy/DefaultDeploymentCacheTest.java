@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultDeploymentCacheTest {
+
+    @Test
+    void unlimitedCache() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("id0")).isEqualTo("value0");
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void limitEvictsLeastRecentlyUsed() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(2);
+        cache.add("a", "valueA");
+        cache.add("b", "valueB");
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+
+        cache.add("c", "valueC");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void limitPrefersEvictingLessFrequentlyUsed() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(2);
+        cache.add("frequent", "value");
+        for (int i = 0; i < 5; i++) {
+            cache.get("frequent");
+        }
+        cache.add("rare", "value");
+        cache.get("rare");
+
+        // frequent is the least recently used, but it is used more often
+        cache.add("new", "value");
+
+        assertThat(cache.contains("frequent")).isTrue();
+        assertThat(cache.contains("rare")).isFalse();
+        assertThat(cache.contains("new")).isTrue();
+    }
+
+    @Test
+    void maximumWeight() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(10, (id, value) -> value.length());
+        cache.add("a", "1234");
+        cache.add("b", "1234");
+        assertThat(cache.getWeight()).isEqualTo(8);
+
+        cache.add("c", "123456");
+
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(10);
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.remove("c");
+        assertThat(cache.getWeight()).isEqualTo(4);
+
+        cache.clear();
+        assertThat(cache.getWeight()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void addedEntryIsNeverEvicted() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(5, (id, value) -> value.length());
+        cache.add("a", "12");
+
+        cache.add("b", "1234567890");
+
+        assertThat(cache.get("b")).isEqualTo("1234567890");
+        assertThat(cache.contains("a")).isFalse();
+    }
+
+    @Test
+    void statistics() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(10);
+        cache.add("a", "valueA");
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+}
@@ -88,6 +88,7 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
 
     protected String processEngineName = ProcessEngines.NAME_DEFAULT;
     protected int idBlockSize = 2500;
+    protected int idBlockPrefetchThreshold; // When > 0, the next id block is fetched in the background once fewer ids remain in the current block
     protected String history = HistoryLevel.AUDIT.getKey();
     protected boolean asyncExecutorActivate;
     protected boolean asyncHistoryExecutorActivate;
@@ -153,6 +154,8 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected Duration cleanInstancesEndedAfter = Duration.ofDays(365);
     protected int cleanInstancesBatchSize = 100;
+    protected int cleanInstancesParallelism = 1;
+    protected double cleanInstancesThrottleFactor;
     protected HistoryCleaningManager historyCleaningManager;
 
 
@@ -237,6 +240,15 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public int getIdBlockPrefetchThreshold() {
+        return idBlockPrefetchThreshold;
+    }
+
+    public ProcessEngineConfiguration setIdBlockPrefetchThreshold(int idBlockPrefetchThreshold) {
+        this.idBlockPrefetchThreshold = idBlockPrefetchThreshold;
+        return this;
+    }
+
     public String getHistory() {
         return history;
     }
@@ -899,6 +911,40 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public int getCleanInstancesParallelism() {
+        return cleanInstancesParallelism;
+    }
+
+    /**
+     * Sets the number of end time ranges into which the finished instances to clean are split. Every range is deleted by its own
+     * sequential batch, so the ranges are deleted in parallel. The default is 1, which deletes all instances with one batch.
+     */
+    public ProcessEngineConfiguration setCleanInstancesParallelism(int cleanInstancesParallelism) {
+        this.cleanInstancesParallelism = cleanInstancesParallelism;
+        return this;
+    }
+
+    public double getCleanInstancesThrottleFactor() {
+        return cleanInstancesThrottleFactor;
+    }
+
+    /**
+     * Sets the factor by which the time that the deletion of a part of a sequential historic process instance deletion batch took
+     * is multiplied, to delay the deletion of the next part. E.g. with a factor of 1 the deletion uses the database at most half of the time.
+     * The default is 0, which doesn't delay the next part.
+     * <p>
+     * When throttling, the next part is scheduled as a timer job, so the actual delay is never shorter than the time until the timer jobs
+     * are acquired again (see {@code defaultTimerJobAcquireWaitTimeInMillis} of the async executor).
+     * <p>
+     * The instances of a part are then deleted in a new transaction, to measure the time the delete statements take.
+     * This transaction is committed before the batch part is completed, so when completing the batch part fails afterwards,
+     * the instances are deleted nevertheless. The retried part then simply deletes the next instances that match the query.
+     */
+    public ProcessEngineConfiguration setCleanInstancesThrottleFactor(double cleanInstancesThrottleFactor) {
+        this.cleanInstancesThrottleFactor = cleanInstancesThrottleFactor;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
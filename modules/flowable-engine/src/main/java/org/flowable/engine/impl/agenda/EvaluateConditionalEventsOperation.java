@@ -92,7 +92,7 @@ public class EvaluateConditionalEventsOperation extends AbstractOperation {
                             boolean conditionIsTrue = false;
                             String conditionExpression = conditionalEventDefinition.getConditionExpression();
                             if (StringUtils.isNotEmpty(conditionExpression)) {
-                                Expression expression = CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager().createExpression(conditionExpression);
+                                Expression expression = ProcessDefinitionUtil.getExpression(parentExecution.getProcessDefinitionId(), conditionExpression);
                                 Object result = expression.getValue(parentExecution);
                                 if (result instanceof Boolean && (Boolean) result) {
                                     conditionIsTrue = true;
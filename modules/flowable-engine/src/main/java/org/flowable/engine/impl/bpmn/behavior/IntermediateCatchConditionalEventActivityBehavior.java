@@ -21,6 +21,7 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 
 public class IntermediateCatchConditionalEventActivityBehavior extends IntermediateCatchEventActivityBehavior {
 
@@ -51,7 +52,7 @@ public class IntermediateCatchConditionalEventActivityBehavior extends Intermedi
     @Override
     public void trigger(DelegateExecution execution, String triggerName, Object triggerData) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        Expression expression = processEngineConfiguration.getExpressionManager().createExpression(conditionExpression);
+        Expression expression = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), conditionExpression);
         Object result = expression.getValue(execution);
         
         if (result instanceof Boolean && (Boolean) result) {
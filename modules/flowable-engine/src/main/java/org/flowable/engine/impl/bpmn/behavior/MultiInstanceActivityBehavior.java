@@ -43,7 +43,6 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.scope.ScopeTypes;
-import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.delegate.BpmnError;
@@ -374,9 +373,6 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
     public boolean completionConditionSatisfied(DelegateExecution execution) {
         if (completionCondition != null) {
             
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            ExpressionManager expressionManager = processEngineConfiguration.getExpressionManager();
-            
             String activeCompletionCondition = null;
 
             if (CommandContextUtil.getProcessEngineConfiguration().isEnableProcessDefinitionInfoCache()) {
@@ -387,7 +383,7 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
                 activeCompletionCondition = completionCondition;
             }
             
-            Object value = expressionManager.createExpression(activeCompletionCondition).getValue(execution);
+            Object value = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), activeCompletionCondition).getValue(execution);
             
             if (!(value instanceof Boolean)) {
                 throw new FlowableIllegalArgumentException("completionCondition '" + activeCompletionCondition + "' does not evaluate to a boolean value");
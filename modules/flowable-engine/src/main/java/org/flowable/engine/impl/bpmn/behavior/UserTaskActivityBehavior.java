@@ -47,6 +47,7 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.IdentityLinkUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.engine.interceptor.CreateUserTaskAfterContext;
 import org.flowable.engine.interceptor.CreateUserTaskBeforeContext;
@@ -187,7 +188,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
             }
             
             if (StringUtils.isNotEmpty(activeTaskIdVariableName)) {
-                Expression expression = expressionManager.createExpression(userTask.getTaskIdVariableName());
+                Expression expression = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), userTask.getTaskIdVariableName());
                 String idVariableName = (String) expression.getValue(execution);
                 if (StringUtils.isNotEmpty(idVariableName)) {
                     execution.setVariable(idVariableName, task.getId());
@@ -204,7 +205,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         if (StringUtils.isNotEmpty(beforeContext.getName())) {
             String name = null;
             try {
-                Object nameValue = expressionManager.createExpression(beforeContext.getName()).getValue(execution);
+                Object nameValue = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), beforeContext.getName()).getValue(execution);
                 if (nameValue != null) {
                     name = nameValue.toString();
                 }
@@ -221,7 +222,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         if (StringUtils.isNotEmpty(beforeContext.getDescription())) {
             String description = null;
             try {
-                Object descriptionValue = expressionManager.createExpression(beforeContext.getDescription()).getValue(execution);
+                Object descriptionValue = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), beforeContext.getDescription()).getValue(execution);
                 if (descriptionValue != null) {
                     description = descriptionValue.toString();
                 }
@@ -236,14 +237,14 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
     protected void handleDueDate(CreateUserTaskBeforeContext beforeContext, ExpressionManager expressionManager, TaskEntity task, DelegateExecution execution,
             ProcessEngineConfigurationImpl processEngineConfiguration, String activeTaskDueDate) {
         if (StringUtils.isNotEmpty(beforeContext.getDueDate())) {
-            Object dueDate = expressionManager.createExpression(beforeContext.getDueDate()).getValue(execution);
+            Object dueDate = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), beforeContext.getDueDate()).getValue(execution);
             if (dueDate != null) {
                 if (dueDate instanceof Date) {
                     task.setDueDate((Date) dueDate);
                 } else if (dueDate instanceof String) {
                     String businessCalendarName = null;
                     if (StringUtils.isNotEmpty(userTask.getBusinessCalendarName())) {
-                        businessCalendarName = expressionManager.createExpression(userTask.getBusinessCalendarName()).getValue(execution).toString();
+                        businessCalendarName = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), userTask.getBusinessCalendarName()).getValue(execution).toString();
                     } else {
                         businessCalendarName = DueDateBusinessCalendar.NAME;
                     }
@@ -262,7 +263,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
     protected void handlePriority(CreateUserTaskBeforeContext beforeContext, ExpressionManager expressionManager, TaskEntity task, DelegateExecution execution,
             String activeTaskPriority) {
         if (StringUtils.isNotEmpty(beforeContext.getPriority())) {
-            final Object priority = expressionManager.createExpression(beforeContext.getPriority()).getValue(execution);
+            final Object priority = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), beforeContext.getPriority()).getValue(execution);
             if (priority != null) {
                 if (priority instanceof String) {
                     try {
@@ -284,7 +285,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         if (StringUtils.isNotEmpty(beforeContext.getCategory())) {
             String category = null;
             try {
-                Object categoryValue = expressionManager.createExpression(beforeContext.getCategory()).getValue(execution);
+                Object categoryValue = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), beforeContext.getCategory()).getValue(execution);
                 if (categoryValue != null) {
                     category = categoryValue.toString();
                 }
@@ -300,7 +301,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         if (StringUtils.isNotEmpty(beforeContext.getFormKey())) {
             String formKey = null;
             try {
-                Object formKeyValue = expressionManager.createExpression(beforeContext.getFormKey()).getValue(execution);
+                Object formKeyValue = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), beforeContext.getFormKey()).getValue(execution);
                 if (formKeyValue != null) {
                     formKey = formKeyValue.toString();
                 }
@@ -332,7 +333,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
             ProcessEngineConfigurationImpl processEngineConfiguration) {
 
         if (StringUtils.isNotEmpty(assignee)) {
-            Object assigneeExpressionValue = expressionManager.createExpression(assignee).getValue(execution);
+            Object assigneeExpressionValue = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), assignee).getValue(execution);
             String assigneeValue = null;
             if (assigneeExpressionValue != null) {
                 assigneeValue = assigneeExpressionValue.toString();
@@ -349,7 +350,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         }
 
         if (StringUtils.isNotEmpty(owner)) {
-            Object ownerExpressionValue = expressionManager.createExpression(owner).getValue(execution);
+            Object ownerExpressionValue = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), owner).getValue(execution);
             String ownerValue = null;
             if (ownerExpressionValue != null) {
                 ownerValue = ownerExpressionValue.toString();
@@ -368,7 +369,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         if (candidateGroups != null && !candidateGroups.isEmpty()) {
             List<IdentityLinkEntity> allIdentityLinkEntities = new ArrayList<>();
             for (String candidateGroup : candidateGroups) {
-                Expression groupIdExpr = expressionManager.createExpression(candidateGroup);
+                Expression groupIdExpr = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), candidateGroup);
                 Object value = groupIdExpr.getValue(execution);
                 if (value != null) {
                     Collection<String> candidates = extractCandidates(value);
@@ -394,7 +395,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
         if (candidateUsers != null && !candidateUsers.isEmpty()) {
             List<IdentityLinkEntity> allIdentityLinkEntities = new ArrayList<>();
             for (String candidateUser : candidateUsers) {
-                Expression userIdExpr = expressionManager.createExpression(candidateUser);
+                Expression userIdExpr = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), candidateUser);
                 Object value = userIdExpr.getValue(execution);
                 if (value != null) {
                     Collection<String> candidates = extractCandidates(value);
@@ -422,7 +423,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
             List<IdentityLinkEntity> customIdentityLinkEntities = new ArrayList<>();
             for (String customUserIdentityLinkType : userTask.getCustomUserIdentityLinks().keySet()) {
                 for (String userIdentityLink : userTask.getCustomUserIdentityLinks().get(customUserIdentityLinkType)) {
-                    Expression idExpression = expressionManager.createExpression(userIdentityLink);
+                    Expression idExpression = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), userIdentityLink);
                     Object value = idExpression.getValue(execution);
 
                     Collection<String> userIds = extractCandidates(value);
@@ -450,7 +451,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
             for (String customGroupIdentityLinkType : userTask.getCustomGroupIdentityLinks().keySet()) {
                 for (String groupIdentityLink : userTask.getCustomGroupIdentityLinks().get(customGroupIdentityLinkType)) {
 
-                    Expression idExpression = expressionManager.createExpression(groupIdentityLink);
+                    Expression idExpression = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), groupIdentityLink);
                     Object value = idExpression.getValue(execution);
                     Collection<String> groupIds = extractCandidates(value);
                     for (String groupId : groupIds) {
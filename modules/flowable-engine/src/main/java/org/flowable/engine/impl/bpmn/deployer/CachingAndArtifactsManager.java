@@ -50,6 +50,7 @@ public class CachingAndArtifactsManager {
             BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
+            precompileExpressions(cacheEntry, processEngineConfiguration);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
             addDefinitionInfoToCache(processDefinition, processEngineConfiguration, commandContext);
 
@@ -69,10 +70,19 @@ public class CachingAndArtifactsManager {
             BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
+            precompileExpressions(cacheEntry, processEngineConfiguration);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
         }
     }
 
+    protected void precompileExpressions(ProcessDefinitionCacheEntry cacheEntry, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (processEngineConfiguration.isEnableExpressionPrecompilation() && processEngineConfiguration.getProcessDefinitionExpressionPrecompiler() != null
+                && cacheEntry.getProcess() != null) {
+            cacheEntry.setPrecompiledExpressions(processEngineConfiguration.getProcessDefinitionExpressionPrecompiler()
+                    .precompile(cacheEntry.getProcess(), processEngineConfiguration.getExpressionManager()));
+        }
+    }
+
     protected void addDefinitionInfoToCache(ProcessDefinitionEntity processDefinition,
             ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
 
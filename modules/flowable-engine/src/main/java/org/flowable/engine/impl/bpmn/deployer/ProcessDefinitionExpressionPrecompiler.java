@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.deployer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.ConditionalEventDefinition;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventDefinition;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.ScriptTask;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.PrecompiledExpressions;
+
+/**
+ * Collects the expressions of a process that are evaluated at runtime (sequence flow conditions, skip expressions,
+ * multi instance conditions, conditional and timer events and the user task properties) and creates them once,
+ * so they can be kept in the process definition cache entry.
+ *
+ * Listener expressions, field injections and the loop cardinality are not collected, as these are already created when the process is parsed.
+ */
+public class ProcessDefinitionExpressionPrecompiler {
+
+    public PrecompiledExpressions precompile(Process process, ExpressionManager expressionManager) {
+        List<String> expressionTexts = new ArrayList<>();
+        for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class, true)) {
+            collectExpressions(flowElement, expressionTexts);
+        }
+        return PrecompiledExpressions.precompile(expressionManager, expressionTexts);
+    }
+
+    protected void collectExpressions(FlowElement flowElement, List<String> expressionTexts) {
+        if (flowElement instanceof SequenceFlow) {
+            SequenceFlow sequenceFlow = (SequenceFlow) flowElement;
+            expressionTexts.add(sequenceFlow.getConditionExpression());
+            expressionTexts.add(sequenceFlow.getSkipExpression());
+
+        } else if (flowElement instanceof Event && ((Event) flowElement).getEventDefinitions() != null) {
+            for (EventDefinition eventDefinition : ((Event) flowElement).getEventDefinitions()) {
+                collectExpressions(eventDefinition, expressionTexts);
+            }
+        }
+
+        if (flowElement instanceof Activity) {
+            MultiInstanceLoopCharacteristics loopCharacteristics = ((Activity) flowElement).getLoopCharacteristics();
+            if (loopCharacteristics != null) {
+                expressionTexts.add(loopCharacteristics.getCompletionCondition());
+            }
+        }
+
+        if (flowElement instanceof UserTask) {
+            UserTask userTask = (UserTask) flowElement;
+            expressionTexts.add(userTask.getName());
+            expressionTexts.add(userTask.getDocumentation());
+            expressionTexts.add(userTask.getAssignee());
+            expressionTexts.add(userTask.getOwner());
+            expressionTexts.add(userTask.getPriority());
+            expressionTexts.add(userTask.getDueDate());
+            expressionTexts.add(userTask.getCategory());
+            expressionTexts.add(userTask.getFormKey());
+            expressionTexts.add(userTask.getSkipExpression());
+            expressionTexts.add(userTask.getBusinessCalendarName());
+            expressionTexts.add(userTask.getTaskIdVariableName());
+            if (userTask.getCandidateUsers() != null) {
+                expressionTexts.addAll(userTask.getCandidateUsers());
+            }
+            if (userTask.getCandidateGroups() != null) {
+                expressionTexts.addAll(userTask.getCandidateGroups());
+            }
+            collectIdentityLinkExpressions(userTask.getCustomUserIdentityLinks(), expressionTexts);
+            collectIdentityLinkExpressions(userTask.getCustomGroupIdentityLinks(), expressionTexts);
+
+        } else if (flowElement instanceof ServiceTask) {
+            expressionTexts.add(((ServiceTask) flowElement).getSkipExpression());
+
+        } else if (flowElement instanceof ScriptTask) {
+            expressionTexts.add(((ScriptTask) flowElement).getSkipExpression());
+        }
+    }
+
+    protected void collectExpressions(EventDefinition eventDefinition, List<String> expressionTexts) {
+        if (eventDefinition instanceof ConditionalEventDefinition) {
+            expressionTexts.add(((ConditionalEventDefinition) eventDefinition).getConditionExpression());
+
+        } else if (eventDefinition instanceof TimerEventDefinition) {
+            TimerEventDefinition timerEventDefinition = (TimerEventDefinition) eventDefinition;
+            expressionTexts.add(timerEventDefinition.getTimeDate());
+            expressionTexts.add(timerEventDefinition.getTimeDuration());
+            expressionTexts.add(timerEventDefinition.getTimeCycle());
+            expressionTexts.add(timerEventDefinition.getCalendarName());
+        }
+    }
+
+    protected void collectIdentityLinkExpressions(Map<String, Set<String>> identityLinks, List<String> expressionTexts) {
+        if (identityLinks != null) {
+            for (Set<String> identityLinkExpressions : identityLinks.values()) {
+                expressionTexts.addAll(identityLinkExpressions);
+            }
+        }
+    }
+}
@@ -15,9 +15,14 @@ package org.flowable.engine.impl.cfg;
 
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Event;
@@ -28,12 +33,15 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.logging.LoggingSessionConstants;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.jobexecutor.TimerEventHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -49,6 +57,8 @@ import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tijs Rademakers
@@ -69,6 +79,67 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
         return null;
     }
 
+    @Override
+    protected void preloadVariableScopesInternal(List<Job> jobs, Collection<String> variableNames) {
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (Job job : jobs) {
+            if (job.getExecutionId() != null && job.getProcessInstanceId() != null) {
+                processInstanceIds.add(job.getProcessInstanceId());
+            }
+        }
+
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        // The ids are split in chunks, so that no statement exceeds the bind parameter limit of the database (e.g. 2100 on SQL Server)
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            preloadProcessInstances(processInstanceIdsChunk, variableNames);
+        }
+    }
+
+    protected void preloadProcessInstances(List<String> processInstanceIds, Collection<String> variableNames) {
+        // Fetching the complete execution trees puts them in the entity cache,
+        // which means that resolving the job execution and its parents afterwards does not hit the database
+        List<ExecutionEntity> executions = getExecutionEntityManager().findExecutionsByProcessInstanceIds(processInstanceIds);
+
+        InternalVariableInstanceQuery variableInstanceQuery = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .processInstanceIds(processInstanceIds)
+                .withoutTaskId();
+        if (variableNames != null) {
+            if (variableNames.isEmpty()) {
+                return;
+            }
+            variableInstanceQuery.names(variableNames);
+        }
+        List<VariableInstanceEntity> variableInstances = variableInstanceQuery.list();
+
+        Map<String, Map<String, VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new HashMap<>())
+                    .put(variableInstance.getName(), variableInstance);
+        }
+
+        for (ExecutionEntity execution : executions) {
+            if (execution instanceof ExecutionEntityImpl) {
+                ExecutionEntityImpl executionEntity = (ExecutionEntityImpl) execution;
+                // Executions that were already in the cache might have changed variables, those should be kept
+                if (variableNames != null) {
+                    // Only some of the variables have been fetched, the other ones are loaded lazily when needed
+                    Map<String, VariableInstanceEntity> executionVariableInstances = variableInstancesByExecutionId.get(execution.getId());
+                    if (executionVariableInstances != null && !executionEntity.isVariableInstancesInitialized()) {
+                        executionVariableInstances.forEach(executionEntity.getUsedVariablesCache()::putIfAbsent);
+                    }
+
+                } else if (!executionEntity.isVariableInstancesInitialized()) {
+                    Map<String, VariableInstanceEntity> executionVariableInstances = variableInstancesByExecutionId.get(execution.getId());
+                    executionEntity.internalSetVariableInstances(executionVariableInstances != null ? executionVariableInstances : new HashMap<>());
+                }
+            }
+        }
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // add link to execution
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -68,6 +69,8 @@ import org.flowable.common.engine.impl.cfg.mail.FlowableMailClientCreator;
 import org.flowable.common.engine.impl.cfg.mail.MailServerInfo;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeCache;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
@@ -161,6 +164,7 @@ import org.flowable.engine.impl.app.AppResourceConverterImpl;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeploymentHelper;
 import org.flowable.engine.impl.bpmn.deployer.CachingAndArtifactsManager;
+import org.flowable.engine.impl.bpmn.deployer.ProcessDefinitionExpressionPrecompiler;
 import org.flowable.engine.impl.bpmn.deployer.EventSubscriptionManager;
 import org.flowable.engine.impl.bpmn.deployer.ParsedDeploymentBuilderFactory;
 import org.flowable.engine.impl.bpmn.deployer.ProcessDefinitionDiagramHelper;
@@ -256,6 +260,7 @@ import org.flowable.engine.impl.history.HistoryConfigurationSettings;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.json.ActivityHistoryJsonMerger;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityStartHistoryJsonTransformer;
@@ -310,6 +315,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -318,6 +324,7 @@ import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
@@ -333,6 +340,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
@@ -416,6 +424,7 @@ import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJsonCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
@@ -542,6 +551,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected boolean isAsyncHistoryEnabled;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    protected AsyncHistoryJsonCodec asyncHistoryJsonCodec;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
@@ -592,11 +602,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected EventSubscriptionManager eventSubscriptionManager;
     protected BpmnDeploymentHelper bpmnDeploymentHelper;
     protected CachingAndArtifactsManager cachingAndArtifactsManager;
+    protected ProcessDefinitionExpressionPrecompiler processDefinitionExpressionPrecompiler;
     protected ProcessDefinitionDiagramHelper processDefinitionDiagramHelper;
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    protected long processDefinitionCacheMaxWeight = -1; // When set, limits the cache by the total size of the cached BPMN models instead of by the number of process definitions
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
+    protected boolean resolveProcessDefinitionResourceOnly; // When enabled, a process definition cache miss only fetches and parses the BPMN resource of the process definition instead of the whole deployment
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
@@ -779,6 +792,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // SCRIPTING ///////////////////////////////////////////////////////
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
     protected ScriptBindingsFactory scriptBindingsFactory;
     protected List<ResolverFactory> resolverFactories;
     protected Collection<ResolverFactory> preDefaultResolverFactories;
@@ -787,6 +802,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    protected TreeCache expressionTreeCache;
+    protected int expressionCompilationThreshold = -1; // negative value to disable the compilation of expressions
+    protected boolean enableExpressionPrecompilation = true;
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -1057,6 +1075,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void initCommandExecutors() {
         initDefaultCommandConfig();
         initSchemaCommandConfig();
+        initMetricsAgendaOperationRunner();
         initCommandInvoker();
         initCommandInterceptors();
         initCommandExecutor();
@@ -1451,6 +1470,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(EventLogEntryEntityImpl.class);
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(HistoricTaskLogEntryEntityImpl.class);
         }
+
+        defaultInitSharedCacheableEntityClasses(Arrays.asList(ProcessDefinitionEntityImpl.class, DeploymentEntityImpl.class));
     }
 
     public void initAsyncHistorySessionFactory() {
@@ -1622,6 +1643,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
             this.jobServiceConfiguration.setExpressionManager(this.expressionManager);
+            this.jobServiceConfiguration.setMetricsRecorder(this.metricsRecorder);
 
             List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
             if (customAsyncRunnableExecutionExceptionHandlers != null) {
@@ -1662,6 +1684,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setJobTypeAsyncHistory(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            if (asyncHistoryJsonCodec != null) {
+                jobServiceConfiguration.setAsyncHistoryJsonCodec(asyncHistoryJsonCodec);
+            }
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
 
@@ -1781,7 +1806,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1880,6 +1907,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             cachingAndArtifactsManager = new CachingAndArtifactsManager();
         }
 
+        if (processDefinitionExpressionPrecompiler == null) {
+            processDefinitionExpressionPrecompiler = new ProcessDefinitionExpressionPrecompiler();
+        }
+
         if (processDefinitionDiagramHelper == null) {
             processDefinitionDiagramHelper = new ProcessDefinitionDiagramHelper();
         }
@@ -2134,11 +2165,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobHandler.addHistoryJsonMerger(new ActivityHistoryJsonMerger());
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobZippedHandler.addHistoryJsonMerger(new ActivityHistoryJsonMerger());
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
             if (getCustomHistoryJobHandlers() != null) {
@@ -2338,6 +2371,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (idGenerator == null) {
             DbIdGenerator dbIdGenerator = new DbIdGenerator();
             dbIdGenerator.setIdBlockSize(idBlockSize);
+            dbIdGenerator.setPrefetchThreshold(idBlockPrefetchThreshold);
             idGenerator = dbIdGenerator;
         }
 
@@ -2497,6 +2531,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new ProcessEngineScriptTraceEnhancer());
+            scriptingEngines.setCacheCompiledScripts(cacheCompiledScripts);
+            scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
         }
     }
 
@@ -2523,6 +2559,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             expressionManager = processExpressionManager;
         }
+        if (expressionTreeCache != null && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setExpressionTreeCache(expressionTreeCache);
+        }
+        if (expressionCompilationThreshold >= 0 && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setExpressionCompilationThreshold(expressionCompilationThreshold);
+        }
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
         expressionManager.setAstFunctionCreators(astFunctionCreators);
     }
@@ -3096,6 +3138,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.cachingAndArtifactsManager = cachingAndArtifactsManager;
     }
 
+    public ProcessDefinitionExpressionPrecompiler getProcessDefinitionExpressionPrecompiler() {
+        return processDefinitionExpressionPrecompiler;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionExpressionPrecompiler(ProcessDefinitionExpressionPrecompiler processDefinitionExpressionPrecompiler) {
+        this.processDefinitionExpressionPrecompiler = processDefinitionExpressionPrecompiler;
+        return this;
+    }
+
     public ProcessDefinitionDiagramHelper getProcessDefinitionDiagramHelper() {
         return processDefinitionDiagramHelper;
     }
@@ -3191,6 +3242,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    /**
+     * Whether scripts of script engines that support compilation are compiled once and reused for later evaluations.
+     */
+    public ProcessEngineConfigurationImpl setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    /**
+     * The maximum number of compiled scripts that are kept, a value of 0 or less means no limit.
+     */
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -3442,6 +3517,45 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    /**
+     * Sets the number of evaluations after which a parsed expression is compiled into evaluation nodes that are specialized for its operators.
+     * A negative value (the default) disables the compilation.
+     */
+    public ProcessEngineConfigurationImpl setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
+    public TreeCache getExpressionTreeCache() {
+        return expressionTreeCache;
+    }
+
+    /**
+     * Sets the cache for the parsed expression trees, e.g. an {@link org.flowable.common.engine.impl.el.ExpressionTreeCache} that is shared with other engines
+     * that have the same function delegates and AST function creators. By default every expression manager has its own cache.
+     */
+    public ProcessEngineConfigurationImpl setExpressionTreeCache(TreeCache expressionTreeCache) {
+        this.expressionTreeCache = expressionTreeCache;
+        return this;
+    }
+
+    public boolean isEnableExpressionPrecompilation() {
+        return enableExpressionPrecompilation;
+    }
+
+    /**
+     * Whether the expressions of a process definition are created once when it is put in the process definition cache,
+     * so the runtime doesn't need to look them up or parse them again.
+     */
+    public ProcessEngineConfigurationImpl setEnableExpressionPrecompilation(boolean enableExpressionPrecompilation) {
+        this.enableExpressionPrecompilation = enableExpressionPrecompilation;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3898,6 +4012,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public boolean isResolveProcessDefinitionResourceOnly() {
+        return resolveProcessDefinitionResourceOnly;
+    }
+
+    /**
+     * When enabled, a process definition that is not in the process definition cache is resolved by deploying only its own BPMN resource
+     * instead of all resources of its deployment again. This only reduces the number of resources that a cache miss fetches and parses.
+     * The cold start of the engine is out of scope: no pre-parsed model is persisted, so the first use of every process definition
+     * after a start still parses its BPMN XML. The CMMN and DMN engines are out of scope as well and still resolve the whole deployment.
+     */
+    public ProcessEngineConfigurationImpl setResolveProcessDefinitionResourceOnly(boolean resolveProcessDefinitionResourceOnly) {
+        this.resolveProcessDefinitionResourceOnly = resolveProcessDefinitionResourceOnly;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -4491,6 +4629,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncHistoryJsonCodec getAsyncHistoryJsonCodec() {
+        return asyncHistoryJsonCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryJsonCodec(AsyncHistoryJsonCodec asyncHistoryJsonCodec) {
+        this.asyncHistoryJsonCodec = asyncHistoryJsonCodec;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -95,6 +95,12 @@ public class MultiSchemaMultiTenantProcessEngineConfiguration extends ProcessEng
         }
     }
 
+    @Override
+    public void initJobServiceConfiguration() {
+        super.initJobServiceConfiguration();
+        jobServiceConfiguration.setTenantInfoHolder(tenantInfoHolder);
+    }
+
     @Override
     public void initAsyncExecutor() {
 
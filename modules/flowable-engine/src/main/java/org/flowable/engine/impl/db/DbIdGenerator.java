@@ -13,39 +13,143 @@
 
 package org.flowable.engine.impl.db;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.IdBlock;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * Hands out ids from blocks that are reserved in the database (the next.dbid property).
+ *
+ * When a prefetch threshold is set, the next block is fetched in the background once the number of remaining ids of the current block
+ * drops below that threshold, so the thread that exhausts the block normally doesn't need to wait for the database.
+ * Fetching a block is retried when it fails because another node updated the property concurrently.
+ *
  * @author Tom Baeyens
  */
 public class DbIdGenerator implements IdGenerator {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbIdGenerator.class);
+
     protected int idBlockSize;
     protected long nextId;
     protected long lastId = -1;
 
+    /** The number of remaining ids of the current block at which the next block is prefetched. 0 or less disables prefetching. */
+    protected int prefetchThreshold;
+    protected ExecutorService prefetchExecutorService;
+    protected Future<IdBlock> prefetchedIdBlock;
+
+    protected int maxOptimisticLockRetries = 3;
+
     protected CommandExecutor commandExecutor;
     protected CommandConfig commandConfig;
 
+    protected final AtomicLong idBlockFetchCount = new AtomicLong();
+    protected final AtomicLong idBlockFetchTimeNanos = new AtomicLong();
+    protected final AtomicLong maxIdBlockFetchTimeNanos = new AtomicLong();
+    protected final AtomicLong optimisticLockRetryCount = new AtomicLong();
+    protected final AtomicLong blockingIdBlockFetchCount = new AtomicLong();
+
     @Override
     public synchronized String getNextId() {
         if (lastId < nextId) {
             getNewBlock();
         }
         long _nextId = nextId++;
+        if (prefetchThreshold > 0 && prefetchedIdBlock == null && lastId - _nextId < prefetchThreshold) {
+            prefetchNewBlock();
+        }
         return Long.toString(_nextId);
     }
 
     protected synchronized void getNewBlock() {
-        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+        if (prefetchedIdBlock == null || !prefetchedIdBlock.isDone()) {
+            blockingIdBlockFetchCount.incrementAndGet();
+        }
+
+        IdBlock idBlock = null;
+        if (prefetchedIdBlock != null) {
+            idBlock = getPrefetchedBlock();
+        }
+        if (idBlock == null) {
+            idBlock = fetchNewBlock();
+        }
         this.nextId = idBlock.getNextId();
         this.lastId = idBlock.getLastId();
     }
 
+    protected IdBlock getPrefetchedBlock() {
+        Future<IdBlock> idBlockFuture = prefetchedIdBlock;
+        prefetchedIdBlock = null;
+        try {
+            return idBlockFuture.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for the prefetched id block, fetching a new block");
+            return null;
+
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not prefetch id block, fetching a new block", e.getCause());
+            return null;
+        }
+    }
+
+    protected void prefetchNewBlock() {
+        prefetchedIdBlock = getOrCreatePrefetchExecutorService().submit(this::fetchNewBlock);
+    }
+
+    protected IdBlock fetchNewBlock() {
+        long start = System.nanoTime();
+        int retries = 0;
+        while (true) {
+            try {
+                IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+                recordFetchTime(System.nanoTime() - start);
+                return idBlock;
+
+            } catch (FlowableOptimisticLockingException e) {
+                if (retries >= maxOptimisticLockRetries) {
+                    throw e;
+                }
+                retries++;
+                optimisticLockRetryCount.incrementAndGet();
+                LOGGER.debug("Id block was taken concurrently, retrying ({}/{})", retries, maxOptimisticLockRetries);
+            }
+        }
+    }
+
+    protected void recordFetchTime(long fetchTimeNanos) {
+        idBlockFetchCount.incrementAndGet();
+        idBlockFetchTimeNanos.addAndGet(fetchTimeNanos);
+        maxIdBlockFetchTimeNanos.accumulateAndGet(fetchTimeNanos, Math::max);
+    }
+
+    protected synchronized ExecutorService getOrCreatePrefetchExecutorService() {
+        if (prefetchExecutorService == null) {
+            // A single thread that is only kept alive while blocks are fetched
+            prefetchExecutorService = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "flowable-id-block-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return prefetchExecutorService;
+    }
+
     public int getIdBlockSize() {
         return idBlockSize;
     }
@@ -54,6 +158,30 @@ public class DbIdGenerator implements IdGenerator {
         this.idBlockSize = idBlockSize;
     }
 
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(int prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public ExecutorService getPrefetchExecutorService() {
+        return prefetchExecutorService;
+    }
+
+    public void setPrefetchExecutorService(ExecutorService prefetchExecutorService) {
+        this.prefetchExecutorService = prefetchExecutorService;
+    }
+
+    public int getMaxOptimisticLockRetries() {
+        return maxOptimisticLockRetries;
+    }
+
+    public void setMaxOptimisticLockRetries(int maxOptimisticLockRetries) {
+        this.maxOptimisticLockRetries = maxOptimisticLockRetries;
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
@@ -69,4 +197,33 @@ public class DbIdGenerator implements IdGenerator {
     public void setCommandConfig(CommandConfig commandConfig) {
         this.commandConfig = commandConfig;
     }
+
+    /**
+     * The number of id blocks fetched from the database.
+     */
+    public long getIdBlockFetchCount() {
+        return idBlockFetchCount.get();
+    }
+
+    /**
+     * The total time spent fetching id blocks, including the optimistic locking retries.
+     */
+    public long getIdBlockFetchTimeNanos() {
+        return idBlockFetchTimeNanos.get();
+    }
+
+    public long getMaxIdBlockFetchTimeNanos() {
+        return maxIdBlockFetchTimeNanos.get();
+    }
+
+    public long getOptimisticLockRetryCount() {
+        return optimisticLockRetryCount.get();
+    }
+
+    /**
+     * The number of times a thread asking for an id had to wait for an id block to be fetched.
+     */
+    public long getBlockingIdBlockFetchCount() {
+        return blockingIdBlockFetchCount.get();
+    }
 }
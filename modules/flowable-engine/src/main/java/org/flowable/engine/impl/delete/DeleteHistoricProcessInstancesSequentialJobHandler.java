@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.delete;
 
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -21,15 +22,20 @@ import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.BulkDeleteHistoricProcessInstancesCmd;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -85,9 +91,19 @@ public class DeleteHistoricProcessInstancesSequentialJobHandler implements JobHa
         String status = DeleteProcessInstanceBatchConstants.STATUS_COMPLETED;
 
         HistoryService historyService = engineConfiguration.getHistoryService();
+        double throttleFactor = engineConfiguration.getCleanInstancesThrottleFactor();
+        long nextPartDelay = 0;
 
         try {
-            historyService.bulkDeleteHistoricProcessInstances(processInstanceIdsToDelete);
+            if (throttleFactor > 0) {
+                // The instances are deleted in their own transaction, so the time it takes includes executing the delete statements
+                long deleteStartTime = System.currentTimeMillis();
+                engineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(),
+                        new BulkDeleteHistoricProcessInstancesCmd(processInstanceIdsToDelete));
+                nextPartDelay = (long) ((System.currentTimeMillis() - deleteStartTime) * throttleFactor);
+            } else {
+                historyService.bulkDeleteHistoricProcessInstances(processInstanceIdsToDelete);
+            }
             ArrayNode deletedProcessInstanceIdsNode = resultNode.withArray("processInstanceIdsDeleted");
             processInstanceIdsToDelete.forEach(deletedProcessInstanceIdsNode::add);
 
@@ -112,16 +128,33 @@ public class DeleteHistoricProcessInstancesSequentialJobHandler implements JobHa
                     .status(DeleteProcessInstanceBatchConstants.STATUS_WAITING)
                     .create();
 
-            JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+            if (throttleFactor > 0) {
+                // The next part is always a timer job when throttling, so it is never executed sooner than the next timer acquisition
+                scheduleDelayedJob(engineConfiguration, nextBatchPart, nextPartDelay);
 
-            JobEntity nextJob = jobService.createJob();
-            nextJob.setJobHandlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE);
-            nextJob.setJobHandlerConfiguration(nextBatchPart.getId());
-            jobService.createAsyncJob(nextJob, false);
-            jobService.scheduleAsyncJob(nextJob);
+            } else {
+                JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+
+                JobEntity nextJob = jobService.createJob();
+                nextJob.setJobHandlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE);
+                nextJob.setJobHandlerConfiguration(nextBatchPart.getId());
+                jobService.createAsyncJob(nextJob, false);
+                jobService.scheduleAsyncJob(nextJob);
+            }
         }
     }
 
+    protected void scheduleDelayedJob(ProcessEngineConfigurationImpl engineConfiguration, BatchPart batchPart, long delay) {
+        TimerJobService timerJobService = engineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(Job.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(batchPart.getId());
+        timerJob.setDuedate(new Date(engineConfiguration.getClock().getCurrentTime().getTime() + delay));
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
     protected void failBatchPart(ProcessEngineConfigurationImpl engineConfiguration, BatchService batchService, BatchPart batchPart, Batch batch,
             String resultJson) {
         batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_FAILED, resultJson);
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.json;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getStringFromJson;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonMerger;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merges the start and the end of the same activity instance, coming from different history jobs, into the json of the finished activity.
+ * The historic activity instance is then inserted once, instead of being inserted and then updated.
+ *
+ * Only activity ends that have a runtime activity instance id are merged, and only when no other history json of the same execution
+ * or activity instance is transformed between the start and the end, as that json could rely on the activity instance being unfinished.
+ */
+public class ActivityHistoryJsonMerger implements HistoryJsonMerger {
+
+    @Override
+    public void merge(List<ObjectNode> historyNodes) {
+        for (int endIndex = 0; endIndex < historyNodes.size(); endIndex++) {
+            ObjectNode endNode = historyNodes.get(endIndex);
+            if (!HistoryJsonConstants.TYPE_ACTIVITY_END.equals(getType(endNode))) {
+                continue;
+            }
+
+            ObjectNode endData = getData(endNode);
+            if (endData == null) {
+                continue;
+            }
+
+            String runtimeActivityInstanceId = getStringFromJson(endData, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID);
+            if (StringUtils.isEmpty(runtimeActivityInstanceId)) {
+                continue;
+            }
+
+            int startIndex = findActivityStart(historyNodes, endIndex, runtimeActivityInstanceId, getStringFromJson(endData, HistoryJsonConstants.EXECUTION_ID));
+            if (startIndex >= 0) {
+                ObjectNode startNode = historyNodes.get(startIndex);
+                getData(startNode).setAll(endData);
+                startNode.put(HistoryJsonTransformer.FIELD_NAME_TYPE, HistoryJsonConstants.TYPE_ACTIVITY_FULL);
+
+                historyNodes.remove(endIndex);
+                endIndex--;
+            }
+        }
+    }
+
+    protected int findActivityStart(List<ObjectNode> historyNodes, int endIndex, String runtimeActivityInstanceId, String executionId) {
+        for (int i = endIndex - 1; i >= 0; i--) {
+            ObjectNode historyNode = historyNodes.get(i);
+            ObjectNode data = getData(historyNode);
+            if (data == null) {
+                continue;
+            }
+
+            if (runtimeActivityInstanceId.equals(getStringFromJson(data, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID))) {
+                return HistoryJsonConstants.TYPE_ACTIVITY_START.equals(getType(historyNode)) ? i : -1;
+            }
+
+            if (executionId != null && executionId.equals(getStringFromJson(data, HistoryJsonConstants.EXECUTION_ID))) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    protected String getType(ObjectNode historyNode) {
+        JsonNode typeNode = historyNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE);
+        return typeNode != null ? typeNode.asText() : null;
+    }
+
+    protected ObjectNode getData(ObjectNode historyNode) {
+        JsonNode dataNode = historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+        return dataNode instanceof ObjectNode ? (ObjectNode) dataNode : null;
+    }
+
+}
@@ -12,8 +12,13 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.util.Date;
+import java.util.List;
+
 import org.flowable.batch.api.BatchQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.HistoryCleaningManager;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delete.DeleteProcessInstanceBatchConstants;
@@ -47,14 +52,48 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
         }
 
         int batchSize = processEngineConfiguration.getCleanInstancesBatchSize();
+        HistoryCleaningManager historyCleaningManager = processEngineConfiguration.getHistoryCleaningManager();
 
-        HistoricProcessInstanceQuery query = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
-        query.deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        if (processEngineConfiguration.getCleanInstancesParallelism() > 1) {
+            deleteEndTimeRangesInParallel(historyCleaningManager, batchSize, processEngineConfiguration.getCleanInstancesParallelism());
+        } else {
+            HistoricProcessInstanceQuery query = historyCleaningManager.createHistoricProcessInstanceCleaningQuery();
+            query.deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        }
 
         BatchQuery batchCleaningQuery = processEngineConfiguration.getHistoryCleaningManager().createBatchCleaningQuery();
         if (batchCleaningQuery != null) {
             batchCleaningQuery.deleteWithRelatedData();
         }
     }
+
+    /**
+     * Splits the end times of the finished instances to clean into ranges of equal length and deletes every range with its own sequential batch.
+     */
+    protected void deleteEndTimeRangesInParallel(HistoryCleaningManager historyCleaningManager, int batchSize, int parallelism) {
+        Date firstEndTime = getFirstEndTime(historyCleaningManager.createHistoricProcessInstanceCleaningQuery().finished().orderByProcessInstanceEndTime().asc());
+        Date lastEndTime = getFirstEndTime(historyCleaningManager.createHistoricProcessInstanceCleaningQuery().finished().orderByProcessInstanceEndTime().desc());
+        if (firstEndTime == null || lastEndTime == null) {
+            // There is nothing to clean, the batch is created nevertheless to show that the cleanup was done
+            historyCleaningManager.createHistoricProcessInstanceCleaningQuery().deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+            return;
+        }
+
+        // Both the finished after and finished before conditions are inclusive, so the ranges end 1 millisecond before the next range starts
+        long rangeLength = (lastEndTime.getTime() - firstEndTime.getTime()) / parallelism + 1;
+        for (long rangeStart = firstEndTime.getTime(); rangeStart <= lastEndTime.getTime(); rangeStart += rangeLength) {
+            long rangeEnd = Math.min(rangeStart + rangeLength - 1, lastEndTime.getTime());
+            historyCleaningManager.createHistoricProcessInstanceCleaningQuery()
+                    .finished()
+                    .finishedAfter(new Date(rangeStart))
+                    .finishedBefore(new Date(rangeEnd))
+                    .deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        }
+    }
+
+    protected Date getFirstEndTime(HistoricProcessInstanceQuery query) {
+        List<HistoricProcessInstance> processInstances = query.listPage(0, 1);
+        return processInstances.isEmpty() ? null : processInstances.get(0).getEndTime();
+    }
     
 }
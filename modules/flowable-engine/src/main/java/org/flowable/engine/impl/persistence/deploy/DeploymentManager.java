@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +23,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
@@ -32,6 +34,7 @@ import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -126,6 +129,9 @@ public class DeploymentManager {
             }
 
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+            if (processEngineConfiguration.isResolveProcessDefinitionResourceOnly()) {
+                deployment = createDeploymentWithProcessDefinitionResource(deployment, processDefinition);
+            }
             deployment.setNew(false);
             deploy(deployment, null);
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
@@ -137,6 +143,36 @@ public class DeploymentManager {
         return cachedProcessDefinition;
     }
 
+    /**
+     * Creates a copy of the deployment that only contains the BPMN resource of the given process definition,
+     * so that the other resources of the deployment are not fetched and parsed again when resolving the process definition.
+     * A copy is used as the deployment entity itself could be used by the current command and should still return all its resources.
+     */
+    protected DeploymentEntity createDeploymentWithProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinition processDefinition) {
+        ResourceEntity resource = processEngineConfiguration.getResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(deployment.getId(), processDefinition.getResourceName());
+        if (resource == null) {
+            return deployment;
+        }
+
+        DeploymentEntity deploymentCopy = deploymentEntityManager.create();
+        deploymentCopy.setId(deployment.getId());
+        deploymentCopy.setName(deployment.getName());
+        deploymentCopy.setCategory(deployment.getCategory());
+        deploymentCopy.setKey(deployment.getKey());
+        deploymentCopy.setTenantId(deployment.getTenantId());
+        deploymentCopy.setDeploymentTime(deployment.getDeploymentTime());
+        deploymentCopy.setDerivedFrom(deployment.getDerivedFrom());
+        deploymentCopy.setDerivedFromRoot(deployment.getDerivedFromRoot());
+        deploymentCopy.setParentDeploymentId(deployment.getParentDeploymentId());
+        deploymentCopy.setEngineVersion(deployment.getEngineVersion());
+
+        Map<String, EngineResource> resources = new HashMap<>();
+        resources.put(resource.getName(), resource);
+        deploymentCopy.setResources(resources);
+        return deploymentCopy;
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
@@ -16,6 +16,8 @@ import java.io.Serializable;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.PrecompiledExpressions;
 import org.flowable.engine.repository.ProcessDefinition;
 
 /**
@@ -28,6 +30,7 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected transient PrecompiledExpressions precompiledExpressions;
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
@@ -59,4 +62,19 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.process = process;
     }
 
+    public PrecompiledExpressions getPrecompiledExpressions() {
+        return precompiledExpressions;
+    }
+
+    public void setPrecompiledExpressions(PrecompiledExpressions precompiledExpressions) {
+        this.precompiledExpressions = precompiledExpressions;
+    }
+
+    /**
+     * @return the expression for the given text that was created when the process definition was cached, or null if there is none
+     */
+    public Expression getPrecompiledExpression(String expressionText) {
+        return precompiledExpressions != null ? precompiledExpressions.get(expressionText) : null;
+    }
+
 }
@@ -32,6 +32,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSession;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSessionData;
@@ -63,7 +64,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -275,7 +276,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         persistentState.put("name", name);
         persistentState.put("lockTime", lockTime);
         persistentState.put("lockOwner", lockOwner);
-        persistentState.put("superExecution", this.superExecutionId);
+        persistentState.put("superExecutionId", this.superExecutionId);
         persistentState.put("rootProcessInstanceId", this.rootProcessInstanceId);
         persistentState.put("isMultiInstanceRoot", this.isMultiInstanceRoot);
         if (forcedUpdate) {
@@ -332,6 +333,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
             this.activityId = null;
             this.activityName = null;
         }
+        markDirty();
     }
 
     @Override
@@ -387,6 +389,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setBusinessKey(String businessKey) {
         this.businessKey = businessKey;
+        markDirty();
     }
 
     @Override
@@ -397,6 +400,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setBusinessStatus(String businessStatus) {
         this.businessStatus = businessStatus;
+        markDirty();
     }
 
     @Override
@@ -414,6 +418,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -528,6 +533,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.parentId = null;
         }
+        markDirty();
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -539,6 +545,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     public void setSuperExecutionId(String superExecutionId) {
         this.superExecutionId = superExecutionId;
+        markDirty();
     }
 
     @Override
@@ -559,6 +566,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.superExecutionId = null;
         }
+        markDirty();
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -605,6 +613,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.rootProcessInstanceId = null;
         }
+        markDirty();
     }
 
     @Override
@@ -615,6 +624,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
         this.rootProcessInstanceId = rootProcessInstanceId;
+        markDirty();
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -631,15 +641,18 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setScope(boolean isScope) {
         this.isScope = isScope;
+        markDirty();
     }
 
     public void setIsScope(boolean isScope) {
         this.isScope = isScope;
+        markDirty();
     }
 
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -991,6 +1004,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setParentId(String parentId) {
         this.parentId = parentId;
+        markDirty();
     }
 
     @Override
@@ -1000,6 +1014,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     public void setActivityId(String activityId) {
         this.activityId = activityId;
+        markDirty();
     }
 
     @Override
@@ -1014,10 +1029,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setConcurrent(boolean isConcurrent) {
         this.isConcurrent = isConcurrent;
+        markDirty();
     }
 
     public void setIsConcurrent(boolean isConcurrent) {
         this.isConcurrent = isConcurrent;
+        markDirty();
     }
 
     @Override
@@ -1032,15 +1049,18 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setActive(boolean isActive) {
         this.isActive = isActive;
+        markDirty();
     }
 
     public void setIsActive(boolean isActive) {
         this.isActive = isActive;
+        markDirty();
     }
 
     @Override
     public void inactivate() {
         this.isActive = false;
+        markDirty();
     }
 
     @Override
@@ -1089,6 +1109,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -1108,10 +1129,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setEventScope(boolean isEventScope) {
         this.isEventScope = isEventScope;
+        markDirty();
     }
 
     public void setIsEventScope(boolean isEventScope) {
         this.isEventScope = isEventScope;
+        markDirty();
     }
 
     @Override
@@ -1126,10 +1149,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
         this.isMultiInstanceRoot = isMultiInstanceRoot;
+        markDirty();
     }
 
     public void setIsMultiInstanceRoot(boolean isMultiInstanceRoot) {
         this.isMultiInstanceRoot = isMultiInstanceRoot;
+        markDirty();
     }
 
     @Override
@@ -1144,10 +1169,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     public void setIsCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
@@ -1167,6 +1194,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -1221,6 +1249,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setLockTime(Date lockTime) {
         this.lockTime = lockTime;
+        markDirty();
     }
 
     @Override
@@ -1231,6 +1260,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setLockOwner(String lockOwner) {
         this.lockOwner = lockOwner;
+        markDirty();
     }
 
     @Override
@@ -1284,6 +1314,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartActivityId(String startActivityId) {
         this.startActivityId = startActivityId;
+        markDirty();
     }
 
     @Override
@@ -1294,6 +1325,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartUserId(String startUserId) {
         this.startUserId = startUserId;
+        markDirty();
     }
 
     @Override
@@ -1304,6 +1336,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartTime(Date startTime) {
         this.startTime = startTime;
+        markDirty();
     }
 
     @Override
@@ -1314,6 +1347,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
         this.eventSubscriptionCount = eventSubscriptionCount;
+        markDirty();
     }
 
     @Override
@@ -1324,6 +1358,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setTaskCount(int taskCount) {
         this.taskCount = taskCount;
+        markDirty();
     }
 
     @Override
@@ -1334,6 +1369,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setJobCount(int jobCount) {
         this.jobCount = jobCount;
+        markDirty();
     }
 
     @Override
@@ -1344,6 +1380,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setTimerJobCount(int timerJobCount) {
         this.timerJobCount = timerJobCount;
+        markDirty();
     }
 
     @Override
@@ -1354,6 +1391,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
         this.suspendedJobCount = suspendedJobCount;
+        markDirty();
     }
 
     @Override
@@ -1364,6 +1402,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
         this.deadLetterJobCount = deadLetterJobCount;
+        markDirty();
     }
 
     @Override
@@ -1374,6 +1413,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setExternalWorkerJobCount(int externalWorkerJobCount) {
         this.externalWorkerJobCount = externalWorkerJobCount;
+        markDirty();
     }
 
     @Override
@@ -1384,6 +1424,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -1394,6 +1435,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
     
     @Override
@@ -1404,6 +1446,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCallbackId(String callbackId) {
         this.callbackId = callbackId;
+        markDirty();
     }
 
     @Override
@@ -1414,6 +1457,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCallbackType(String callbackType) {
         this.callbackType = callbackType;
+        markDirty();
     }
 
     @Override
@@ -1424,6 +1468,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setReferenceId(String referenceId) {
         this.referenceId = referenceId;
+        markDirty();
     }
 
     @Override
@@ -1434,11 +1479,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setReferenceType(String referenceType) {
         this.referenceType = referenceType;
+        markDirty();
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
         this.propagatedStageInstanceId = propagatedStageInstanceId;
+        markDirty();
     }
 
     @Override
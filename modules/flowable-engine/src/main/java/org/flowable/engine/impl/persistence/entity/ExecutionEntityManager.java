@@ -64,6 +64,11 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Fetches all executions of the given process instances with one query, making them available in the entity cache.
+     */
+    List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId);
 
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
@@ -211,6 +211,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findInactiveExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId) {
         return dataManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(activityId, processInstanceId);
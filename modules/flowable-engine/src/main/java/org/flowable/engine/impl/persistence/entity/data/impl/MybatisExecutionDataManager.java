@@ -187,6 +187,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getList("selectExecutionsByProcessInstanceIds", createSafeInValuesList(processInstanceIds));
+    }
+
     @Override
     public Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(final String processInstanceId) {
         HashMap<String, Object> params = new HashMap<>(2);
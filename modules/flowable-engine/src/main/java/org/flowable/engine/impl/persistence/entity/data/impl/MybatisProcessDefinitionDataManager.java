@@ -169,6 +169,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().directUpdate("updateProcessDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().invalidateSharedEntityCache(ProcessDefinitionEntityImpl.class);
     }
 
     @Override
@@ -177,6 +178,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         params.put("processDefinitionId", processDefinitionId);
         params.put("version", version);
         getDbSqlSession().directUpdate("updateProcessDefinitionVersionForProcessDefinitionId", params);
+        getDbSqlSession().invalidateSharedEntityCache(ProcessDefinitionEntityImpl.class);
     }
 
     protected void setSafeInValueLists(ProcessDefinitionQueryImpl processDefinitionQuery) {
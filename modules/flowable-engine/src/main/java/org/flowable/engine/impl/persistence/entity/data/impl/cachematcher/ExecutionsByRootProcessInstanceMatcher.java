@@ -12,17 +12,31 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByRootProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByRootProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
+
+    public static final CachedEntityIndex<ExecutionEntity> ROOT_PROCESS_INSTANCE_ID_INDEX = new CachedEntityIndex<>("rootProcessInstanceId", ExecutionEntity::getRootProcessInstanceId);
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
         return entity.getRootProcessInstanceId() != null && entity.getRootProcessInstanceId().equals(parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<ExecutionEntity> getIndex() {
+        return ROOT_PROCESS_INSTANCE_ID_INDEX;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
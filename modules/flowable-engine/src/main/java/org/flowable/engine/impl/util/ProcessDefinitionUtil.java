@@ -17,6 +17,7 @@ import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
@@ -115,6 +116,24 @@ public class ProcessDefinitionUtil {
         return null;
     }
 
+    /**
+     * Returns the expression for the given text, using the expression that was precompiled for the process definition when it is cached
+     * and creating a new one through the expression manager otherwise (e.g. for values overridden through the dynamic BPMN service).
+     */
+    public static Expression getExpression(String processDefinitionId, String expressionText) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processDefinitionId != null) {
+            ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getProcessDefinitionCache().get(processDefinitionId);
+            if (cacheEntry != null) {
+                Expression expression = cacheEntry.getPrecompiledExpression(expressionText);
+                if (expression != null) {
+                    return expression;
+                }
+            }
+        }
+        return processEngineConfiguration.getExpressionManager().createExpression(expressionText);
+    }
+
     public static boolean isProcessDefinitionSuspended(String processDefinitionId) {
         ProcessDefinitionEntity processDefinition = getProcessDefinitionFromDatabase(processDefinitionId);
         return processDefinition.isSuspended();
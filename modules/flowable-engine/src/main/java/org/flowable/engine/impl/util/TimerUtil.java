@@ -33,7 +33,6 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DurationBusinessCalendar;
-import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -68,7 +67,8 @@ public class TimerUtil {
 
         String businessCalendarRef = null;
         Expression expression = null;
-        ExpressionManager expressionManager = processEngineConfiguration.getExpressionManager();
+        // Start event timers are created without an execution, their expressions are created through the expression manager
+        String processDefinitionId = executionEntity != null ? executionEntity.getProcessDefinitionId() : null;
 
         // ACT-1415: timer-declaration on start-event may contain expressions NOT
         // evaluating variables but other context, evaluating should happen nevertheless
@@ -80,22 +80,22 @@ public class TimerUtil {
         if (StringUtils.isNotEmpty(timerEventDefinition.getTimeDate())) {
 
             businessCalendarRef = DueDateBusinessCalendar.NAME;
-            expression = expressionManager.createExpression(timerEventDefinition.getTimeDate());
+            expression = ProcessDefinitionUtil.getExpression(processDefinitionId, timerEventDefinition.getTimeDate());
 
         } else if (StringUtils.isNotEmpty(timerEventDefinition.getTimeCycle())) {
 
             businessCalendarRef = CycleBusinessCalendar.NAME;
-            expression = expressionManager.createExpression(timerEventDefinition.getTimeCycle());
+            expression = ProcessDefinitionUtil.getExpression(processDefinitionId, timerEventDefinition.getTimeCycle());
 
         } else if (StringUtils.isNotEmpty(timerEventDefinition.getTimeDuration())) {
 
             businessCalendarRef = DurationBusinessCalendar.NAME;
-            expression = expressionManager.createExpression(timerEventDefinition.getTimeDuration());
+            expression = ProcessDefinitionUtil.getExpression(processDefinitionId, timerEventDefinition.getTimeDuration());
         }
 
         if (StringUtils.isNotEmpty(timerEventDefinition.getCalendarName())) {
             businessCalendarRef = timerEventDefinition.getCalendarName();
-            Expression businessCalendarExpression = expressionManager.createExpression(businessCalendarRef);
+            Expression businessCalendarExpression = ProcessDefinitionUtil.getExpression(processDefinitionId, businessCalendarRef);
             businessCalendarRef = businessCalendarExpression.getValue(scopeForExpression).toString();
         }
 
@@ -21,6 +21,7 @@ import org.flowable.engine.impl.Condition;
 import org.flowable.engine.impl.context.BpmnOverrideContext;
 import org.flowable.engine.impl.el.UelExpressionCondition;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -42,7 +43,7 @@ public class ConditionUtil {
 
         if (StringUtils.isNotEmpty(conditionExpression)) {
 
-            Expression expression = CommandContextUtil.getProcessEngineConfiguration().getExpressionManager().createExpression(conditionExpression);
+            Expression expression = ProcessDefinitionUtil.getExpression(execution.getProcessDefinitionId(), conditionExpression);
             Condition condition = new UelExpressionCondition(expression);
             return condition.evaluate(sequenceFlow.getId(), execution);
         } else {
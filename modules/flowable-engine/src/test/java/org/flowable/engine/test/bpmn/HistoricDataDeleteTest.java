@@ -48,6 +48,7 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesSequentialJobHandler;
 import org.flowable.engine.impl.delete.DeleteProcessInstanceBatchConstants;
@@ -947,6 +948,79 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testDeleteHistoricInstancesSequentiallyUsingThrottledBatch() {
+        try {
+            processEngineConfiguration.setCleanInstancesThrottleFactor(2);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 15; i++) {
+                processInstanceIds.add(runtimeService.startProcessInstanceByKey("startToEnd").getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                String batchId = historyService.createHistoricProcessInstanceQuery()
+                        .finished()
+                        .deleteSequentiallyUsingBatch(5, "Test Throttled Deletion");
+                batchesToRemove.add(batchId);
+
+                Job batchJob = managementService.createJobQuery().handlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE).singleResult();
+                Date firstPartStartTime = processEngineConfiguration.getClock().getCurrentTime();
+                managementService.executeJob(batchJob.getId());
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                // The next part is delayed with a timer job instead of being executed right away
+                assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(5);
+                assertThat(managementService.createJobQuery().handlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE).count()).isZero();
+                Job timerJob = managementService.createTimerJobQuery().handlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE).singleResult();
+                assertThat(timerJob).isNotNull();
+                assertThat(timerJob.getDuedate()).isAfterOrEqualTo(firstPartStartTime);
+
+                assertThat(managementService.createBatchPartQuery().list())
+                        .extracting(BatchPart::getStatus)
+                        .containsExactlyInAnyOrder(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED, DeleteProcessInstanceBatchConstants.STATUS_WAITING);
+
+                // Executing the remaining parts deletes the other finished instances and completes the batch
+                while (timerJob != null) {
+                    batchJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+                    managementService.executeJob(batchJob.getId());
+                    timerJob = managementService.createTimerJobQuery().handlerType(DeleteHistoricProcessInstancesSequentialJobHandler.TYPE).singleResult();
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+                assertThat(managementService.createBatchPartQuery().list())
+                        .extracting(BatchPart::getStatus)
+                        .containsOnly(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED)
+                        .hasSize(3);
+                assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                        .extracting(HistoricProcessInstance::getId)
+                        .containsExactlyInAnyOrderElementsOf(processInstanceIds.subList(10, 15));
+            }
+
+        } finally {
+            processEngineConfiguration.setCleanInstancesThrottleFactor(0);
+        }
+    }
+
     @Test
     @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
     public void testHistoryCleanupTimerJob() {
@@ -1070,6 +1144,81 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupTimerJobWithParallelEndTimeRanges() {
+        try {
+            processEngineConfiguration.setEnableHistoryCleaning(true);
+            processEngineConfiguration.setCleanInstancesParallelism(3);
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                processInstanceIds.add(runtimeService.startProcessInstanceByKey("startToEnd").getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                // The instances end one hour after each other, so every end time range has 2 of them
+                for (int i = 0; i < 6; i++) {
+                    cal.add(Calendar.HOUR_OF_DAY, 1);
+                    clock.setCurrentCalendar(cal);
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                managementService.handleHistoryCleanupTimerJob();
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                List<Batch> batches = managementService.createBatchQuery().list();
+                batches.forEach(batch -> batchesToRemove.add(batch.getId()));
+                assertThat(batches)
+                        .hasSize(3)
+                        .allSatisfy(batch -> {
+                            assertThat(batch.getBatchSearchKey()).isEqualTo("Flowable BPMN History Cleanup");
+                            assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                                    .isEqualTo("{"
+                                            + "  numberOfInstances: 2,"
+                                            + "  batchSize: 100,"
+                                            + "  query: {"
+                                            + "    finished: true,"
+                                            + "    finishedAfter: '${json-unit.any-string}',"
+                                            + "    finishedBefore: '${json-unit.any-string}'"
+                                            + "  },"
+                                            + "  sequential: true"
+                                            + "}");
+                        });
+
+                waitForJobExecutorToProcessAllJobsAndAllTimerJobs(10000, 200);
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                assertThat(managementService.createBatchQuery().status(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED).count()).isEqualTo(3);
+                assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                        .extracting(HistoricProcessInstance::getId)
+                        .containsExactlyInAnyOrderElementsOf(processInstanceIds.subList(6, 10));
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableHistoryCleaning(false);
+            processEngineConfiguration.setCleanInstancesParallelism(1);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
     @Test
     @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
     public void testDeleteSingleHistoricInstanceWithSingleMethodOnHistoryService() {
@@ -14,11 +14,21 @@ package org.flowable.engine.test.bpmn.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Date;
+
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteExclusiveAsyncJobsRunnable;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
 
@@ -57,4 +67,56 @@ public class AsyncExclusiveJobsTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    @Deployment
+    public void testGroupedExclusiveJobs() {
+        AsyncJobExecutorConfiguration asyncExecutorConfiguration = ((AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor()).getConfiguration();
+        boolean originalExclusiveJobGroupingEnabled = asyncExecutorConfiguration.isExclusiveJobGroupingEnabled();
+        asyncExecutorConfiguration.setExclusiveJobGroupingEnabled(true);
+        try {
+            // The five exclusive jobs of the process instance are acquired together and executed one after the other by one thread
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testGroupedExclusiveJobs");
+            assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(5);
+
+            waitForJobExecutorToProcessAllJobs(20000L, 200L);
+
+            assertThat(managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("theTask").count()).isEqualTo(1);
+            ExecutionEntity processInstanceExecution = (ExecutionEntity) runtimeService.createProcessInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .singleResult();
+            assertThat(processInstanceExecution.getLockTime()).isNull();
+
+        } finally {
+            asyncExecutorConfiguration.setExclusiveJobGroupingEnabled(originalExclusiveJobGroupingEnabled);
+        }
+    }
+
+    @Test
+    @Deployment
+    public void testGroupedExclusiveJobsWithLastJobDeletedByEarlierJob() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testGroupedExclusiveJobsWithLastJobDeletedByEarlierJob");
+
+        // The terminate end event after the first job ends the subprocess, which deletes the job of the second task
+        JobEntity terminatingJob = (JobEntity) managementService.createJobQuery().processInstanceId(processInstance.getId()).elementId("terminatingTask").singleResult();
+        JobEntity deletedJob = (JobEntity) managementService.createJobQuery().processInstanceId(processInstance.getId()).elementId("deletedTask").singleResult();
+        Date lockExpirationTime = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 3600000L);
+        for (JobEntity job : Arrays.asList(terminatingJob, deletedJob)) {
+            job.setLockOwner("testLockOwner");
+            job.setLockExpirationTime(lockExpirationTime);
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        new ExecuteExclusiveAsyncJobsRunnable(Arrays.asList(terminatingJob, deletedJob), jobServiceConfiguration,
+                jobServiceConfiguration.getJobEntityManager(), null).run();
+
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("afterSubProcess").count()).isEqualTo(1);
+        ExecutionEntity processInstanceExecution = (ExecutionEntity) runtimeService.createProcessInstanceQuery()
+                .processInstanceId(processInstance.getId())
+                .singleResult();
+        assertThat(processInstanceExecution.getLockTime()).isNull();
+        assertThat(processInstanceExecution.getLockOwner()).isNull();
+    }
+
 }
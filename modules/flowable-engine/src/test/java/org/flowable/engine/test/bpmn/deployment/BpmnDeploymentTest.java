@@ -294,6 +294,37 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         assertThat(processC.getDiagramResourceName()).isEqualTo("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testMultipleDiagramResourcesProvided.c.jpg");
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg",
+            "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml" })
+    public void testResolveProcessDefinitionResourceOnly() {
+        ProcessDefinition diagramProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("processDiagramProcess").singleResult();
+        ProcessDefinition emptyProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("emptyProcess").singleResult();
+
+        processEngineConfiguration.setResolveProcessDefinitionResourceOnly(true);
+        try {
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(diagramProcessDefinition.getId());
+            assertThat(bpmnModel.getMainProcess().getId()).isEqualTo("processDiagramProcess");
+
+            // Only the process definition of the resolved BPMN resource is cached
+            assertThat(processEngineConfiguration.getProcessDefinitionCache().contains(diagramProcessDefinition.getId())).isTrue();
+            assertThat(processEngineConfiguration.getProcessDefinitionCache().contains(emptyProcessDefinition.getId())).isFalse();
+
+            assertThat(repositoryService.getProcessDefinition(diagramProcessDefinition.getId()).getDiagramResourceName())
+                    .isEqualTo("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg");
+            assertThat(repositoryService.getDeploymentResourceNames(diagramProcessDefinition.getDeploymentId())).hasSize(3);
+
+            assertThat(repositoryService.getBpmnModel(emptyProcessDefinition.getId()).getMainProcess().getId()).isEqualTo("emptyProcess");
+            assertThat(processEngineConfiguration.getProcessDefinitionCache().contains(emptyProcessDefinition.getId())).isTrue();
+
+        } finally {
+            processEngineConfiguration.setResolveProcessDefinitionResourceOnly(false);
+        }
+    }
+
     @Test
     @Deployment
     public void testProcessDefinitionDescription() {
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.assertj.core.api.Condition;
+import org.flowable.common.engine.impl.metrics.DefaultMetricsRecorder;
+import org.flowable.common.engine.impl.metrics.MetricId;
+import org.flowable.common.engine.impl.metrics.MetricsCommandInterceptor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+import org.flowable.common.engine.impl.metrics.TimerStatistics;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MetricsRecorderTest {
+
+    protected ProcessEngine processEngine;
+    protected DefaultMetricsRecorder metricsRecorder;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        metricsRecorder = new DefaultMetricsRecorder();
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:metricsRecorderTest");
+        processEngineConfiguration.setMetricsRecorder(metricsRecorder);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addString("asyncTask.bpmn20.xml",
+                        "<definitions xmlns='http://www.omg.org/spec/BPMN/20100524/MODEL' xmlns:flowable='http://flowable.org/bpmn'"
+                                + " targetNamespace='http://flowable.org/bpmn'>"
+                                + "  <process id='asyncTask'>"
+                                + "    <startEvent id='start' />"
+                                + "    <sequenceFlow id='flow1' sourceRef='start' targetRef='task' />"
+                                + "    <userTask id='task' flowable:async='true' />"
+                                + "    <sequenceFlow id='flow2' sourceRef='task' targetRef='end' />"
+                                + "    <endEvent id='end' />"
+                                + "  </process>"
+                                + "</definitions>")
+                .deploy();
+        metricsRecorder.reset();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testMetricsAreRecordedForProcessExecution() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("asyncTask");
+        Job job = processEngine.getManagementService().createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        processEngine.getManagementService().executeJob(job.getId());
+
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        // Commands are tagged with their class name without the package
+        assertThat(metricsRecorder.getTimer(MetricsRecorder.COMMAND, MetricsRecorder.TAG_COMMAND, "StartProcessInstanceCmd",
+                MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_SUCCESS).getCount()).isEqualTo(1);
+        assertThat(metricsRecorder.getTimer(MetricsRecorder.COMMAND, MetricsRecorder.TAG_COMMAND, "ExecuteJobCmd",
+                MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_SUCCESS).getCount()).isEqualTo(1);
+
+        // The sql statements are tagged with the MyBatis statement id
+        assertThat(metricsRecorder.getTimers())
+                .hasKeySatisfying(new Condition<>(
+                        metricId -> isSqlStatement(metricId, "org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl."),
+                        "execution sql statement"))
+                .hasKeySatisfying(new Condition<>(
+                        metricId -> isSqlStatement(metricId, "org.flowable.job.service.impl.persistence.entity.JobEntityImpl."),
+                        "job sql statement"));
+
+        TimerStatistics flushTimer = metricsRecorder.getTimer(MetricsRecorder.DB_FLUSH);
+        assertThat(flushTimer).isNotNull();
+        assertThat(flushTimer.getCount()).isGreaterThanOrEqualTo(2);
+
+        assertThat(metricsRecorder.getTimer(MetricsRecorder.JOB_EXECUTION, MetricsRecorder.TAG_HANDLER_TYPE, AsyncContinuationJobHandler.TYPE,
+                MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_SUCCESS).getCount()).isEqualTo(1);
+
+        assertThat(metricsRecorder.getTotalCount(MetricsRecorder.ENTITY_CACHE)).isPositive();
+    }
+
+    @Test
+    public void testLambdaCommandsAreTaggedWithFixedName() {
+        processEngine.getManagementService().executeCommand(commandContext -> null);
+        processEngine.getManagementService().executeCommand(commandContext -> "other");
+
+        Map<MetricId, TimerStatistics> timers = metricsRecorder.getTimers();
+        assertThat(timers.keySet())
+                .filteredOn(metricId -> MetricsRecorder.COMMAND.equals(metricId.getName()))
+                .extracting(metricId -> metricId.getTag(MetricsRecorder.TAG_COMMAND))
+                .containsExactly(MetricsCommandInterceptor.LAMBDA_COMMAND_NAME);
+    }
+
+    protected boolean isSqlStatement(MetricId metricId, String namespace) {
+        return MetricsRecorder.SQL_STATEMENT.equals(metricId.getName()) && metricId.getTag(MetricsRecorder.TAG_STATEMENT).startsWith(namespace);
+    }
+}
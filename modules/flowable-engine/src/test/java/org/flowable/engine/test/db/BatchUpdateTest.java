@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchUpdateTest extends PluggableFlowableTestCase {
+
+    protected boolean originalBatchUpdateEnabled;
+
+    @BeforeEach
+    protected void setUp() {
+        this.originalBatchUpdateEnabled = processEngineConfiguration.getDbSqlSessionFactory().isBatchUpdateEnabled();
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateEnabled(true);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateEnabled(originalBatchUpdateEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testParallelMultiInstanceWithBatchUpdates() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parallelMultiInstance")
+                .variable("nrOfLoops", 5)
+                .start();
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(5);
+
+        // Suspending updates all executions and tasks of the process instance in one flush
+        runtimeService.suspendProcessInstanceById(processInstance.getId());
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).suspended().count()).isEqualTo(5);
+        runtimeService.activateProcessInstanceById(processInstance.getId());
+
+        for (Task parallelTask : tasks) {
+            taskService.complete(parallelTask.getId());
+        }
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("nextTask");
+        taskService.complete(task.getId());
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testOptimisticLockingWithBatchUpdates() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parallelMultiInstance")
+                .variable("nrOfLoops", 3)
+                .start();
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(3);
+
+        // Makes the revision of the second task stale
+        taskService.setPriority(tasks.get(1).getId(), 99);
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+            for (Task taskToUpdate : tasks) {
+                TaskEntity taskEntity = (TaskEntity) taskToUpdate;
+                taskEntity.setDescription("batched update");
+                dbSqlSession.update(taskEntity);
+            }
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        // The batch was rolled back, so none of the tasks got the new description
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDescription("batched update").count()).isZero();
+    }
+
+}
@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.engine.impl.db.DbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class DbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testIdsAreUniqueWithPrefetching() {
+        DbIdGenerator idGenerator = createIdGenerator(10, 5);
+        DbIdGenerator otherIdGenerator = createIdGenerator(10, 0);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(idGenerator.getNextId());
+            ids.add(otherIdGenerator.getNextId());
+        }
+
+        assertThat(ids).hasSize(200);
+        assertThat(idGenerator.getIdBlockFetchCount()).isBetween(10L, 11L);
+        assertThat(otherIdGenerator.getIdBlockFetchCount()).isEqualTo(10);
+        assertThat(otherIdGenerator.getBlockingIdBlockFetchCount()).isEqualTo(10);
+    }
+
+    protected DbIdGenerator createIdGenerator(int idBlockSize, int prefetchThreshold) {
+        DbIdGenerator idGenerator = new DbIdGenerator();
+        idGenerator.setIdBlockSize(idBlockSize);
+        idGenerator.setPrefetchThreshold(prefetchThreshold);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+        return idGenerator;
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.persistence.cache.DefaultSharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SharedEntityCacheTest extends PluggableFlowableTestCase {
+
+    protected SharedEntityCache originalSharedEntityCache;
+    protected SharedEntityCache sharedEntityCache;
+
+    @BeforeEach
+    protected void setUp() {
+        this.originalSharedEntityCache = processEngineConfiguration.getDbSqlSessionFactory().getSharedEntityCache();
+        this.sharedEntityCache = new DefaultSharedEntityCache(10);
+        processEngineConfiguration.getDbSqlSessionFactory().setSharedEntityCache(sharedEntityCache);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setSharedEntityCache(originalSharedEntityCache);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessDefinitionIsSharedBetweenCommands() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+
+        ProcessDefinitionEntity first = findProcessDefinition(processDefinition.getId());
+        assertThat(sharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinition.getId())).isNotNull();
+
+        ProcessDefinitionEntity second = findProcessDefinition(processDefinition.getId());
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.getRevision()).isEqualTo(first.getRevision());
+        assertThat(second.getKey()).isEqualTo("oneTaskProcess");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessDefinitionUpdateInvalidatesSharedCache() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        assertThat(findProcessDefinition(processDefinition.getId()).isSuspended()).isFalse();
+
+        repositoryService.suspendProcessDefinitionById(processDefinition.getId());
+        assertThat(sharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinition.getId())).isNull();
+        assertThat(findProcessDefinition(processDefinition.getId()).isSuspended()).isTrue();
+
+        repositoryService.activateProcessDefinitionById(processDefinition.getId());
+        assertThat(findProcessDefinition(processDefinition.getId()).isSuspended()).isFalse();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessDefinitionExpiresAfterTimeToLive() {
+        AtomicLong currentTime = new AtomicLong(1000);
+        SharedEntityCache expiringSharedEntityCache = new DefaultSharedEntityCache(10, 500) {
+
+            @Override
+            protected long currentTimeMillis() {
+                return currentTime.get();
+            }
+        };
+        processEngineConfiguration.getDbSqlSessionFactory().setSharedEntityCache(expiringSharedEntityCache);
+
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        findProcessDefinition(processDefinition.getId());
+        assertThat(expiringSharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinition.getId())).isNotNull();
+
+        currentTime.addAndGet(499);
+        assertThat(expiringSharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinition.getId())).isNotNull();
+
+        // A change made by another node is seen once the entry has expired
+        currentTime.addAndGet(1);
+        assertThat(expiringSharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinition.getId())).isNull();
+        assertThat(expiringSharedEntityCache.size()).isZero();
+
+        findProcessDefinition(processDefinition.getId());
+        assertThat(expiringSharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinition.getId())).isNotNull();
+    }
+
+    protected ProcessDefinitionEntity findProcessDefinition(String processDefinitionId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId));
+    }
+
+}
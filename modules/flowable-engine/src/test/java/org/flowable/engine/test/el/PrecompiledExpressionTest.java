@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.el.ProcessExpressionManager;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrecompiledExpressionTest {
+
+    protected ProcessEngine processEngine;
+    protected CountingExpressionManager expressionManager;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        expressionManager = new CountingExpressionManager();
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:precompiledExpressionTest");
+        processEngineConfiguration.setExpressionManager(expressionManager);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testTaskAndTimerExpressionsAreNotCreatedAtRuntime() {
+        processEngine.getRepositoryService().createDeployment()
+                .addString("timerOnTask.bpmn20.xml",
+                        "<definitions xmlns='http://www.omg.org/spec/BPMN/20100524/MODEL' xmlns:flowable='http://flowable.org/bpmn'"
+                                + " targetNamespace='http://flowable.org/bpmn'>"
+                                + "  <process id='timerOnTask'>"
+                                + "    <startEvent id='start' />"
+                                + "    <sequenceFlow id='flow1' sourceRef='start' targetRef='task' />"
+                                + "    <userTask id='task' name='${taskName}' flowable:assignee='${assignee}' />"
+                                + "    <boundaryEvent id='timer' attachedToRef='task' cancelActivity='true'>"
+                                + "      <timerEventDefinition>"
+                                + "        <timeDuration>${duration}</timeDuration>"
+                                + "      </timerEventDefinition>"
+                                + "    </boundaryEvent>"
+                                + "    <sequenceFlow id='flow2' sourceRef='task' targetRef='end' />"
+                                + "    <sequenceFlow id='flow3' sourceRef='timer' targetRef='end' />"
+                                + "    <endEvent id='end' />"
+                                + "  </process>"
+                                + "</definitions>")
+                .deploy();
+
+        // The expressions of the definition are created when it is put in the definition cache
+        assertThat(expressionManager.createdExpressions).contains("${taskName}", "${assignee}", "${duration}");
+        expressionManager.createdExpressions.clear();
+
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = processEngine.getRuntimeService().createProcessInstanceBuilder()
+                    .processDefinitionKey("timerOnTask")
+                    .variables(Map.of("taskName", "Review " + i, "assignee", "kermit", "duration", "PT1H"))
+                    .start();
+
+            Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertThat(task.getName()).isEqualTo("Review " + i);
+            assertThat(task.getAssignee()).isEqualTo("kermit");
+
+            Job timerJob = processEngine.getManagementService().createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertThat(timerJob).isNotNull();
+        }
+
+        assertThat(expressionManager.createdExpressions).doesNotContain("${taskName}", "${assignee}", "${duration}");
+    }
+
+    protected static class CountingExpressionManager extends ProcessExpressionManager {
+
+        protected final List<String> createdExpressions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Expression createExpression(String expression) {
+            createdExpressions.add(expression);
+            return super.createExpression(expression);
+        }
+    }
+}
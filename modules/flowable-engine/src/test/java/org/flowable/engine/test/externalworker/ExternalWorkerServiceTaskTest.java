@@ -20,10 +20,12 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -31,8 +33,10 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.impl.cmd.ClearProcessInstanceLockTimesCmd;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.interceptor.CreateExternalWorkerJobAfterContext;
 import org.flowable.engine.interceptor.CreateExternalWorkerJobBeforeContext;
 import org.flowable.engine.interceptor.CreateExternalWorkerJobInterceptor;
@@ -401,6 +405,93 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
         assertThat(taskService.createTaskQuery().list()).hasSize(1);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireMultipleJobsWithVariables() {
+        ProcessInstance processInstance1 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("age", 30)
+                .start();
+        ProcessInstance processInstance2 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "gonzo")
+                .start();
+        ProcessInstance processInstance3 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .start();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getVariables)
+                .containsExactlyInAnyOrder(
+                        tuple(processInstance1.getId(), Map.of("name", "kermit", "age", 30)),
+                        tuple(processInstance2.getId(), Map.of("name", "gonzo")),
+                        tuple(processInstance3.getId(), Collections.emptyMap())
+                );
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithVariableNames() {
+        ProcessInstance processInstance1 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("age", 30)
+                .variable("city", "Muppet Town")
+                .start();
+        ProcessInstance processInstance2 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("city", "Sesame Street")
+                .start();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Arrays.asList("name", "age"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getVariables)
+                .containsExactlyInAnyOrder(
+                        tuple(processInstance1.getId(), Map.of("name", "kermit", "age", 30)),
+                        tuple(processInstance2.getId(), Collections.emptyMap())
+                );
+
+        assertThatThrownBy(() -> managementService.createExternalWorkerJobAcquireBuilder().variableNames(null))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("variableNames must not be null");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testPreloadWithVariableNamesKeepsOtherVariablesLazy() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("age", 30)
+                .variable("city", "Muppet Town")
+                .start();
+
+        List<ExternalWorkerJob> jobs = managementService.createExternalWorkerJobQuery().list();
+
+        managementService.executeCommand(commandContext -> {
+            processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager()
+                    .preloadVariableScopes(jobs, Arrays.asList("name", "age"));
+
+            ExecutionEntityImpl execution = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext)
+                    .findById(processInstance.getId());
+            assertThat(execution.isVariableInstancesInitialized()).isFalse();
+            assertThat(execution.getUsedVariablesCache()).containsOnlyKeys("name", "age");
+
+            // The variables that were not preloaded are still available
+            assertThat(execution.getVariable("city")).isEqualTo("Muppet Town");
+            return null;
+        });
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
     void testSimpleAcquireOnlyBpmn() {
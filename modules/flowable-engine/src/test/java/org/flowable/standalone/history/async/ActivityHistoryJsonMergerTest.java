@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.json.ActivityHistoryJsonMerger;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ActivityHistoryJsonMergerTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testMergeActivityStartAndEnd() {
+        ObjectNode start = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_START, "activity1", "execution1");
+        data(start).put(HistoryJsonConstants.START_TIME, "2020-01-01T10:00:00.000Z");
+        ObjectNode otherExecution = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_START, "activity2", "execution2");
+        ObjectNode end = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_END, "activity1", "execution1");
+        data(end).put(HistoryJsonConstants.END_TIME, "2020-01-01T10:05:00.000Z");
+
+        List<ObjectNode> historyNodes = new ArrayList<>(Arrays.asList(start, otherExecution, end));
+        new ActivityHistoryJsonMerger().merge(historyNodes);
+
+        assertThat(historyNodes).containsExactly(start, otherExecution);
+        assertThat(start.get(HistoryJsonTransformer.FIELD_NAME_TYPE).asText()).isEqualTo(HistoryJsonConstants.TYPE_ACTIVITY_FULL);
+        assertThat(data(start).get(HistoryJsonConstants.START_TIME).asText()).isEqualTo("2020-01-01T10:00:00.000Z");
+        assertThat(data(start).get(HistoryJsonConstants.END_TIME).asText()).isEqualTo("2020-01-01T10:05:00.000Z");
+    }
+
+    @Test
+    public void testNoMergeWhenExecutionHasHistoryInBetween() {
+        ObjectNode start = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_START, "activity1", "execution1");
+        ObjectNode taskCreated = objectMapper.createObjectNode();
+        taskCreated.put(HistoryJsonTransformer.FIELD_NAME_TYPE, HistoryJsonConstants.TYPE_TASK_CREATED);
+        taskCreated.putObject(HistoryJsonTransformer.FIELD_NAME_DATA).put(HistoryJsonConstants.EXECUTION_ID, "execution1");
+        ObjectNode end = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_END, "activity1", "execution1");
+
+        List<ObjectNode> historyNodes = new ArrayList<>(Arrays.asList(start, taskCreated, end));
+        new ActivityHistoryJsonMerger().merge(historyNodes);
+
+        assertThat(historyNodes).containsExactly(start, taskCreated, end);
+        assertThat(start.get(HistoryJsonTransformer.FIELD_NAME_TYPE).asText()).isEqualTo(HistoryJsonConstants.TYPE_ACTIVITY_START);
+    }
+
+    @Test
+    public void testNoMergeWithoutActivityStart() {
+        ObjectNode end = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_END, "activity1", "execution1");
+        ObjectNode start = activityNode(HistoryJsonConstants.TYPE_ACTIVITY_START, "activity1", "execution1");
+
+        List<ObjectNode> historyNodes = new ArrayList<>(Arrays.asList(end, start));
+        new ActivityHistoryJsonMerger().merge(historyNodes);
+
+        assertThat(historyNodes).containsExactly(end, start);
+    }
+
+    protected ObjectNode activityNode(String type, String runtimeActivityInstanceId, String executionId) {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put(HistoryJsonTransformer.FIELD_NAME_TYPE, type);
+        ObjectNode data = historyNode.putObject(HistoryJsonTransformer.FIELD_NAME_DATA);
+        data.put(HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID, runtimeActivityInstanceId);
+        data.put(HistoryJsonConstants.EXECUTION_ID, executionId);
+        data.put(HistoryJsonConstants.ACTIVITY_ID, "task");
+        return historyNode;
+    }
+
+    protected ObjectNode data(ObjectNode historyNode) {
+        return (ObjectNode) historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+    }
+}
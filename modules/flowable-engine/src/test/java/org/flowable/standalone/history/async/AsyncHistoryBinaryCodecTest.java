@@ -0,0 +1,206 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobsCmd;
+import org.flowable.job.service.impl.history.async.BinaryAsyncHistoryJsonCodec;
+import org.flowable.job.service.impl.history.async.message.AsyncHistoryJobMessageReceiver;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs async history with the {@link BinaryAsyncHistoryJsonCodec}, through the async history executor,
+ * the execution of multiple history jobs in one transaction and the {@link AsyncHistoryJobMessageReceiver}.
+ */
+public class AsyncHistoryBinaryCodecTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryBinaryCodecTest() {
+        super("asyncHistoryBinaryCodecTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonCodec(new BinaryAsyncHistoryJsonCodec());
+        // Transactions with less history data than the threshold create a job per history json object instead of one job with an array
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(3);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(100);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            deleteDeployment(autoDeletedDeploymentId);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testHistoryJobsAreStoredInBinaryFormat() throws Exception {
+        String processInstanceId = startAndCompleteOneTaskProcess();
+
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).hasSizeGreaterThan(1);
+
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+        List<JsonNode> historyJsonNodes = new ArrayList<>();
+        for (HistoryJob historyJob : historyJobs) {
+            byte[] bytes = getHistoryJobBytes(historyJob.getId());
+            assertThat(bytes[0]).isNotIn((byte) '{', (byte) '[');
+
+            // The management service decodes the job with the configured codec and returns json text
+            String historyJson = managementService.getHistoryJobHistoryJson(historyJob.getId());
+            JsonNode historyJsonNode = objectMapper.readTree(historyJson);
+            assertThat(objectMapper.writeValueAsString(new BinaryAsyncHistoryJsonCodec().decode(bytes, objectMapper))).isEqualTo(historyJson);
+            historyJsonNodes.add(historyJsonNode);
+        }
+
+        // The start of the process instance creates a grouped job, setting a single variable doesn't
+        assertThat(historyJsonNodes).anyMatch(JsonNode::isArray);
+        assertThat(historyJsonNodes).anyMatch(JsonNode::isObject);
+        assertThat(historyJsonNodes.toString()).contains(processInstanceId);
+    }
+
+    @Test
+    public void testHistoryJobsAreExecutedByAsyncHistoryExecutor() {
+        String processInstanceId = startAndCompleteOneTaskProcess();
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertHistoryOfOneTaskProcess(processInstanceId);
+    }
+
+    @Test
+    public void testHistoryJobsAreExecutedInOneTransaction() {
+        String processInstanceId = startAndCompleteOneTaskProcess();
+
+        List<String> historyJobIds = managementService.createHistoryJobQuery().list().stream()
+                .map(HistoryJob::getId)
+                .collect(Collectors.toList());
+        assertThat(historyJobIds).hasSizeGreaterThan(1);
+
+        managementService.executeCommand(new ExecuteHistoryJobsCmd(historyJobIds, processEngineConfiguration.getJobServiceConfiguration()));
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertHistoryOfOneTaskProcess(processInstanceId);
+    }
+
+    @Test
+    public void testHistoryJobsAreDecodedByMessageReceiver() throws Exception {
+        startAndCompleteOneTaskProcess();
+
+        Map<String, String> expectedHistoryJson = new LinkedHashMap<>();
+        for (HistoryJob historyJob : managementService.createHistoryJobQuery().list()) {
+            expectedHistoryJson.put(historyJob.getId(), managementService.getHistoryJobHistoryJson(historyJob.getId()));
+        }
+
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+        Map<String, String> receivedHistoryJson = new LinkedHashMap<>();
+        AsyncHistoryJobMessageReceiver messageReceiver = new AsyncHistoryJobMessageReceiver(processEngineConfiguration.getCommandExecutor(),
+                (historyJobEntity, historyData) -> {
+                    try {
+                        receivedHistoryJson.put(historyJobEntity.getId(), objectMapper.writeValueAsString(historyData));
+                    } catch (JsonProcessingException e) {
+                        throw new FlowableException("Could not serialize history data", e);
+                    }
+                    return true;
+                },
+                processEngineConfiguration.getJobServiceConfiguration());
+
+        for (String historyJobId : expectedHistoryJson.keySet()) {
+            messageReceiver.messageForJobReceived(historyJobId);
+        }
+
+        assertThat(receivedHistoryJson).isEqualTo(expectedHistoryJson);
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+    }
+
+    protected String startAndCompleteOneTaskProcess() {
+        deployOneTaskTestProcess();
+
+        String processInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .businessKey("binaryCodec")
+                .variable("customer", "kermit")
+                .start()
+                .getId();
+        runtimeService.setVariable(processInstanceId, "amount", 42L);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.setAssignee(task.getId(), "fozzie");
+        taskService.complete(task.getId());
+        return processInstanceId;
+    }
+
+    protected void assertHistoryOfOneTaskProcess(String processInstanceId) {
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance).isNotNull();
+        assertThat(historicProcessInstance.getBusinessKey()).isEqualTo("binaryCodec");
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicTaskInstance.getAssignee()).isEqualTo("fozzie");
+        assertThat(historicTaskInstance.getEndTime()).isNotNull();
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).variableName("customer").singleResult().getValue())
+                .isEqualTo("kermit");
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).variableName("amount").singleResult().getValue())
+                .isEqualTo(42L);
+    }
+
+    protected byte[] getHistoryJobBytes(String historyJobId) {
+        return managementService.executeCommand((Command<byte[]>) commandContext -> {
+            JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+            HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobEntityManager().findById(historyJobId);
+            return historyJob.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJob.getScopeType());
+        });
+    }
+}
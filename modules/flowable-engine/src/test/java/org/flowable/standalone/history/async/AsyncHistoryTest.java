@@ -49,6 +49,7 @@ import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.ResetExpiredJobsRunnable;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobsCmd;
 import org.flowable.job.service.impl.history.async.AsyncHistoryDateUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.task.api.Task;
@@ -214,6 +215,35 @@ public class AsyncHistoryTest extends CustomConfigurationFlowableTestCase {
         assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
     }
 
+    @Test
+    public void testExecuteHistoryJobsInOneTransaction() {
+        deployOneTaskTestProcess();
+
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+        List<String> historyJobIds = managementService.createHistoryJobQuery().list().stream()
+                .map(HistoryJob::getId)
+                .collect(Collectors.toList());
+        assertThat(historyJobIds).hasSizeGreaterThan(1);
+
+        managementService.executeCommand(new ExecuteHistoryJobsCmd(historyJobIds, processEngineConfiguration.getJobServiceConfiguration()));
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime()).isNotNull();
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime()).isNotNull();
+
+        List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstanceId)
+                .list();
+        assertThat(historicActivityInstances)
+                .extracting(HistoricActivityInstance::getActivityId)
+                .contains("start", "theTask", "theEnd");
+        assertThat(historicActivityInstances)
+                .extracting(HistoricActivityInstance::getEndTime)
+                .doesNotContainNull();
+    }
+
     @Test
     @Deployment
     public void testSimpleStraightThroughProcess() {
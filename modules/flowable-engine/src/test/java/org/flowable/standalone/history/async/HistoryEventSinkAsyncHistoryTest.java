@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.impl.history.async.sink.HistoryEventSink;
+import org.flowable.job.service.impl.history.async.sink.HistoryEventSinkAsyncHistoryListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class HistoryEventSinkAsyncHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final RecordingHistoryEventSink HISTORY_EVENT_SINK = new RecordingHistoryEventSink();
+
+    public HistoryEventSinkAsyncHistoryTest() {
+        super("historyEventSinkAsyncHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryListener(new HistoryEventSinkAsyncHistoryListener(HISTORY_EVENT_SINK));
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @BeforeEach
+    protected void deployAndClearSink() {
+        deployOneTaskTestProcess();
+        HISTORY_EVENT_SINK.clear();
+    }
+
+    @Test
+    public void testCommittedHistoryWrittenToSink() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertThat(HISTORY_EVENT_SINK.getTransactions()).hasSize(1);
+        assertThat(HISTORY_EVENT_SINK.getTypes()).contains(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START);
+
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+        assertThat(HISTORY_EVENT_SINK.getTransactions()).hasSize(2);
+        assertThat(HISTORY_EVENT_SINK.getTypes()).contains(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END);
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    public void testRolledBackHistoryNotWrittenToSink() {
+        assertThatThrownBy(() -> managementService.executeCommand((Command<Void>) commandContext -> {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            throw new FlowableException("Rollback");
+        }))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Rollback");
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(HISTORY_EVENT_SINK.getTransactions()).isEmpty();
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+    }
+
+    @Test
+    public void testSinkFailureRollsBackTransaction() {
+        HISTORY_EVENT_SINK.setFailing(true);
+        try {
+            assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("oneTaskProcess"))
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessageContaining("Could not write")
+                    .hasRootCauseMessage("Sink failure");
+
+        } finally {
+            HISTORY_EVENT_SINK.setFailing(false);
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().count()).isZero();
+        assertThat(HISTORY_EVENT_SINK.getTransactions()).isEmpty();
+    }
+
+    protected static class RecordingHistoryEventSink implements HistoryEventSink {
+
+        protected final List<List<ObjectNode>> transactions = new CopyOnWriteArrayList<>();
+        protected volatile boolean failing;
+
+        @Override
+        public void write(List<ObjectNode> historyNodes) {
+            if (failing) {
+                throw new IllegalStateException("Sink failure");
+            }
+            transactions.add(new ArrayList<>(historyNodes));
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+
+        public List<List<ObjectNode>> getTransactions() {
+            return transactions;
+        }
+
+        public List<String> getTypes() {
+            List<String> types = new ArrayList<>();
+            for (List<ObjectNode> historyNodes : transactions) {
+                for (ObjectNode historyNode : historyNodes) {
+                    types.add(historyNode.path(HistoryJsonConstants.TYPE).asText());
+                }
+            }
+            return types;
+        }
+
+        public void clear() {
+            transactions.clear();
+            failing = false;
+        }
+    }
+}
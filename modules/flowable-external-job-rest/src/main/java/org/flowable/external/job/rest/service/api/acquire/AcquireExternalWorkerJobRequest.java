@@ -13,6 +13,7 @@
 package org.flowable.external.job.rest.service.api.acquire;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -43,6 +44,17 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When there are no jobs, wait up to this duration for jobs with the topic to be created before returning. No waiting when not set. "
+                    + "The async request timeout of the server is extended for waiting requests, "
+                    + "but proxies in front of the server should allow the request to take this long. ISO-8601 duration format PnDTnHnMn.nS.",
+            example = "PT30S", dataType = "string")
+    protected Duration waitTimeout;
+
+    @ApiModelProperty(value = "Only return the variables with the given names for the acquired jobs. All variables are returned when not set.",
+            example = "[\"orderId\", \"customerId\"]")
+    protected List<String> variables;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +102,20 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(List<String> variables) {
+        this.variables = variables;
+    }
 }
@@ -12,10 +12,12 @@
  */
 package org.flowable.external.job.rest.service.api.acquire;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -34,6 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -47,6 +50,11 @@ import io.swagger.annotations.ApiResponses;
 @Api(tags = { "Acquire and Execute" })
 public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResource {
 
+    /**
+     * The time a waiting acquire request may take longer than its wait timeout, to acquire the jobs after the wait timeout passed.
+     */
+    protected static final Duration WAIT_TIMEOUT_MARGIN = Duration.ofSeconds(10);
+
     protected final ExternalJobRestResponseFactory restResponseFactory;
 
     public ExternalWorkerAcquireJobResource(ExternalJobRestResponseFactory restResponseFactory) {
@@ -55,12 +63,12 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
 
     @ApiOperation(value = "Acquire External Worker Jobs", tags = { "Acquire and Execute" })
     @ApiResponses({
-            @ApiResponse(code = 200, message = "Indicates the jobs were acquired and locked."),
+            @ApiResponse(code = 200, message = "Indicates the jobs were acquired and locked. When a wait timeout is given, the response is sent when jobs were acquired or the wait timeout passed. The async request timeout of Spring MVC does not apply to waiting requests."),
             @ApiResponse(code = 400, message = "Indicates the request was invalid."),
             @ApiResponse(code = 403, message = "Indicates the user does not have the rights acquire the jobs."),
     })
     @PostMapping(value = "/acquire/jobs", produces = "application/json")
-    public List<AcquiredExternalWorkerJobResponse> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
+    public DeferredResult<List<AcquiredExternalWorkerJobResponse>> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
         ExternalWorkerJobAcquireBuilder acquireBuilder = createExternalWorkerAcquireBuilder();
 
         if (restApiInterceptor != null) {
@@ -81,10 +89,37 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
+        if (request.getVariables() != null) {
+            acquireBuilder.variableNames(request.getVariables());
+        }
+
+        Duration waitTimeout = request.getWaitTimeout();
+        if (waitTimeout != null && waitTimeout.isNegative()) {
+            throw new FlowableIllegalArgumentException("waitTimeout must not be negative");
+        }
+
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
+            if (waitTimeout != null && !waitTimeout.isZero()) {
+                // Long poll, the request does not hold a thread while waiting for jobs.
+                // The async request timeout of this request is set to outlast the wait timeout,
+                // otherwise a wait timeout longer than the configured async request timeout of Spring MVC would fail the request.
+                DeferredResult<List<AcquiredExternalWorkerJobResponse>> result = new DeferredResult<>(waitTimeout.plus(WAIT_TIMEOUT_MARGIN).toMillis());
+                acquireBuilder.acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries(), waitTimeout)
+                        .whenComplete((acquiredJobs, exception) -> {
+                            if (exception != null) {
+                                result.setErrorResult(exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception);
+                            } else {
+                                result.setResult(restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs));
+                            }
+                        });
+                return result;
+            }
+
             List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
                     .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
-            return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
+            DeferredResult<List<AcquiredExternalWorkerJobResponse>> result = new DeferredResult<>();
+            result.setResult(restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs));
+            return result;
         } else {
             throw new FlowableIllegalArgumentException("workerId is required");
         }
@@ -23,6 +23,8 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
@@ -40,6 +42,7 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.external.job.rest.service.ExternalJobRestSpringBootTest;
 import org.flowable.job.api.ExternalWorkerJob;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -141,6 +144,64 @@ class ExternalWorkerAcquireJobResourceTest {
         assertThatJson(body).isEqualTo("[]");
     }
 
+    @Test
+    void acquireJobsWithWaitTimeoutWithoutJobs() {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("waitTimeout", "PT0.2S");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody()).isEqualTo("[]");
+
+        request.put("waitTimeout", "-PT1S");
+        response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatJson(response.getBody()).isEqualTo("{"
+                + "  message: 'Bad request',"
+                + "  exception: 'waitTimeout must not be negative'"
+                + "}");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void acquireJobsWithWaitTimeoutIsNotifiedOfNewJobs() throws Exception {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("waitTimeout", "PT30S");
+
+        CompletableFuture<ResponseEntity<String>> responseFuture = CompletableFuture
+                .supplyAsync(() -> restTemplate.postForEntity("/service/acquire/jobs", request, String.class));
+
+        long waitUntil = System.currentTimeMillis() + 10_000;
+        while (!ExternalWorkerJobNotifier.getDefault().hasWaitingRequests("simple") && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(20);
+        }
+        assertThat(ExternalWorkerJobNotifier.getDefault().hasWaitingRequests("simple")).isTrue();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        // Well within the poll interval, so the request was woken up by the created job
+        ResponseEntity<String> response = responseFuture.get(3, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody())
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "  {"
+                        + "    processInstanceId: '" + processInstance.getId() + "',"
+                        + "    elementId: 'externalWorkerTask',"
+                        + "    lockOwner: 'testWorker1'"
+                        + "  }"
+                        + "]");
+    }
+
     @Test
     @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
     void acquireJobsReturnsProcessVariables() {
@@ -18,6 +18,7 @@ import java.util.List;
 import javax.script.ScriptEngine;
 
 import org.codehaus.groovy.jsr223.GroovyScriptEngineFactory;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 
 /**
  * @author Filip Grochowski
@@ -50,6 +51,18 @@ public class GroovyStaticScriptEngineFactory extends GroovyScriptEngineFactory {
         return "1.0";
     }
 
+    /**
+     * Scripts are statically compiled against the types of the bound variables,
+     * so a compiled script can't be reused for other bindings.
+     */
+    @Override
+    public Object getParameter(String key) {
+        if (ScriptingEngines.COMPILED_SCRIPTS_PARAMETER.equals(key)) {
+            return Boolean.FALSE;
+        }
+        return super.getParameter(key);
+    }
+
     /**
      * Returns an instance of the <code>ScriptEngine</code> associated with this
      * <code>ScriptEngineFactory</code>. A new ScriptEngine is generally
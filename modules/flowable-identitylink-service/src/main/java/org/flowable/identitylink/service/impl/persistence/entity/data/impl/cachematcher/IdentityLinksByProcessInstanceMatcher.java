@@ -12,17 +12,31 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 
 /**
  * @author Joram Barrez
  */
-public class IdentityLinksByProcessInstanceMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> {
+public class IdentityLinksByProcessInstanceMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> implements IndexedCachedEntityMatcher<IdentityLinkEntity> {
+
+    public static final CachedEntityIndex<IdentityLinkEntity> PROCESS_INSTANCE_ID_INDEX = new CachedEntityIndex<>("processInstanceId", IdentityLinkEntity::getProcessInstanceId);
 
     @Override
     public boolean isRetained(IdentityLinkEntity entity, Object parameter) {
         return entity.getProcessInstanceId() != null && entity.getProcessInstanceId().equals(parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<IdentityLinkEntity> getIndex() {
+        return PROCESS_INSTANCE_ID_INDEX;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -12,17 +12,31 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 
 /**
  * @author Joram Barrez
  */
-public class IdentityLinksByTaskIdMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> {
+public class IdentityLinksByTaskIdMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> implements IndexedCachedEntityMatcher<IdentityLinkEntity> {
+
+    public static final CachedEntityIndex<IdentityLinkEntity> TASK_ID_INDEX = new CachedEntityIndex<>("taskId", IdentityLinkEntity::getTaskId);
 
     @Override
     public boolean isRetained(IdentityLinkEntity entity, Object parameter) {
         return entity.getTaskId() != null && entity.getTaskId().equals(parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<IdentityLinkEntity> getIndex() {
+        return TASK_ID_INDEX;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.job.api;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -57,6 +58,13 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * Only return the variables with the given names for the acquired jobs.
+     * By default all variables visible from the scope of the job are returned.
+     * Only the variables with these names are loaded, the other variables of the scope are not fetched.
+     */
+    ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
@@ -80,4 +88,19 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id.
+     * When there are no jobs, this waits up to {@code waitTimeout} for jobs of the topic, without blocking the calling thread.
+     * The returned future completes with the acquired jobs, or with an empty list when no jobs could be acquired within the wait timeout.
+     * The default implementation does not wait and returns a completed future with the result of {@link #acquireAndLock(int, String, int)}.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     * @param waitTimeout the maximum time to wait for jobs when there are none
+     */
+    default CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries, Duration waitTimeout) {
+        return CompletableFuture.completedFuture(acquireAndLock(numberOfTasks, workerId, numberOfRetries));
+    }
+
 }
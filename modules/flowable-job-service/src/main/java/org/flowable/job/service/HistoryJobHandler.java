@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service;
 
+import java.util.List;
+
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
@@ -23,4 +25,14 @@ public interface HistoryJobHandler {
     String getType();
 
     void execute(HistoryJobEntity job, String configuration, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration);
+
+    /**
+     * Executes multiple jobs of the type of this handler in the current transaction.
+     * By default every job is executed on its own, handlers that can process the data of the jobs together should override this.
+     */
+    default void executeBatch(List<HistoryJobEntity> jobs, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        for (HistoryJobEntity job : jobs) {
+            execute(job, job.getJobHandlerConfiguration(), commandContext, jobServiceConfiguration);
+        }
+    }
 }
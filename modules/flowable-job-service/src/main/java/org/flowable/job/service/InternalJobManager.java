@@ -13,6 +13,8 @@
 
 package org.flowable.job.service;
 
+import java.util.Collection;
+
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -26,6 +28,24 @@ public interface InternalJobManager {
     void registerScopedInternalJobManager(String scopeType, InternalJobManager internalJobManager);
 
     VariableScope resolveVariableScope(Job job);
+
+    /**
+     * Gives the job manager the chance to load the variable scopes of the given jobs in bulk,
+     * before {@link #resolveVariableScope(Job)} is invoked for each of them.
+     */
+    default void preloadVariableScopes(Collection<? extends Job> jobs) {
+        preloadVariableScopes(jobs, null);
+    }
+
+    /**
+     * Like {@link #preloadVariableScopes(Collection)}, but only the variables with the given names are needed.
+     * The other variables of the scopes don't need to be loaded.
+     *
+     * @param variableNames the names of the variables that are needed, null if all variables are needed
+     */
+    default void preloadVariableScopes(Collection<? extends Job> jobs, Collection<String> variableNames) {
+
+    }
     
     boolean handleJobInsert(Job job);
     
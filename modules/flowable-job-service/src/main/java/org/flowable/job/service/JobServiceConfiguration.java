@@ -23,9 +23,12 @@ import java.util.Map;
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.ServiceConfigurator;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
+import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -37,6 +40,8 @@ import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.asyncexecutor.TimerJobScheduler;
 import org.flowable.job.service.impl.asyncexecutor.TimerJobSchedulerImpl;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJsonCodec;
+import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJsonCodec;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
@@ -110,11 +115,20 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
 
     protected ExpressionManager expressionManager;
     protected BusinessCalendarManager businessCalendarManager;
+    protected MetricsRecorder metricsRecorder;
 
     protected InternalJobManager internalJobManager;
     protected InternalJobCompatibilityManager internalJobCompatibilityManager;
     protected InternalJobParentStateResolver jobParentStateResolver;
 
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier = ExternalWorkerJobNotifier.getDefault();
+
+    /**
+     * The holder of the current tenant when the engine uses a schema per tenant, null otherwise.
+     * The current tenant is passed on to the threads acquiring the external worker jobs for waiting requests.
+     */
+    protected TenantInfoHolder tenantInfoHolder;
+
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
@@ -141,6 +155,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected AsyncHistoryJsonCodec asyncHistoryJsonCodec = new DefaultAsyncHistoryJsonCodec();
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -431,6 +446,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setInternalJobManager(InternalJobManager internalJobManager) {
         this.internalJobManager = internalJobManager;
     }
+
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+        return this;
+    }
+
+    public TenantInfoHolder getTenantInfoHolder() {
+        return tenantInfoHolder;
+    }
+
+    public JobServiceConfiguration setTenantInfoHolder(TenantInfoHolder tenantInfoHolder) {
+        this.tenantInfoHolder = tenantInfoHolder;
+        return this;
+    }
     
     public InternalJobCompatibilityManager getInternalJobCompatibilityManager() {
         return internalJobCompatibilityManager;
@@ -485,6 +518,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public JobServiceConfiguration setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -690,6 +732,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncHistoryJsonGzipCompressionEnabled = asyncHistoryJsonGzipCompressionEnabled;
     }
 
+    public AsyncHistoryJsonCodec getAsyncHistoryJsonCodec() {
+        return asyncHistoryJsonCodec;
+    }
+
+    public void setAsyncHistoryJsonCodec(AsyncHistoryJsonCodec asyncHistoryJsonCodec) {
+        this.asyncHistoryJsonCodec = asyncHistoryJsonCodec;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return asyncHistoryJsonGroupingEnabled;
     }
@@ -12,7 +12,11 @@
  */
 package org.flowable.job.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -49,6 +53,41 @@ public abstract class ScopeAwareInternalJobManager implements InternalJobManager
 
     protected abstract VariableScope resolveVariableScopeInternal(Job job);
 
+    @Override
+    public final void preloadVariableScopes(Collection<? extends Job> jobs) {
+        preloadVariableScopes(jobs, null);
+    }
+
+    @Override
+    public final void preloadVariableScopes(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        if (jobs == null || jobs.isEmpty()) {
+            return;
+        }
+
+        List<Job> internalJobs = new ArrayList<>(jobs.size());
+        Map<InternalJobManager, List<Job>> jobsByInternalJobManager = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            InternalJobManager internalJobManager = findInternalJobManager(job);
+            if (internalJobManager == null) {
+                internalJobs.add(job);
+            } else {
+                jobsByInternalJobManager.computeIfAbsent(internalJobManager, key -> new ArrayList<>()).add(job);
+            }
+        }
+
+        if (!internalJobs.isEmpty()) {
+            preloadVariableScopesInternal(internalJobs, variableNames);
+        }
+
+        for (Map.Entry<InternalJobManager, List<Job>> entry : jobsByInternalJobManager.entrySet()) {
+            entry.getKey().preloadVariableScopes(entry.getValue(), variableNames);
+        }
+    }
+
+    protected void preloadVariableScopesInternal(List<Job> jobs, Collection<String> variableNames) {
+        // Nothing to preload by default, the variable scopes are resolved one by one
+    }
+
     @Override
     public final boolean handleJobInsert(Job job) {
         InternalJobManager internalJobManager = findInternalJobManager(job);
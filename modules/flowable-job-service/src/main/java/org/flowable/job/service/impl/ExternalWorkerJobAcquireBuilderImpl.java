@@ -12,14 +12,20 @@
  */
 package org.flowable.job.service.impl;
 
+import java.security.Principal;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.identity.AuthenticationContext;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
@@ -40,6 +46,7 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Collection<String> variableNames;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,6 +116,16 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("variableNames must not be null");
+        }
+
+        this.variableNames = variableNames;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
@@ -123,6 +140,78 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return Collections.emptyList();
     }
 
+    @Override
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries, Duration waitTimeout) {
+        if (waitTimeout == null) {
+            throw new FlowableIllegalArgumentException("waitTimeout is null");
+        }
+
+        return acquireAndLockOrWait(numberOfTasks, workerId, numberOfRetries, System.nanoTime() + waitTimeout.toNanos());
+    }
+
+    protected CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockOrWait(int numberOfTasks, String workerId, int numberOfRetries, long deadline) {
+        ExternalWorkerJobNotifier notifier = jobServiceConfiguration.getExternalWorkerJobNotifier();
+        CompletableFuture<Void> jobsAvailable = notifier != null ? notifier.jobsAvailable(topic) : null;
+
+        List<AcquiredExternalWorkerJob> acquiredJobs;
+        try {
+            acquiredJobs = acquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        } catch (RuntimeException e) {
+            if (jobsAvailable != null) {
+                jobsAvailable.cancel(false);
+            }
+            throw e;
+        }
+        long remainingWaitTime = deadline - System.nanoTime();
+        if (!acquiredJobs.isEmpty() || remainingWaitTime <= 0 || jobsAvailable == null) {
+            if (jobsAvailable != null) {
+                jobsAvailable.cancel(false);
+            }
+            return CompletableFuture.completedFuture(acquiredJobs);
+        }
+
+        // The next acquisition runs on a thread of the notifier, which needs the authentication and the tenant of the caller
+        Principal principal = Authentication.getAuthenticationContext().getPrincipal();
+        TenantInfoHolder tenantInfoHolder = jobServiceConfiguration.getTenantInfoHolder();
+        String currentTenantId = tenantInfoHolder != null ? tenantInfoHolder.getCurrentTenantId() : null;
+
+        // Acquire again when a job was created for the topic or the poll interval passed, without blocking a thread while waiting
+        long waitTime = Math.min(remainingWaitTime, notifier.getPollInterval().toNanos());
+        return jobsAvailable
+                .completeOnTimeout(null, waitTime, TimeUnit.NANOSECONDS)
+                .thenComposeAsync(ignored -> acquireAndLockOrWaitInCallerContext(numberOfTasks, workerId, numberOfRetries, deadline,
+                        principal, currentTenantId), notifier.getExecutorService());
+    }
+
+    protected CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockOrWaitInCallerContext(int numberOfTasks, String workerId,
+            int numberOfRetries, long deadline, Principal principal, String currentTenantId) {
+
+        AuthenticationContext authenticationContext = Authentication.getAuthenticationContext();
+        TenantInfoHolder tenantInfoHolder = jobServiceConfiguration.getTenantInfoHolder();
+        Principal previousPrincipal = authenticationContext.getPrincipal();
+        String previousTenantId = tenantInfoHolder != null ? tenantInfoHolder.getCurrentTenantId() : null;
+
+        authenticationContext.setPrincipal(principal);
+        setCurrentTenantId(tenantInfoHolder, currentTenantId);
+        try {
+            return acquireAndLockOrWait(numberOfTasks, workerId, numberOfRetries, deadline);
+
+        } finally {
+            authenticationContext.setPrincipal(previousPrincipal);
+            setCurrentTenantId(tenantInfoHolder, previousTenantId);
+        }
+    }
+
+    protected void setCurrentTenantId(TenantInfoHolder tenantInfoHolder, String tenantId) {
+        if (tenantInfoHolder != null) {
+            if (tenantId != null) {
+                tenantInfoHolder.setCurrentTenantId(tenantId);
+            } else {
+                tenantInfoHolder.clearCurrentTenantId();
+            }
+        }
+    }
+
     public String getTopic() {
         return topic;
     }
@@ -146,4 +235,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
 }
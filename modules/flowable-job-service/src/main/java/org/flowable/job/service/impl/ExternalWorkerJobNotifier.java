@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process notification per topic for created external worker jobs, used by the acquire requests waiting for jobs.
+ *
+ * Waiting requests are not bound to a thread: they wait on a {@link CompletableFuture} and acquire again on the executor of this notifier
+ * when a job for their topic was created, or when the poll interval has passed (jobs created on other nodes are not notified).
+ *
+ * By default, all engines in the JVM share the {@link #getDefault() default notifier}, as they all acquire from the same external worker job table.
+ */
+public class ExternalWorkerJobNotifier {
+
+    protected static final ExternalWorkerJobNotifier DEFAULT = new ExternalWorkerJobNotifier();
+
+    protected final Map<String, Set<CompletableFuture<Void>>> waitingRequestsByTopic = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum time a waiting acquire request waits before it acquires again without being notified.
+     */
+    protected Duration pollInterval = Duration.ofSeconds(5);
+
+    /**
+     * The number of threads acquiring jobs for the waiting requests.
+     */
+    protected int acquireThreadPoolSize = 4;
+
+    protected volatile ExecutorService executorService;
+
+    public static ExternalWorkerJobNotifier getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a future that completes when an external worker job with the given topic was created.
+     * The future needs to be obtained before querying for jobs, to not miss jobs created during the query.
+     * It needs to be completed or cancelled when the request does not wait for it, to stop tracking the request.
+     */
+    public CompletableFuture<Void> jobsAvailable(String topic) {
+        CompletableFuture<Void> jobsAvailable = new CompletableFuture<>();
+        waitingRequestsByTopic.compute(topic, (key, waitingRequests) -> {
+            if (waitingRequests == null) {
+                waitingRequests = ConcurrentHashMap.newKeySet();
+            }
+            waitingRequests.add(jobsAvailable);
+            return waitingRequests;
+        });
+        // Also when the waiting request completes it on timeout, or cancels it when it does not need to wait
+        jobsAvailable.whenComplete((result, exception) -> removeWaitingRequest(topic, jobsAvailable));
+        return jobsAvailable;
+    }
+
+    protected void removeWaitingRequest(String topic, CompletableFuture<Void> jobsAvailable) {
+        // The set of the topic is removed together with its last waiting request, so topics without waiting requests are not kept
+        waitingRequestsByTopic.computeIfPresent(topic, (key, waitingRequests) -> {
+            waitingRequests.remove(jobsAvailable);
+            return waitingRequests.isEmpty() ? null : waitingRequests;
+        });
+    }
+
+    public void notifyJobsAvailable(String topic) {
+        if (topic != null) {
+            Set<CompletableFuture<Void>> waitingRequests = waitingRequestsByTopic.get(topic);
+            if (waitingRequests != null) {
+                for (CompletableFuture<Void> jobsAvailable : waitingRequests) {
+                    jobsAvailable.complete(null);
+                }
+            }
+        }
+    }
+
+    public boolean hasWaitingRequests(String topic) {
+        Set<CompletableFuture<Void>> waitingRequests = waitingRequestsByTopic.get(topic);
+        return waitingRequests != null && !waitingRequests.isEmpty();
+    }
+
+    public ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    AtomicInteger threadCount = new AtomicInteger();
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(acquireThreadPoolSize, acquireThreadPoolSize, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), runnable -> {
+                                Thread thread = new Thread(runnable, "flowable-external-worker-acquire-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    executorService = threadPoolExecutor;
+                }
+            }
+        }
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getAcquireThreadPoolSize() {
+        return acquireThreadPoolSize;
+    }
+
+    public void setAcquireThreadPoolSize(int acquireThreadPoolSize) {
+        this.acquireThreadPoolSize = acquireThreadPoolSize;
+    }
+
+}
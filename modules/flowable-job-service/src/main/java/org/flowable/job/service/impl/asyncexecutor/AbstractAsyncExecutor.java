@@ -14,9 +14,11 @@ package org.flowable.job.service.impl.asyncexecutor;
 
 import java.time.Duration;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
@@ -84,6 +86,78 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected abstract boolean executeAsyncJob(final JobInfo job, Runnable runnable);
 
+    @Override
+    public boolean executeExclusiveAsyncJobs(List<? extends JobInfo> jobs) {
+        if (isMessageQueueMode) {
+            // When running with a message queue based job executor,
+            // the jobs are not executed here.
+            return true;
+        }
+
+        if (isActive) {
+            return executeExclusiveAsyncJobsInternal(jobs);
+        } else {
+            temporaryJobQueue.addAll(jobs);
+        }
+
+        return true;
+    }
+
+    /**
+     * Executes the exclusive jobs of one scope. By default the jobs are offered one by one,
+     * executors that can run the jobs as one unit should override this.
+     */
+    protected boolean executeExclusiveAsyncJobsInternal(List<? extends JobInfo> jobs) {
+        boolean allJobsOffered = true;
+        for (JobInfo job : jobs) {
+            if (!executeAsyncJob(job, createRunnableForJob(job))) {
+                allJobsOffered = false;
+            }
+        }
+        return allJobsOffered;
+    }
+
+    protected Runnable createRunnableForExclusiveJobs(List<? extends JobInfo> jobs) {
+        // Half of the lock time leaves the job that is running when the limit is reached enough time to complete within the lock
+        return new ExecuteExclusiveAsyncJobsRunnable(jobs, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler,
+                getAsyncJobLockTimeInMillis() / 2);
+    }
+
+    @Override
+    public boolean executeHistoryJobs(List<? extends JobInfo> jobs) {
+        if (isMessageQueueMode) {
+            // When running with a message queue based job executor,
+            // the jobs are not executed here.
+            return true;
+        }
+
+        if (isActive) {
+            return executeHistoryJobsInternal(jobs);
+        } else {
+            temporaryJobQueue.addAll(jobs);
+        }
+
+        return true;
+    }
+
+    /**
+     * Executes a batch of history jobs. By default the jobs are offered one by one,
+     * executors that can run the jobs in one transaction should override this.
+     */
+    protected boolean executeHistoryJobsInternal(List<? extends JobInfo> jobs) {
+        boolean allJobsOffered = true;
+        for (JobInfo job : jobs) {
+            if (!executeAsyncJob(job, createRunnableForJob(job))) {
+                allJobsOffered = false;
+            }
+        }
+        return allJobsOffered;
+    }
+
+    protected Runnable createRunnableForHistoryJobs(List<? extends JobInfo> jobs) {
+        return new ExecuteHistoryJobsRunnable(jobs, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+    }
+
     protected void unlockOwnedJobs() {
         jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(configuration.getLockOwner(), configuration.getTenantId(), jobServiceConfiguration));
     }
@@ -139,8 +213,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String acquireRunnableThreadName = configuration.getAcquireRunnableThreadName();
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
+            AcquireAsyncJobsDueLifecycleListener lifecycleListener = asyncJobsDueLifecycleListener;
+            if (lifecycleListener == null && jobServiceConfiguration.getMetricsRecorder() != null) {
+                lifecycleListener = new MetricsAcquireAsyncJobsDueLifecycleListener(jobServiceConfiguration.getMetricsRecorder());
+            }
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse,
-                asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+                lifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
 
         }
     }
@@ -475,6 +553,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         configuration.setTenantId(tenantId);
     }
 
+    @Override
+    public AsyncJobNotificationChannel getAsyncJobNotificationChannel() {
+        return configuration.getAsyncJobNotificationChannel();
+    }
+
     public AsyncJobExecutorConfiguration getConfiguration() {
         return configuration;
     }
@@ -537,5 +620,25 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         public Duration getLockForceAcquireAfter() {
             return configuration.getAsyncJobsGlobalLockForceAcquireAfter();
         }
+
+        @Override
+        public AsyncJobNotificationChannel getAsyncJobNotificationChannel() {
+            return configuration.getAsyncJobNotificationChannel();
+        }
+
+        @Override
+        public Duration getMaxAcquireWaitTime() {
+            return configuration.getMaxAsyncJobAcquireWaitTime();
+        }
+
+        @Override
+        public boolean isExclusiveJobGroupingEnabled() {
+            return configuration.isExclusiveJobGroupingEnabled();
+        }
+
+        @Override
+        public int getHistoryJobBatchSize() {
+            return configuration.getHistoryJobBatchSize();
+        }
     }
 }
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -21,8 +24,12 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManager;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
+import org.flowable.job.service.InternalJobCompatibilityManager;
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireJobsWithGlobalAcquireLockCmd;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -88,6 +95,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    protected final Runnable jobsAvailableListener = this::jobsAvailable;
+    protected boolean jobsAvailable; // guarded by MONITOR
+    protected int emptyAcquireCycles;
+
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             AcquireAsyncJobsDueLifecycleListener lifecycleListener, AcquireJobsRunnableConfiguration configuration) {
         this.name = name;
@@ -108,6 +119,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
         final CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        AsyncJobNotificationChannel notificationChannel = configuration.getAsyncJobNotificationChannel();
+        if (notificationChannel != null) {
+            notificationChannel.addListener(getEngineName(), jobsAvailableListener);
+        }
+
         long millisToWait = 0L;
         while (!isInterrupted) {
 
@@ -140,6 +156,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             }
 
         }
+
+        if (notificationChannel != null) {
+            notificationChannel.removeListener(getEngineName(), jobsAvailableListener);
+        }
         LOGGER.info("stopped async job due acquisition for engine {}", getEngineName());
     }
 
@@ -148,7 +168,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     }
 
     protected long executeAcquireCycle(CommandExecutor commandExecutor) {
-        int remainingCapacity = asyncExecutor.getTaskExecutor().getRemainingCapacity();
+        int remainingCapacity = asyncExecutor.getRemainingCapacity();
         lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
         final long millisToWait;
@@ -185,6 +205,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
             lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
+            if (acquiredJobs.isEmpty()) {
+                return getNoJobsWaitTimeInMillis();
+            }
+            emptyAcquireCycles = 0;
+
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), getEngineName());
@@ -223,7 +248,54 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    /**
+     * The time to wait when no jobs were acquired. When a max acquire wait time is configured,
+     * this backs off exponentially from the default async job acquire wait time up to the max acquire wait time.
+     */
+    protected long getNoJobsWaitTimeInMillis() {
+        long waitTime = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        Duration maxWaitTime = configuration.getMaxAcquireWaitTime();
+        if (maxWaitTime == null || maxWaitTime.toMillis() <= waitTime || waitTime <= 0) {
+            return waitTime;
+        }
+
+        long backoffWaitTime = Math.min(waitTime << Math.min(emptyAcquireCycles, 20), maxWaitTime.toMillis());
+        if (backoffWaitTime < maxWaitTime.toMillis()) {
+            emptyAcquireCycles++;
+        }
+        return backoffWaitTime;
+    }
+
     protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
+        if (configuration.getHistoryJobBatchSize() > 1) {
+            // Only history jobs are batched, the other jobs are still grouped by their exclusive scope when enabled
+            List<JobInfoEntity> historyJobs = new ArrayList<>();
+            List<JobInfoEntity> otherJobs = new ArrayList<>();
+            for (JobInfoEntity job : acquiredJobs) {
+                if (job instanceof HistoryJobEntity) {
+                    historyJobs.add(job);
+                } else {
+                    otherJobs.add(job);
+                }
+            }
+
+            if (!historyJobs.isEmpty()) {
+                List<JobInfoEntity> rejected = offerHistoryJobsInBatches(historyJobs);
+                if (!otherJobs.isEmpty()) {
+                    rejected.addAll(offerJobsWithoutBatching(otherJobs));
+                }
+                return rejected;
+            }
+        }
+
+        return offerJobsWithoutBatching(acquiredJobs);
+    }
+
+    protected List<JobInfoEntity> offerJobsWithoutBatching(List<? extends JobInfoEntity> acquiredJobs) {
+        if (configuration.isExclusiveJobGroupingEnabled()) {
+            return offerJobsGroupedByExclusiveScope(acquiredJobs);
+        }
+
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs) {
             boolean jobSuccessFullyOffered = asyncExecutor.executeAsyncJob(job);
@@ -234,6 +306,104 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    /**
+     * Offers exclusive jobs of the same scope together, in the order in which they were acquired, so they are executed by one thread.
+     * Other jobs, and exclusive jobs that are the only acquired job of their scope, are offered one by one.
+     */
+    protected List<JobInfoEntity> offerJobsGroupedByExclusiveScope(List<? extends JobInfoEntity> acquiredJobs) {
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        Map<String, List<JobInfoEntity>> exclusiveJobsByScope = new LinkedHashMap<>();
+        for (JobInfoEntity job : acquiredJobs) {
+            String exclusiveScopeKey = getExclusiveScopeKey(job);
+            if (exclusiveScopeKey != null) {
+                exclusiveJobsByScope.computeIfAbsent(exclusiveScopeKey, key -> new ArrayList<>()).add(job);
+
+            } else if (!asyncExecutor.executeAsyncJob(job)) {
+                rejected.add(job);
+            }
+        }
+
+        for (List<JobInfoEntity> exclusiveJobs : exclusiveJobsByScope.values()) {
+            boolean jobsSuccessFullyOffered;
+            if (exclusiveJobs.size() == 1) {
+                jobsSuccessFullyOffered = asyncExecutor.executeAsyncJob(exclusiveJobs.get(0));
+            } else {
+                jobsSuccessFullyOffered = asyncExecutor.executeExclusiveAsyncJobs(exclusiveJobs);
+            }
+
+            if (!jobsSuccessFullyOffered) {
+                rejected.addAll(exclusiveJobs);
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Offers the acquired history jobs in batches of at most the history job batch size, in the order in which they were acquired.
+     * Each batch is executed in one transaction.
+     */
+    protected List<JobInfoEntity> offerHistoryJobsInBatches(List<? extends JobInfoEntity> historyJobs) {
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        int batchSize = configuration.getHistoryJobBatchSize();
+        List<JobInfoEntity> batch = new ArrayList<>(Math.min(batchSize, historyJobs.size()));
+        for (JobInfoEntity job : historyJobs) {
+            batch.add(job);
+            if (batch.size() == batchSize) {
+                offerHistoryJobs(batch, rejected);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            offerHistoryJobs(batch, rejected);
+        }
+        return rejected;
+    }
+
+    protected void offerHistoryJobs(List<JobInfoEntity> batch, List<JobInfoEntity> rejected) {
+        boolean jobsSuccessFullyOffered;
+        if (batch.size() == 1) {
+            jobsSuccessFullyOffered = asyncExecutor.executeAsyncJob(batch.get(0));
+        } else {
+            jobsSuccessFullyOffered = asyncExecutor.executeHistoryJobs(batch);
+        }
+
+        if (!jobsSuccessFullyOffered) {
+            rejected.addAll(batch);
+        }
+    }
+
+    protected String getExclusiveScopeKey(JobInfoEntity job) {
+        if (!(job instanceof AbstractRuntimeJobEntity) || !((AbstractRuntimeJobEntity) job).isExclusive()) {
+            return null;
+        }
+
+        AbstractRuntimeJobEntity runtimeJob = (AbstractRuntimeJobEntity) job;
+        InternalJobCompatibilityManager internalJobCompatibilityManager = asyncExecutor.getJobServiceConfiguration().getInternalJobCompatibilityManager();
+        if (internalJobCompatibilityManager != null && internalJobCompatibilityManager.isFlowable5Job(runtimeJob)) {
+            return null;
+        }
+
+        if (runtimeJob.getProcessInstanceId() != null) {
+            return "bpmn:" + runtimeJob.getProcessInstanceId();
+        } else if (runtimeJob.getScopeId() != null) {
+            return runtimeJob.getScopeType() + ":" + runtimeJob.getScopeId();
+        }
+        return null;
+    }
+
+    /**
+     * Invoked when new async jobs are available, wakes up the acquisition thread when it is waiting.
+     */
+    public void jobsAvailable() {
+        synchronized (MONITOR) {
+            jobsAvailable = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -251,11 +421,16 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("async job acquisition for engine {}, thread sleeping for {} millis", getEngineName(), millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    // A notification received while acquiring could be for a job that was committed after the acquire query ran
+                    if (!isInterrupted && !jobsAvailable) {
                         isWaiting.set(true);
                         lifecycleListener.startWaiting(getEngineName(), millisToWait);
                         MONITOR.wait(millisToWait);
                     }
+                    if (jobsAvailable) {
+                        jobsAvailable = false;
+                        emptyAcquireCycles = 0;
+                    }
                 }
 
                 if (LOGGER.isDebugEnabled()) {
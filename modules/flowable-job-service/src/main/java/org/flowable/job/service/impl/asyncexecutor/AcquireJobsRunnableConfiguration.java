@@ -14,6 +14,8 @@ package org.flowable.job.service.impl.asyncexecutor;
 
 import java.time.Duration;
 
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
+
 /**
  * @author Filip Hrisafov
  */
@@ -60,4 +62,20 @@ public interface AcquireJobsRunnableConfiguration {
     Duration getLockPollRate();
 
     Duration getLockForceAcquireAfter();
+
+    default AsyncJobNotificationChannel getAsyncJobNotificationChannel() {
+        return null;
+    }
+
+    default Duration getMaxAcquireWaitTime() {
+        return null;
+    }
+
+    default boolean isExclusiveJobGroupingEnabled() {
+        return false;
+    }
+
+    default int getHistoryJobBatchSize() {
+        return 1;
+    }
 }
@@ -12,9 +12,12 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
 
 /**
  * @author Tijd Rademakers
@@ -38,6 +41,35 @@ public interface AsyncExecutor {
      */
     boolean executeAsyncJob(JobInfo job);
 
+    /**
+     * Offers exclusive jobs that belong to the same process or case instance to this {@link AsyncExecutor}.
+     * The jobs are executed one after the other, so the scope only needs to be locked once.
+     * Returns false if not all of the jobs could be offered.
+     */
+    default boolean executeExclusiveAsyncJobs(List<? extends JobInfo> jobs) {
+        boolean allJobsOffered = true;
+        for (JobInfo job : jobs) {
+            if (!executeAsyncJob(job)) {
+                allJobsOffered = false;
+            }
+        }
+        return allJobsOffered;
+    }
+
+    /**
+     * Offers a batch of history jobs to this {@link AsyncExecutor}, which are executed together in one transaction.
+     * Returns false if not all of the jobs could be offered.
+     */
+    default boolean executeHistoryJobs(List<? extends JobInfo> jobs) {
+        boolean allJobsOffered = true;
+        for (JobInfo job : jobs) {
+            if (!executeAsyncJob(job)) {
+                allJobsOffered = false;
+            }
+        }
+        return allJobsOffered;
+    }
+
     /* Getters and Setters */
 
     void setJobServiceConfiguration(JobServiceConfiguration jobServiceConfiguration);
@@ -113,4 +145,20 @@ public interface AsyncExecutor {
      */
     void setTaskExecutor(AsyncTaskExecutor taskExecutor);
 
+    /**
+     * @return the number of jobs that can still be offered to this async executor
+     */
+    default int getRemainingCapacity() {
+        return getTaskExecutor().getRemainingCapacity();
+    }
+
+    /**
+     * The optional channel through which async executors are notified that new async jobs are available.
+     *
+     * @return the notification channel, or null when the async executor only polls for new jobs
+     */
+    default AsyncJobNotificationChannel getAsyncJobNotificationChannel() {
+        return null;
+    }
+
 }
@@ -15,6 +15,8 @@ package org.flowable.job.service.impl.asyncexecutor;
 import java.time.Duration;
 import java.util.UUID;
 
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
+
 /**
  * @author Filip Hrisafov
  */
@@ -160,6 +162,36 @@ public class AsyncJobExecutorConfiguration {
      */
     private String tenantId;
 
+    /**
+     * The channel used to wake up the async job acquisition thread when new async jobs are available.
+     * Jobs created on a node without an active async executor are then picked up right away by the other nodes, instead of on their next poll.
+     * By default no channel is used and the acquisition only relies on polling.
+     */
+    private AsyncJobNotificationChannel asyncJobNotificationChannel;
+    /**
+     * The maximum time the async job acquisition thread waits when no jobs were found.
+     * When set to a larger value than the default async job acquire wait time, the wait time is doubled for every acquire cycle
+     * that found no jobs, up to this value, reducing the polling load on the database when there is no work.
+     * A notification from the {@link #asyncJobNotificationChannel} or acquiring a job resets it to the default async job acquire wait time.
+     */
+    private Duration maxAsyncJobAcquireWaitTime;
+
+    /**
+     * Whether exclusive jobs of the same process or case instance that are acquired together
+     * are handed to a single thread, which executes them one after the other under one scope lock.
+     * Without grouping, all but one of these jobs fail to lock their scope and go back through acquisition.
+     */
+    private boolean exclusiveJobGroupingEnabled;
+
+    /**
+     * The maximum number of acquired history jobs that are executed together in one transaction.
+     * The history data of these jobs is then inserted with one flush, and the history json of the jobs can be merged
+     * (e.g. the start and the end of the same activity become one insert of the finished activity).
+     * When the transaction fails, the jobs are executed again one by one. By default every history job is executed in its own transaction.
+     * Only applies to the async history executor.
+     */
+    private int historyJobBatchSize = 1;
+
     public boolean isAsyncJobAcquisitionEnabled() {
         return asyncJobAcquisitionEnabled;
     }
@@ -406,4 +438,36 @@ public class AsyncJobExecutorConfiguration {
         this.tenantId = tenantId;
     }
 
+    public AsyncJobNotificationChannel getAsyncJobNotificationChannel() {
+        return asyncJobNotificationChannel;
+    }
+
+    public void setAsyncJobNotificationChannel(AsyncJobNotificationChannel asyncJobNotificationChannel) {
+        this.asyncJobNotificationChannel = asyncJobNotificationChannel;
+    }
+
+    public Duration getMaxAsyncJobAcquireWaitTime() {
+        return maxAsyncJobAcquireWaitTime;
+    }
+
+    public void setMaxAsyncJobAcquireWaitTime(Duration maxAsyncJobAcquireWaitTime) {
+        this.maxAsyncJobAcquireWaitTime = maxAsyncJobAcquireWaitTime;
+    }
+
+    public boolean isExclusiveJobGroupingEnabled() {
+        return exclusiveJobGroupingEnabled;
+    }
+
+    public void setExclusiveJobGroupingEnabled(boolean exclusiveJobGroupingEnabled) {
+        this.exclusiveJobGroupingEnabled = exclusiveJobGroupingEnabled;
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes on the {@link AsyncJobNotificationChannel} that new async jobs are available, once the transaction that created them has committed.
+ */
+public class AsyncJobsAvailableNotification implements TransactionListener, CommandContextCloseListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncJobsAvailableNotification.class);
+
+    protected AsyncJobNotificationChannel notificationChannel;
+    protected String engineName;
+
+    public AsyncJobsAvailableNotification(AsyncJobNotificationChannel notificationChannel, String engineName) {
+        this.notificationChannel = notificationChannel;
+        this.engineName = engineName;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        try {
+            notificationChannel.notifyJobsAvailable(engineName);
+        } catch (RuntimeException e) {
+            // The jobs are committed, they will be picked up with the next poll
+            LOGGER.warn("Could not notify that async jobs are available for engine {}", engineName, e);
+        }
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        execute(commandContext);
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+    @Override
+    public Integer order() {
+        return 10;
+    }
+
+    @Override
+    public boolean multipleAllowed() {
+        return false;
+    }
+}
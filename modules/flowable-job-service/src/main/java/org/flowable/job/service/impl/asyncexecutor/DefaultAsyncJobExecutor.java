@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
@@ -24,6 +26,7 @@ import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.scheduler.AsyncJobScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +59,12 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     protected AsyncTaskExecutor taskExecutor;
     protected boolean shutdownTaskExecutor;
 
+    /**
+     * The optional scheduler deciding in which order the acquired jobs are handed to the task executor.
+     * Without a scheduler, the jobs are handed to the task executor in the order in which they were acquired.
+     */
+    protected AsyncJobScheduler asyncJobScheduler;
+
     public DefaultAsyncJobExecutor() {
         super();
     }
@@ -66,6 +75,15 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        if (asyncJobScheduler != null) {
+            if (asyncJobScheduler.schedule(Collections.singletonList(job), runnable)) {
+                return true;
+            }
+
+            rejectJob(job);
+            return false;
+        }
+
         try {
             taskExecutor.execute(runnable);
             return true;
@@ -79,6 +97,51 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    @Override
+    protected boolean executeExclusiveAsyncJobsInternal(List<? extends JobInfo> jobs) {
+        if (executeAsyncRunnableFactory != null) {
+            // A custom runnable factory only knows how to execute a single job
+            return super.executeExclusiveAsyncJobsInternal(jobs);
+        }
+
+        return executeAsyncJobs(jobs, createRunnableForExclusiveJobs(jobs));
+    }
+
+    @Override
+    protected boolean executeHistoryJobsInternal(List<? extends JobInfo> jobs) {
+        if (executeAsyncRunnableFactory != null) {
+            // A custom runnable factory only knows how to execute a single job
+            return super.executeHistoryJobsInternal(jobs);
+        }
+
+        return executeAsyncJobs(jobs, createRunnableForHistoryJobs(jobs));
+    }
+
+    protected boolean executeAsyncJobs(List<? extends JobInfo> jobs, Runnable runnable) {
+        if (asyncJobScheduler != null) {
+            if (asyncJobScheduler.schedule(jobs, runnable)) {
+                return true;
+            }
+
+            jobs.forEach(this::rejectJob);
+            return false;
+        }
+
+        try {
+            taskExecutor.execute(runnable);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            jobs.forEach(this::rejectJob);
+            return false;
+        }
+    }
+
+    protected void rejectJob(JobInfo job) {
+        sendRejectedEvent(job);
+        unacquireJobAfterRejection(job);
+    }
+
     protected void sendRejectedEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
@@ -153,9 +216,17 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             this.taskExecutor = defaultAsyncTaskExecutor;
             this.shutdownTaskExecutor = true;
         }
+
+        if (asyncJobScheduler != null) {
+            asyncJobScheduler.start(taskExecutor, this::rejectJob);
+        }
     }
 
     protected void stopExecutingAsyncJobs() {
+        if (asyncJobScheduler != null) {
+            asyncJobScheduler.shutdown();
+        }
+
         if (taskExecutor != null && shutdownTaskExecutor) {
             taskExecutor.shutdown();
             taskExecutor = null;
@@ -292,4 +363,20 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
         this.taskExecutor = taskExecutor;
     }
+
+    @Override
+    public int getRemainingCapacity() {
+        if (asyncJobScheduler != null) {
+            return asyncJobScheduler.getRemainingCapacity();
+        }
+        return super.getRemainingCapacity();
+    }
+
+    public AsyncJobScheduler getAsyncJobScheduler() {
+        return asyncJobScheduler;
+    }
+
+    public void setAsyncJobScheduler(AsyncJobScheduler asyncJobScheduler) {
+        this.asyncJobScheduler = asyncJobScheduler;
+    }
 }
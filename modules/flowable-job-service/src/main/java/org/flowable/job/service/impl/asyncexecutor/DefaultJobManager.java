@@ -14,9 +14,11 @@ package org.flowable.job.service.impl.asyncexecutor;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +32,7 @@ import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.job.api.HistoryJob;
@@ -41,6 +44,7 @@ import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobProcessorContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.TriggerAsyncHistoryExecutorTransactionListener;
 import org.flowable.job.service.impl.persistence.entity.AbstractJobEntity;
@@ -68,6 +72,8 @@ public class DefaultJobManager implements JobManager {
 
     public static final String CYCLE_TYPE = "cycle";
 
+    protected static final String ASYNC_JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE = "asyncJobsAvailableNotification";
+
     protected JobServiceConfiguration jobServiceConfiguration;
 
     public DefaultJobManager(JobServiceConfiguration jobServiceConfiguration) {
@@ -99,11 +105,38 @@ public class DefaultJobManager implements JobManager {
                 if (jobServiceConfiguration.getEnabledJobCategories() != null && 
                         !jobServiceConfiguration.getEnabledJobCategories().contains(jobEntity.getCategory())) {
                     
+                    notifyAsyncJobsAvailable();
                     return;
                 }
             }
             
             hintAsyncExecutor(jobEntity);
+
+        } else {
+            // The job is not handed to an async executor on this node, but others can pick it up right away when they are notified
+            notifyAsyncJobsAvailable();
+        }
+    }
+
+    protected void notifyAsyncJobsAvailable() {
+        AsyncExecutor asyncExecutor = getAsyncExecutor();
+        AsyncJobNotificationChannel notificationChannel = asyncExecutor != null ? asyncExecutor.getAsyncJobNotificationChannel() : null;
+        if (notificationChannel == null) {
+            return;
+        }
+
+        // One notification per transaction is enough, the acquisition will get all the jobs that were created
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (commandContext.getAttribute(ASYNC_JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE) != null) {
+            return;
+        }
+        commandContext.addAttribute(ASYNC_JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE, Boolean.TRUE);
+
+        AsyncJobsAvailableNotification notification = new AsyncJobsAvailableNotification(notificationChannel, jobServiceConfiguration.getEngineName());
+        if (Context.getTransactionContext() != null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, notification);
+        } else {
+            commandContext.addCloseListener(notification);
         }
     }
 
@@ -311,6 +344,64 @@ public class DefaultJobManager implements JobManager {
 
     @Override
     public void execute(JobInfo job) {
+        MetricsRecorder metricsRecorder = jobServiceConfiguration.getMetricsRecorder();
+        if (metricsRecorder == null) {
+            executeJob(job);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        String outcome = MetricsRecorder.OUTCOME_FAILURE;
+        try {
+            executeJob(job);
+            outcome = MetricsRecorder.OUTCOME_SUCCESS;
+
+        } finally {
+            metricsRecorder.recordTime(MetricsRecorder.JOB_EXECUTION, System.nanoTime() - startTime,
+                    MetricsRecorder.TAG_HANDLER_TYPE, String.valueOf(job.getJobHandlerType()), MetricsRecorder.TAG_OUTCOME, outcome);
+        }
+    }
+
+    /**
+     * Executes the history jobs grouped by their handler type, so that every {@link HistoryJobHandler} can process the data of all its jobs together.
+     * The execution time is recorded once per handler type.
+     */
+    @Override
+    public void executeHistoryJobs(List<HistoryJobEntity> historyJobs) {
+        Map<String, List<HistoryJobEntity>> historyJobsByHandlerType = new LinkedHashMap<>();
+        for (HistoryJobEntity historyJob : historyJobs) {
+            callHistoryJobProcessors(HistoryJobProcessorContext.Phase.BEFORE_EXECUTE, historyJob);
+            historyJobsByHandlerType.computeIfAbsent(historyJob.getJobHandlerType(), type -> new ArrayList<>()).add(historyJob);
+        }
+
+        MetricsRecorder metricsRecorder = jobServiceConfiguration.getMetricsRecorder();
+        for (Map.Entry<String, List<HistoryJobEntity>> entry : historyJobsByHandlerType.entrySet()) {
+            if (metricsRecorder == null) {
+                executeHistoryJobHandler(entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            long startTime = System.nanoTime();
+            String outcome = MetricsRecorder.OUTCOME_FAILURE;
+            try {
+                executeHistoryJobHandler(entry.getKey(), entry.getValue());
+                outcome = MetricsRecorder.OUTCOME_SUCCESS;
+
+            } finally {
+                metricsRecorder.recordTime(MetricsRecorder.JOB_EXECUTION, System.nanoTime() - startTime,
+                        MetricsRecorder.TAG_HANDLER_TYPE, String.valueOf(entry.getKey()), MetricsRecorder.TAG_OUTCOME, outcome);
+            }
+        }
+
+        HistoryJobEntityManager historyJobEntityManager = jobServiceConfiguration.getHistoryJobEntityManager();
+        for (HistoryJobEntity historyJob : historyJobs) {
+            if (historyJob.getId() != null) {
+                historyJobEntityManager.delete(historyJob);
+            }
+        }
+    }
+
+    protected void executeJob(JobInfo job) {
         if (job instanceof HistoryJobEntity) {
             callHistoryJobProcessors(HistoryJobProcessorContext.Phase.BEFORE_EXECUTE, (HistoryJobEntity) job);
             executeHistoryJob((HistoryJobEntity) job);
@@ -573,6 +664,20 @@ public class DefaultJobManager implements JobManager {
         }
     }
 
+    protected void executeHistoryJobHandler(String jobHandlerType, List<HistoryJobEntity> historyJobEntities) {
+        if (jobHandlerType == null) {
+            throw new FlowableException("Async history job has no job handler type in job config for engine: " + jobServiceConfiguration.getEngineName());
+        }
+
+        Map<String, HistoryJobHandler> jobHandlers = jobServiceConfiguration.getHistoryJobHandlers();
+        HistoryJobHandler jobHandler = jobHandlers != null ? jobHandlers.get(jobHandlerType) : null;
+        if (jobHandler == null) {
+            throw new FlowableException("No history job handler registered for type " + jobHandlerType
+                    + " in job config for engine: " + jobServiceConfiguration.getEngineName());
+        }
+        jobHandler.executeBatch(historyJobEntities, getCommandContext(), jobServiceConfiguration);
+    }
+
     protected boolean isValidTime(JobEntity timerEntity, Date newTimerDate, VariableScope variableScope) {
         BusinessCalendar businessCalendar = jobServiceConfiguration.getBusinessCalendarManager().getBusinessCalendar(
                 getBusinessCalendarName(timerEntity, variableScope));
@@ -846,7 +951,7 @@ public class DefaultJobManager implements JobManager {
     }
 
     protected boolean isAsyncExecutorRemainingCapacitySufficient(int neededCapacity) {
-        return getAsyncExecutor().isActive() && getAsyncExecutor().getTaskExecutor().getRemainingCapacity() >= neededCapacity;
+        return getAsyncExecutor().isActive() && getAsyncExecutor().getRemainingCapacity() >= neededCapacity;
     }
     
     protected boolean isAsyncHistoryExecutorActive() {
@@ -123,9 +123,19 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob(final boolean unlock) {
+        tryExecuteJob(unlock);
+    }
+
+    /**
+     * Executes the job like {@link #executeJob(boolean)}.
+     *
+     * @return the outcome of the execution, the scope is only unlocked when the job was executed or when its failure was handled
+     */
+    protected JobExecutionResult tryExecuteJob(final boolean unlock) {
         try {
-            jobServiceConfiguration.getCommandExecutor().execute(
+            Object executedJob = jobServiceConfiguration.getCommandExecutor().execute(
                 new ExecuteAsyncRunnableJobCmd(jobId, jobEntityManager, jobServiceConfiguration, unlock));
+            return executedJob != null ? JobExecutionResult.EXECUTED : JobExecutionResult.NOT_FOUND;
 
         } catch (final FlowableOptimisticLockingException e) {
 
@@ -145,6 +155,8 @@ public class ExecuteAsyncRunnable implements Runnable {
         } catch (Throwable exception) {
             handleFailedJob(exception);
         }
+
+        return JobExecutionResult.FAILED;
     }
 
     protected void unlockJobIfNeeded() {
@@ -221,4 +233,23 @@ public class ExecuteAsyncRunnable implements Runnable {
         throw new FlowableException("Unable to handle exception " + exception.getMessage() + " for job " + job.getId() + ".", exception);
     }
 
+    protected enum JobExecutionResult {
+
+        /**
+         * The job was executed and its transaction was committed.
+         */
+        EXECUTED,
+
+        /**
+         * The job does not exist anymore, e.g. because it was deleted by another job of the same process instance.
+         */
+        NOT_FOUND,
+
+        /**
+         * The job failed and the failure was handled.
+         */
+        FAILED
+
+    }
+
 }
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes exclusive jobs of the same process or case instance one after the other on the same thread.
+ * The scope is locked once by the first job and released together with the last one,
+ * instead of every job locking the scope separately and failing to do so while another job of the scope is running.
+ * When the last job does not release the scope, e.g. because an earlier job of the group deleted it, the scope is unlocked afterwards.
+ */
+public class ExecuteExclusiveAsyncJobsRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteExclusiveAsyncJobsRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+
+    /**
+     * No job of the group is started anymore after this time, the remaining jobs are unacquired instead.
+     * This keeps the group well within the lock time of its jobs and of the scope. Zero or less means no limit.
+     */
+    protected long maxExecutionTimeInMillis;
+
+    public ExecuteExclusiveAsyncJobsRunnable(List<? extends JobInfo> jobs, JobServiceConfiguration jobServiceConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+
+        this(jobs, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler, 0);
+    }
+
+    public ExecuteExclusiveAsyncJobsRunnable(List<? extends JobInfo> jobs, JobServiceConfiguration jobServiceConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler, long maxExecutionTimeInMillis) {
+
+        this.jobs = jobs;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.jobEntityManager = jobEntityManager;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+        this.maxExecutionTimeInMillis = maxExecutionTimeInMillis;
+    }
+
+    @Override
+    public void run() {
+        long startTime = System.currentTimeMillis();
+
+        // The job through which the scope is currently locked, null when the scope is not locked
+        JobInfo scopeLockJob = null;
+        try {
+            for (int i = 0; i < jobs.size(); i++) {
+                if (i > 0 && isMaxExecutionTimeExceeded(startTime)) {
+                    LOGGER.debug("Exclusive job group exceeded {}ms, unacquiring the remaining {} jobs", maxExecutionTimeInMillis, jobs.size() - i);
+                    unacquireJobs(i);
+                    return;
+                }
+
+                ExecuteAsyncRunnable jobRunnable = createJobRunnable(jobs.get(i));
+
+                // A failing job releases the scope lock through the exception handling,
+                // so the job after it needs to lock the scope again
+                if (scopeLockJob == null) {
+                    if (!jobRunnable.lockJob()) {
+                        // The job that could not lock the scope has been unacquired, the remaining ones go back as well
+                        unacquireJobs(i + 1);
+                        return;
+                    }
+                    scopeLockJob = jobs.get(i);
+                }
+
+                boolean lastJob = i == jobs.size() - 1;
+                try {
+                    ExecuteAsyncRunnable.JobExecutionResult result = jobRunnable.tryExecuteJob(lastJob);
+                    if (result == ExecuteAsyncRunnable.JobExecutionResult.FAILED
+                            || (lastJob && result == ExecuteAsyncRunnable.JobExecutionResult.EXECUTED)) {
+                        scopeLockJob = null;
+                    }
+
+                } catch (Throwable exception) {
+                    // The failure could not be handled, so the scope is still locked
+                    LOGGER.error("Exception while executing exclusive job {}", jobs.get(i).getId(), exception);
+                }
+            }
+
+        } finally {
+            if (scopeLockJob != null) {
+                unlockScope(scopeLockJob);
+            }
+        }
+    }
+
+    protected boolean isMaxExecutionTimeExceeded(long startTime) {
+        return maxExecutionTimeInMillis > 0 && System.currentTimeMillis() - startTime >= maxExecutionTimeInMillis;
+    }
+
+    protected void unlockScope(JobInfo job) {
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new UnlockExclusiveJobCmd((Job) job, jobServiceConfiguration));
+        } catch (Throwable exception) {
+            LOGGER.error("Could not unlock the scope of exclusive job {}, it will be available again when its lock expires", job.getId(), exception);
+        }
+    }
+
+    protected void unacquireJobs(int fromIndex) {
+        for (int i = fromIndex; i < jobs.size(); i++) {
+            try {
+                createJobRunnable(jobs.get(i)).unacquireJob();
+            } catch (Throwable exception) {
+                LOGGER.warn("Could not unacquire exclusive job {}, it will be available again when its lock expires", jobs.get(i).getId(), exception);
+            }
+        }
+    }
+
+    protected ExecuteAsyncRunnable createJobRunnable(JobInfo job) {
+        return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+}
@@ -38,6 +38,15 @@ public interface JobManager {
      * Execute a job, which means that the logic (async logic, timer that fires, etc) is executed, typically by a background thread of an executor.
      */
     void execute(JobInfo job);
+
+    /**
+     * Execute multiple history jobs in the current transaction. By default, the jobs are executed one by one through {@link #execute(JobInfo)}.
+     */
+    default void executeHistoryJobs(List<HistoryJobEntity> historyJobs) {
+        for (HistoryJobEntity historyJob : historyJobs) {
+            execute(historyJob);
+        }
+    }
     
     /**
      * Unacquires a job, meaning that this job was previously locked, and it is now freed to be acquired by other executor nodes.
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+
+/**
+ * Records the async job acquisition cycles with a {@link MetricsRecorder}.
+ * The acquisition efficiency is the number of acquired jobs divided by the number of requested jobs.
+ */
+public class MetricsAcquireAsyncJobsDueLifecycleListener implements AcquireAsyncJobsDueLifecycleListener {
+
+    protected final MetricsRecorder metricsRecorder;
+
+    public MetricsAcquireAsyncJobsDueLifecycleListener(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        metricsRecorder.increment(MetricsRecorder.JOB_ACQUISITION_CYCLES, MetricsRecorder.TAG_ENGINE, engineName);
+        metricsRecorder.increment(MetricsRecorder.JOB_ACQUISITION_REQUESTED, Math.min(remainingCapacity, maxAsyncJobsDuePerAcquisition),
+                MetricsRecorder.TAG_ENGINE, engineName);
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        metricsRecorder.increment(MetricsRecorder.JOB_ACQUISITION_ACQUIRED, jobsAcquired, MetricsRecorder.TAG_ENGINE, engineName);
+    }
+
+    @Override
+    public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        metricsRecorder.increment(MetricsRecorder.JOB_ACQUISITION_REJECTED, jobsRejected, MetricsRecorder.TAG_ENGINE, engineName);
+    }
+
+    @Override
+    public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+        metricsRecorder.increment(MetricsRecorder.JOB_ACQUISITION_OPTIMISTIC_LOCKING_FAILURES, MetricsRecorder.TAG_ENGINE, engineName);
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+
+    }
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+/**
+ * Channel through which async executors, possibly running on different nodes, are told that new async jobs are available.
+ * The async job acquisition thread subscribes to it, so it can acquire new jobs right away instead of waiting for its next poll.
+ *
+ * Notifications are hints: the acquisition thread still polls the database, so a lost notification only delays the job until the next acquire cycle.
+ */
+public interface AsyncJobNotificationChannel {
+
+    /**
+     * Notifies the listeners registered for the given engine, on this node and, depending on the implementation, on other nodes,
+     * that new async jobs are available.
+     */
+    void notifyJobsAvailable(String engineName);
+
+    /**
+     * Registers a listener that is invoked when async jobs become available for the given engine.
+     * The listener should return quickly, as it can be invoked by the thread publishing the notification.
+     */
+    void addListener(String engineName, Runnable listener);
+
+    void removeListener(String engineName, Runnable listener);
+
+}
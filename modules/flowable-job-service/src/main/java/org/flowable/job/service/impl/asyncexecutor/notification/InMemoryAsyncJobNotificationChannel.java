@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncJobNotificationChannel} that delivers notifications to the listeners in the same JVM.
+ * Sharing one instance between engines or async executors running in the same JVM wakes up all of them.
+ */
+public class InMemoryAsyncJobNotificationChannel implements AsyncJobNotificationChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryAsyncJobNotificationChannel.class);
+
+    protected final Map<String, List<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void notifyJobsAvailable(String engineName) {
+        notifyListeners(engineName);
+    }
+
+    protected void notifyListeners(String engineName) {
+        List<Runnable> engineListeners = listeners.get(engineName);
+        if (engineListeners != null) {
+            for (Runnable listener : engineListeners) {
+                try {
+                    listener.run();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Exception while notifying async job listener for engine {}", engineName, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void addListener(String engineName, Runnable listener) {
+        listeners.computeIfAbsent(engineName, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void removeListener(String engineName, Runnable listener) {
+        List<Runnable> engineListeners = listeners.get(engineName);
+        if (engineListeners != null) {
+            engineListeners.remove(listener);
+        }
+    }
+
+    public boolean hasListeners() {
+        for (List<Runnable> engineListeners : listeners.values()) {
+            if (!engineListeners.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
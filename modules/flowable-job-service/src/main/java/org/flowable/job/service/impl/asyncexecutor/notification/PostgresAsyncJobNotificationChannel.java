@@ -0,0 +1,246 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncJobNotificationChannel} using the PostgreSQL LISTEN / NOTIFY mechanism, so async executors on all nodes using the same database are notified.
+ *
+ * Notifications are sent with <code>pg_notify</code> using a connection of the given data source, with the engine name as payload.
+ * As long as listeners are registered, a dedicated thread keeps one connection of the data source open to receive the notifications.
+ * The PostgreSQL JDBC driver is accessed reflectively, so it is only needed at runtime.
+ */
+public class PostgresAsyncJobNotificationChannel extends InMemoryAsyncJobNotificationChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresAsyncJobNotificationChannel.class);
+
+    protected static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+    protected static final String PG_NOTIFICATION_CLASS = "org.postgresql.PGNotification";
+
+    protected final DataSource dataSource;
+
+    /**
+     * Lower case, unquoted identifiers, which PostgreSQL does not change, so <code>LISTEN</code> and <code>pg_notify</code> use the same channel.
+     */
+    protected static final Pattern CHANNEL_NAME_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    /**
+     * The name of the PostgreSQL notification channel.
+     * Needs to be a lower case SQL identifier of at most 63 characters, as it is used as such in the LISTEN statement.
+     */
+    protected String channelName = "flowable_async_jobs";
+
+    /**
+     * How long the listener thread waits for notifications before checking whether it should stop.
+     */
+    protected Duration pollTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long the listener thread waits before opening a new connection after the previous one failed.
+     */
+    protected Duration reconnectWaitTime = Duration.ofSeconds(5);
+
+    protected Thread listenerThread;
+
+    /**
+     * Incremented on every start and stop, a listener thread stops as soon as it no longer belongs to the current generation.
+     * This way a listener thread that did not stop yet does not keep on listening next to the thread of a restart.
+     */
+    protected volatile long listenerGeneration;
+
+    public PostgresAsyncJobNotificationChannel(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void notifyJobsAvailable(String engineName) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            statement.setString(1, channelName);
+            statement.setString(2, engineName);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+
+        } catch (SQLException e) {
+            // Not fatal, the async executors will pick up the jobs with their next poll
+            LOGGER.warn("Could not send async job notification for engine {} on channel {}", engineName, channelName, e);
+        }
+    }
+
+    @Override
+    public void addListener(String engineName, Runnable listener) {
+        super.addListener(engineName, listener);
+        startListening();
+    }
+
+    @Override
+    public void removeListener(String engineName, Runnable listener) {
+        super.removeListener(engineName, listener);
+        if (!hasListeners()) {
+            stopListening();
+        }
+    }
+
+    protected synchronized void startListening() {
+        if (listenerThread == null) {
+            long generation = ++listenerGeneration;
+            listenerThread = new Thread(() -> listen(generation), "flowable-async-job-notification-listener");
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+        }
+    }
+
+    public synchronized void stopListening() {
+        listenerGeneration++;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    protected void listen(long generation) {
+        NotificationReceiver notificationReceiver;
+        try {
+            notificationReceiver = createNotificationReceiver();
+
+        } catch (ReflectiveOperationException e) {
+            LOGGER.error("The PostgreSQL JDBC driver is not available, async job notifications will not be received", e);
+            return;
+        }
+
+        while (isListening(generation)) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channelName);
+                }
+
+                while (isListening(generation)) {
+                    for (String payload : notificationReceiver.receive(connection, pollTimeout)) {
+                        notifyListeners(payload);
+                    }
+                }
+
+            } catch (SQLException e) {
+                if (isListening(generation)) {
+                    LOGGER.warn("Exception while listening for async job notifications on channel {}, reconnecting in {}", channelName, reconnectWaitTime, e);
+                    waitBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    protected void waitBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectWaitTime.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected boolean isListening(long generation) {
+        return generation == listenerGeneration && !Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Creates the receiver of the notifications on a listening connection, which uses the PostgreSQL JDBC driver reflectively.
+     */
+    protected NotificationReceiver createNotificationReceiver() throws ReflectiveOperationException {
+        Class<?> pgConnectionClass = Class.forName(PG_CONNECTION_CLASS);
+        Method getNotificationsMethod = pgConnectionClass.getMethod("getNotifications", int.class);
+        Method getParameterMethod = Class.forName(PG_NOTIFICATION_CLASS, true, pgConnectionClass.getClassLoader()).getMethod("getParameter");
+
+        return (connection, timeout) -> {
+            try {
+                Object[] notifications = (Object[]) getNotificationsMethod.invoke(connection.unwrap(pgConnectionClass), (int) timeout.toMillis());
+                if (notifications == null || notifications.length == 0) {
+                    return Collections.emptyList();
+                }
+
+                List<String> payloads = new ArrayList<>(notifications.length);
+                for (Object notification : notifications) {
+                    payloads.add((String) getParameterMethod.invoke(notification));
+                }
+                return payloads;
+
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw (SQLException) e.getCause();
+                }
+                throw new SQLException("Could not receive the notifications of channel " + channelName, e);
+            }
+        };
+    }
+
+    /**
+     * Receives the notifications sent to a connection that executed the <code>LISTEN</code> statement.
+     */
+    @FunctionalInterface
+    protected interface NotificationReceiver {
+
+        /**
+         * Waits up to the given timeout for notifications and returns their payloads.
+         */
+        List<String> receive(Connection connection, Duration timeout) throws SQLException;
+    }
+
+    public String getChannelName() {
+        return channelName;
+    }
+
+    public PostgresAsyncJobNotificationChannel setChannelName(String channelName) {
+        if (channelName == null || !CHANNEL_NAME_PATTERN.matcher(channelName).matches()) {
+            throw new FlowableIllegalArgumentException("The channel name needs to be a lower case SQL identifier of at most 63 characters, but was " + channelName);
+        }
+        this.channelName = channelName;
+        return this;
+    }
+
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public PostgresAsyncJobNotificationChannel setPollTimeout(Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+        return this;
+    }
+
+    public Duration getReconnectWaitTime() {
+        return reconnectWaitTime;
+    }
+
+    public PostgresAsyncJobNotificationChannel setReconnectWaitTime(Duration reconnectWaitTime) {
+        this.reconnectWaitTime = reconnectWaitTime;
+        return this;
+    }
+
+}
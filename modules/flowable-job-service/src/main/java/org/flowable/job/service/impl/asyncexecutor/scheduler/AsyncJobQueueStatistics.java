@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.scheduler;
+
+/**
+ * A snapshot of the state of one queue of the {@link FairAsyncJobScheduler}.
+ */
+public class AsyncJobQueueStatistics {
+
+    protected final String tenantId;
+    protected final String category;
+    protected final int weight;
+    protected final int queuedJobs;
+    protected final int runningJobs;
+    protected final long executedJobs;
+    protected final long rejectedJobs;
+
+    public AsyncJobQueueStatistics(String tenantId, String category, int weight, int queuedJobs, int runningJobs, long executedJobs, long rejectedJobs) {
+        this.tenantId = tenantId;
+        this.category = category;
+        this.weight = weight;
+        this.queuedJobs = queuedJobs;
+        this.runningJobs = runningJobs;
+        this.executedJobs = executedJobs;
+        this.rejectedJobs = rejectedJobs;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getQueuedJobs() {
+        return queuedJobs;
+    }
+
+    public int getRunningJobs() {
+        return runningJobs;
+    }
+
+    public long getExecutedJobs() {
+        return executedJobs;
+    }
+
+    public long getRejectedJobs() {
+        return rejectedJobs;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncJobQueueStatistics[tenantId=" + tenantId + ", category=" + category + ", weight=" + weight + ", queuedJobs=" + queuedJobs
+                + ", runningJobs=" + runningJobs + ", executedJobs=" + executedJobs + ", rejectedJobs=" + rejectedJobs + "]";
+    }
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.scheduler;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.job.api.JobInfo;
+
+/**
+ * Sits between the acquisition and the execution of async jobs and decides in which order
+ * the acquired jobs are handed to the {@link AsyncTaskExecutor}.
+ */
+public interface AsyncJobScheduler {
+
+    /**
+     * Starts the scheduler.
+     *
+     * @param taskExecutor the task executor used for executing the scheduled jobs
+     * @param rejectedJobHandler invoked for scheduled jobs that were rejected by the task executor, the jobs need to be released again
+     */
+    void start(AsyncTaskExecutor taskExecutor, Consumer<JobInfo> rejectedJobHandler);
+
+    /**
+     * Schedules the runnable executing the given jobs. The jobs are either a single job,
+     * or multiple exclusive jobs of the same scope that are executed by the same runnable.
+     *
+     * @return false if the jobs could not be scheduled because the scheduler is full
+     */
+    boolean schedule(List<? extends JobInfo> jobs, Runnable runnable);
+
+    /**
+     * @return the number of jobs that can still be scheduled
+     */
+    int getRemainingCapacity();
+
+    /**
+     * Stops the scheduler. Scheduled jobs that have not been handed to the task executor yet are dropped,
+     * they are released by unlocking the owned jobs or when their lock expires.
+     */
+    void shutdown();
+
+}
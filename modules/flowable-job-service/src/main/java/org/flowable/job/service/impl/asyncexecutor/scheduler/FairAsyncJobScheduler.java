@@ -0,0 +1,322 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncJobScheduler} that keeps a queue per tenant and job category (by default the job handler type)
+ * and hands the jobs of these queues to the task executor using weighted fair queuing.
+ * <p>
+ * Every queue has a weight, which is the product of the weight of its tenant and the weight of its category (1 when not configured).
+ * A queue with weight 2 gets twice as many jobs executed as a queue with weight 1, as long as both have jobs waiting.
+ * This way a tenant with a lot of jobs or a bulk of jobs of one type (e.g. history cleanup) can no longer starve the other jobs,
+ * as the jobs are no longer executed in the order in which they were acquired.
+ * <p>
+ * The scheduler only hands as many jobs to the task executor as it can run at the same time ({@link #setMaxConcurrentJobs(int)}),
+ * the remaining jobs wait in the queues of the scheduler. The number of concurrently running jobs of a category
+ * can additionally be limited with {@link #setCategoryMaxConcurrentJobs(Map)}.
+ */
+public class FairAsyncJobScheduler implements AsyncJobScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FairAsyncJobScheduler.class);
+
+    /**
+     * The maximum number of jobs handed to the task executor at the same time.
+     * This should be the number of threads of the task executor, otherwise the jobs wait in the queue of the task executor instead.
+     */
+    protected int maxConcurrentJobs = 8;
+
+    /**
+     * The maximum number of jobs waiting in the queues of the scheduler.
+     */
+    protected int maxQueuedJobs = 2048;
+
+    protected Map<String, Integer> tenantWeights = new HashMap<>();
+    protected Map<String, Integer> categoryWeights = new HashMap<>();
+    protected Map<String, Integer> categoryMaxConcurrentJobs = new HashMap<>();
+
+    protected final Map<String, JobQueue> queues = new LinkedHashMap<>();
+    protected final Map<String, Integer> runningJobsByCategory = new HashMap<>();
+    protected int queuedJobs;
+    protected int runningJobs;
+    protected double virtualTime;
+
+    protected AsyncTaskExecutor taskExecutor;
+    protected Consumer<JobInfo> rejectedJobHandler;
+    protected boolean active;
+
+    @Override
+    public synchronized void start(AsyncTaskExecutor taskExecutor, Consumer<JobInfo> rejectedJobHandler) {
+        this.taskExecutor = taskExecutor;
+        this.rejectedJobHandler = rejectedJobHandler;
+        this.active = true;
+    }
+
+    @Override
+    public boolean schedule(List<? extends JobInfo> jobs, Runnable runnable) {
+        JobInfo job = jobs.get(0);
+        String tenantId = getTenantId(job);
+        String category = getCategory(job);
+
+        List<ScheduledJobs> jobsToExecute;
+        synchronized (this) {
+            if (!active) {
+                return false;
+            }
+
+            JobQueue queue = getOrCreateQueue(tenantId, category);
+            if (queuedJobs >= maxQueuedJobs) {
+                queue.rejectedJobs += jobs.size();
+                return false;
+            }
+
+            if (queue.jobs.isEmpty()) {
+                // A queue that was idle does not get to catch up for the time it had nothing to do
+                queue.virtualTime = Math.max(queue.virtualTime, virtualTime);
+            }
+
+            queue.jobs.add(new ScheduledJobs(jobs, runnable, queue));
+            queuedJobs++;
+
+            jobsToExecute = selectJobsToExecute();
+        }
+
+        execute(jobsToExecute);
+        return true;
+    }
+
+    protected List<ScheduledJobs> selectJobsToExecute() {
+        List<ScheduledJobs> jobsToExecute = new ArrayList<>();
+        while (runningJobs < maxConcurrentJobs) {
+            JobQueue nextQueue = null;
+            for (JobQueue queue : queues.values()) {
+                if (!queue.jobs.isEmpty() && hasCategoryCapacity(queue.category)
+                        && (nextQueue == null || queue.virtualTime < nextQueue.virtualTime)) {
+                    nextQueue = queue;
+                }
+            }
+
+            if (nextQueue == null) {
+                break;
+            }
+
+            ScheduledJobs scheduledJobs = nextQueue.jobs.poll();
+            queuedJobs--;
+            runningJobs++;
+            nextQueue.runningJobs++;
+            runningJobsByCategory.merge(nextQueue.category, 1, Integer::sum);
+
+            virtualTime = nextQueue.virtualTime;
+            nextQueue.virtualTime += 1.0 / nextQueue.weight;
+
+            jobsToExecute.add(scheduledJobs);
+        }
+        return jobsToExecute;
+    }
+
+    protected boolean hasCategoryCapacity(String category) {
+        Integer maxJobs = categoryMaxConcurrentJobs.get(category);
+        return maxJobs == null || runningJobsByCategory.getOrDefault(category, 0) < maxJobs;
+    }
+
+    protected void execute(List<ScheduledJobs> jobsToExecute) {
+        for (ScheduledJobs scheduledJobs : jobsToExecute) {
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        scheduledJobs.runnable.run();
+                    } finally {
+                        jobsCompleted(scheduledJobs);
+                    }
+                });
+
+            } catch (RejectedExecutionException e) {
+                jobsRejected(scheduledJobs);
+            }
+        }
+    }
+
+    protected void jobsCompleted(ScheduledJobs scheduledJobs) {
+        List<ScheduledJobs> jobsToExecute;
+        synchronized (this) {
+            releaseRunningJobs(scheduledJobs);
+            scheduledJobs.queue.executedJobs += scheduledJobs.jobs.size();
+            jobsToExecute = active ? selectJobsToExecute() : Collections.emptyList();
+        }
+
+        execute(jobsToExecute);
+    }
+
+    protected void jobsRejected(ScheduledJobs scheduledJobs) {
+        synchronized (this) {
+            releaseRunningJobs(scheduledJobs);
+            scheduledJobs.queue.rejectedJobs += scheduledJobs.jobs.size();
+        }
+
+        for (JobInfo job : scheduledJobs.jobs) {
+            try {
+                rejectedJobHandler.accept(job);
+            } catch (Throwable e) {
+                LOGGER.warn("Could not release rejected job {}", job.getId(), e);
+            }
+        }
+    }
+
+    protected void releaseRunningJobs(ScheduledJobs scheduledJobs) {
+        runningJobs--;
+        scheduledJobs.queue.runningJobs--;
+        runningJobsByCategory.merge(scheduledJobs.queue.category, -1, Integer::sum);
+    }
+
+    protected JobQueue getOrCreateQueue(String tenantId, String category) {
+        return queues.computeIfAbsent(tenantId + '|' + category, key -> new JobQueue(tenantId, category, getWeight(tenantId, category)));
+    }
+
+    protected int getWeight(String tenantId, String category) {
+        int weight = tenantWeights.getOrDefault(tenantId, 1) * categoryWeights.getOrDefault(category, 1);
+        return Math.max(weight, 1);
+    }
+
+    protected String getTenantId(JobInfo job) {
+        return job.getTenantId() != null ? job.getTenantId() : "";
+    }
+
+    /**
+     * The category of the job, used for the category weights and the category concurrency limits. This is the job handler type by default.
+     */
+    protected String getCategory(JobInfo job) {
+        return job.getJobHandlerType() != null ? job.getJobHandlerType() : "";
+    }
+
+    @Override
+    public synchronized int getRemainingCapacity() {
+        return Math.max(maxQueuedJobs - queuedJobs, 0);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        active = false;
+        for (JobQueue queue : queues.values()) {
+            queue.jobs.clear();
+        }
+        queuedJobs = 0;
+    }
+
+    /**
+     * @return a snapshot of the state of every tenant and category queue the scheduler has seen jobs for
+     */
+    public synchronized List<AsyncJobQueueStatistics> getQueueStatistics() {
+        List<AsyncJobQueueStatistics> statistics = new ArrayList<>(queues.size());
+        for (JobQueue queue : queues.values()) {
+            statistics.add(new AsyncJobQueueStatistics(queue.tenantId, queue.category, queue.weight, queue.jobs.size(), queue.runningJobs,
+                    queue.executedJobs, queue.rejectedJobs));
+        }
+        return statistics;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public int getMaxQueuedJobs() {
+        return maxQueuedJobs;
+    }
+
+    public void setMaxQueuedJobs(int maxQueuedJobs) {
+        this.maxQueuedJobs = maxQueuedJobs;
+    }
+
+    public Map<String, Integer> getTenantWeights() {
+        return tenantWeights;
+    }
+
+    /**
+     * The weights of the tenants, tenants without a weight have weight 1. Use an empty string for jobs without a tenant.
+     */
+    public void setTenantWeights(Map<String, Integer> tenantWeights) {
+        this.tenantWeights = tenantWeights;
+    }
+
+    public Map<String, Integer> getCategoryWeights() {
+        return categoryWeights;
+    }
+
+    /**
+     * The weights of the job categories (the job handler types by default, e.g. {@code async-continuation}), categories without a weight have weight 1.
+     */
+    public void setCategoryWeights(Map<String, Integer> categoryWeights) {
+        this.categoryWeights = categoryWeights;
+    }
+
+    public Map<String, Integer> getCategoryMaxConcurrentJobs() {
+        return categoryMaxConcurrentJobs;
+    }
+
+    /**
+     * The maximum number of concurrently running jobs per job category, over all tenants. Categories without a maximum are only limited
+     * by the max concurrent jobs of the scheduler.
+     */
+    public void setCategoryMaxConcurrentJobs(Map<String, Integer> categoryMaxConcurrentJobs) {
+        this.categoryMaxConcurrentJobs = categoryMaxConcurrentJobs;
+    }
+
+    protected static class JobQueue {
+
+        protected final String tenantId;
+        protected final String category;
+        protected final int weight;
+        protected final Deque<ScheduledJobs> jobs = new ArrayDeque<>();
+        protected double virtualTime;
+        protected int runningJobs;
+        protected long executedJobs;
+        protected long rejectedJobs;
+
+        protected JobQueue(String tenantId, String category, int weight) {
+            this.tenantId = tenantId;
+            this.category = category;
+            this.weight = weight;
+        }
+    }
+
+    protected static class ScheduledJobs {
+
+        protected final List<? extends JobInfo> jobs;
+        protected final Runnable runnable;
+        protected final JobQueue queue;
+
+        protected ScheduledJobs(List<? extends JobInfo> jobs, Runnable runnable, JobQueue queue) {
+            this.jobs = jobs;
+            this.runnable = runnable;
+            this.queue = queue;
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.flowable.job.service.impl.cmd;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +74,12 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
 
         int lockTimeInMillis = (int) builder.getLockDuration().abs().toMillis();
         List<AcquiredExternalWorkerJob> acquiredJobs = new ArrayList<>(jobs.size());
+        Collection<String> variableNames = builder.getVariableNames();
+
+        if (internalJobManager != null) {
+            // Load the variables of all jobs at once instead of for every job separately
+            internalJobManager.preloadVariableScopes(jobs, variableNames);
+        }
 
         for (ExternalWorkerJobEntity job : jobs) {
             lockJob(commandContext, job, lockTimeInMillis);
@@ -80,7 +87,8 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
             if (internalJobManager != null) {
                 VariableScope variableScope = internalJobManager.resolveVariableScope(job);
                 if (variableScope != null) {
-                    variables = variableScope.getVariables();
+                    // With variable names, only those variables are fetched, the other ones are not loaded
+                    variables = variableNames != null ? variableScope.getVariables(variableNames, false) : variableScope.getVariables();
                 }
 
                 if (job.isExclusive()) {
@@ -100,7 +100,7 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
             new UnlockExclusiveJobCmd((Job) job, jobServiceConfiguration).execute(commandContext);
         }
 
-        return null;
+        return job;
     }
 
     public String getJobId() {
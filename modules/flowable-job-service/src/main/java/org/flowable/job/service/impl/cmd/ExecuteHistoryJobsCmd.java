@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes multiple {@link HistoryJob}s in one transaction, through {@link JobManager#executeHistoryJobs(List)}.
+ */
+public class ExecuteHistoryJobsCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteHistoryJobsCmd.class);
+
+    protected List<String> historyJobIds;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteHistoryJobsCmd(List<String> historyJobIds, JobServiceConfiguration jobServiceConfiguration) {
+        this.historyJobIds = historyJobIds;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (historyJobIds == null || historyJobIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("historyJobIds is null or empty");
+        }
+
+        HistoryJobEntityManager historyJobEntityManager = jobServiceConfiguration.getHistoryJobEntityManager();
+        List<HistoryJobEntity> historyJobs = new ArrayList<>(historyJobIds.size());
+        for (String historyJobId : historyJobIds) {
+            HistoryJobEntity historyJob = historyJobEntityManager.findById(historyJobId);
+            if (historyJob == null) {
+                LOGGER.debug("History job {} does not exist anymore and will not be executed", historyJobId);
+                continue;
+            }
+            historyJobs.add(historyJob);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Executing {} history jobs", historyJobs.size());
+        }
+
+        jobServiceConfiguration.getJobManager().executeHistoryJobs(historyJobs);
+
+        FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            for (HistoryJobEntity historyJob : historyJobs) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, historyJob),
+                        jobServiceConfiguration.getEngineName());
+            }
+        }
+
+        return null;
+    }
+
+    public List<String> getHistoryJobIds() {
+        return historyJobIds;
+    }
+
+}
@@ -12,6 +12,10 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -22,6 +26,8 @@ import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Executes a {@link HistoryJob} directly (not through the async history executor).
  * 
@@ -49,7 +55,25 @@ public class GetHistoryJobAdvancedConfigurationCmd implements Command<String> {
         if (historyJobEntity == null) {
             throw new JobNotFoundException(historyJobId);
         }
+
+        if (historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+            if (!isGzipCompressed(bytes)) {
+                // Decode the history json with the configured codec and return it as json text, so it stays readable when the codec stores another format
+                ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
+                try {
+                    return objectMapper.writeValueAsString(jobServiceConfiguration.getAsyncHistoryJsonCodec().decode(bytes, objectMapper));
+                } catch (IOException e) {
+                    throw new FlowableException("Could not deserialize async history json for job (id=" + historyJobId + ")", e);
+                }
+            }
+        }
+
         return historyJobEntity.getAdvancedJobHandlerConfiguration();
     }
 
+    protected boolean isGzipCompressed(byte[] bytes) {
+        return bytes != null && bytes.length >= 2 && bytes[0] == (byte) GZIPInputStream.GZIP_MAGIC && bytes[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
 }
@@ -15,7 +15,9 @@ package org.flowable.job.service.impl.history.async;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -56,7 +58,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
             JsonNode historyNode;
             try {
                 byte[] bytes = getJobBytes(job);
-                historyNode = objectMapper.readTree(bytes);
+                historyNode = jobServiceConfiguration.getAsyncHistoryJsonCodec().decode(bytes, objectMapper);
             } catch (Exception e) {
                 // The transaction will be rolled back and the job retries decremented,
                 // which is different from unacquiring the job where the retries are not changed.
@@ -129,6 +131,53 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    /**
+     * Processes the history json of all the jobs together: the json is merged first (see {@link #mergeHistoryJson(List)})
+     * and then transformed in the order of the jobs. Any failure fails the whole batch.
+     */
+    @Override
+    public void executeBatch(List<HistoryJobEntity> jobs, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        ObjectMapper objectMapper = commandContext.getObjectMapper();
+        List<ObjectNode> historyNodes = new ArrayList<>();
+        Map<ObjectNode, HistoryJobEntity> jobsByHistoryNode = new IdentityHashMap<>();
+        for (HistoryJobEntity job : jobs) {
+            if (job.getAdvancedJobHandlerConfigurationByteArrayRef() == null) {
+                continue;
+            }
+
+            JsonNode historyNode;
+            try {
+                historyNode = jobServiceConfiguration.getAsyncHistoryJsonCodec().decode(getJobBytes(job), objectMapper);
+            } catch (Exception e) {
+                throw new FlowableException("Could not deserialize async history json for job (id=" + job.getId() + ")", e);
+            }
+
+            if (historyNode.isArray()) {
+                for (JsonNode jsonNode : historyNode) {
+                    historyNodes.add((ObjectNode) jsonNode);
+                    jobsByHistoryNode.put((ObjectNode) jsonNode, job);
+                }
+            } else {
+                historyNodes.add((ObjectNode) historyNode);
+                jobsByHistoryNode.put((ObjectNode) historyNode, job);
+            }
+        }
+
+        mergeHistoryJson(historyNodes);
+
+        for (ObjectNode historyNode : historyNodes) {
+            processHistoryJson(commandContext, jobsByHistoryNode.get(historyNode), historyNode);
+        }
+    }
+
+    /**
+     * Merges the history json of jobs that are executed in one transaction, before it is processed.
+     * Merged nodes are changed in place, the nodes they replace are removed from the list.
+     */
+    protected void mergeHistoryJson(List<ObjectNode> historyNodes) {
+        // Nothing is merged by default
+    }
+
     protected AsyncHistoryListener getAsyncHistoryListener(CommandContext commandContext) {
         return commandContext.getSession(AsyncHistorySession.class).getAsyncHistoryListener();
     }
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonMerger;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
@@ -28,6 +29,7 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
 
     protected Map<String, List<HistoryJsonTransformer>> historyJsonTransformers = new HashMap<>();
     protected HistoryJsonTransformer defaultHistoryJsonTransformer;
+    protected List<HistoryJsonMerger> historyJsonMergers = new ArrayList<>();
     
     public AsyncHistoryJobHandler(String jobType) {
         super(jobType);
@@ -44,6 +46,17 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         }
     }
 
+    public void addHistoryJsonMerger(HistoryJsonMerger historyJsonMerger) {
+        historyJsonMergers.add(historyJsonMerger);
+    }
+
+    @Override
+    protected void mergeHistoryJson(List<ObjectNode> historyNodes) {
+        for (HistoryJsonMerger historyJsonMerger : historyJsonMergers) {
+            historyJsonMerger.merge(historyNodes);
+        }
+    }
+
     @Override
     protected void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
         
@@ -101,6 +114,14 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         this.historyJsonTransformers = historyJsonTransformers;
     }
 
+    public List<HistoryJsonMerger> getHistoryJsonMergers() {
+        return historyJsonMergers;
+    }
+
+    public void setHistoryJsonMergers(List<HistoryJsonMerger> historyJsonMergers) {
+        this.historyJsonMergers = historyJsonMergers;
+    }
+
     public HistoryJsonTransformer getDefaultHistoryJsonTransformer() {
         return defaultHistoryJsonTransformer;
     }
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts the history json of an async history job to the bytes that are stored with the job, and back.
+ * The bytes can be gzip compressed afterwards (see {@link AsyncHistoryJobZippedHandler}), this is independent of the codec.
+ */
+public interface AsyncHistoryJsonCodec {
+
+    byte[] encode(JsonNode historyJson, ObjectMapper objectMapper) throws IOException;
+
+    JsonNode decode(byte[] bytes, ObjectMapper objectMapper) throws IOException;
+
+}
@@ -0,0 +1,363 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Stores the history json in a compact binary format, which is smaller than json text and is decoded into json nodes without parsing text.
+ * Every value is written as a type byte followed by its content, numbers are written as variable length integers
+ * and a string that occurs more than once in a payload (e.g. the field names and the process instance id of the entries of a grouped job)
+ * is only written the first time, later occurrences refer back to it.
+ *
+ * The bytes start with a header that json text can't start with, so the json text of jobs that were created before this codec
+ * was configured is still decoded. The {@link DefaultAsyncHistoryJsonCodec} can't decode the binary format,
+ * so all jobs created with this codec need to be executed before switching back.
+ */
+public class BinaryAsyncHistoryJsonCodec extends DefaultAsyncHistoryJsonCodec {
+
+    protected static final byte[] HEADER = { 0, 'F', 'H', 1 };
+
+    /**
+     * Longer strings are not shared, as they are unlikely to be repeated and would only make the lookup of shared strings more expensive.
+     */
+    protected static final int MAX_SHARED_STRING_LENGTH = 128;
+
+    protected static final int TYPE_NULL = 0;
+    protected static final int TYPE_FALSE = 1;
+    protected static final int TYPE_TRUE = 2;
+    protected static final int TYPE_LONG = 3;
+    protected static final int TYPE_DOUBLE = 4;
+    protected static final int TYPE_BIG_INTEGER = 5;
+    protected static final int TYPE_DECIMAL = 6;
+    protected static final int TYPE_STRING = 7;
+    protected static final int TYPE_SHARED_STRING = 8;
+    protected static final int TYPE_OBJECT = 9;
+    protected static final int TYPE_ARRAY = 10;
+
+    @Override
+    public byte[] encode(JsonNode historyJson, ObjectMapper objectMapper) {
+        Encoder encoder = new Encoder();
+        encoder.writeNode(historyJson);
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, ObjectMapper objectMapper) throws IOException {
+        if (!isBinaryEncoded(bytes)) {
+            return super.decode(bytes, objectMapper);
+        }
+        return new Decoder(bytes, HEADER.length, objectMapper.getNodeFactory()).readNode();
+    }
+
+    /**
+     * @return whether the bytes were encoded by this codec, as opposed to being json text
+     */
+    public static boolean isBinaryEncoded(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (bytes[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static class Encoder {
+
+        protected final Map<String, Integer> sharedStrings = new HashMap<>();
+        protected byte[] buffer = new byte[512];
+        protected int position;
+
+        protected Encoder() {
+            for (byte headerByte : HEADER) {
+                writeByte(headerByte);
+            }
+        }
+
+        protected void writeNode(JsonNode node) {
+            switch (node.getNodeType()) {
+                case OBJECT:
+                    writeByte(TYPE_OBJECT);
+                    writeVarLong(node.size());
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        writeFieldName(field.getKey());
+                        writeNode(field.getValue());
+                    }
+                    break;
+
+                case ARRAY:
+                    writeByte(TYPE_ARRAY);
+                    writeVarLong(node.size());
+                    for (JsonNode element : node) {
+                        writeNode(element);
+                    }
+                    break;
+
+                case NUMBER:
+                    writeNumber(node);
+                    break;
+
+                case BOOLEAN:
+                    writeByte(node.booleanValue() ? TYPE_TRUE : TYPE_FALSE);
+                    break;
+
+                case NULL:
+                case MISSING:
+                    writeByte(TYPE_NULL);
+                    break;
+
+                default:
+                    // Strings, and binary values which are base64 encoded text in json as well
+                    writeTextValue(node.asText());
+            }
+        }
+
+        protected void writeNumber(JsonNode node) {
+            if (node.isBigDecimal()) {
+                writeByte(TYPE_DECIMAL);
+                writeRawString(node.decimalValue().toString());
+
+            } else if (node.isFloatingPointNumber()) {
+                writeByte(TYPE_DOUBLE);
+                long bits = Double.doubleToRawLongBits(node.doubleValue());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    writeByte((int) (bits >>> shift));
+                }
+
+            } else if (node.canConvertToLong()) {
+                writeByte(TYPE_LONG);
+                long value = node.longValue();
+                writeVarLong((value << 1) ^ (value >> 63)); // zigzag encoding, so small negative values are short as well
+
+            } else {
+                writeByte(TYPE_BIG_INTEGER);
+                writeRawString(node.bigIntegerValue().toString());
+            }
+        }
+
+        protected void writeTextValue(String value) {
+            Integer index = sharedStrings.get(value);
+            if (index != null) {
+                writeByte(TYPE_SHARED_STRING);
+                writeVarLong(index);
+            } else {
+                writeByte(TYPE_STRING);
+                writeNewString(value);
+            }
+        }
+
+        /**
+         * Field names are always strings, so they are written without type: 0 followed by a new string, or the index of a shared string plus 1.
+         */
+        protected void writeFieldName(String name) {
+            Integer index = sharedStrings.get(name);
+            if (index != null) {
+                writeVarLong(index + 1);
+            } else {
+                writeVarLong(0);
+                writeNewString(name);
+            }
+        }
+
+        protected void writeNewString(String value) {
+            writeRawString(value);
+            if (value.length() <= MAX_SHARED_STRING_LENGTH) {
+                sharedStrings.put(value, sharedStrings.size());
+            }
+        }
+
+        protected void writeRawString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        protected void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        protected void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        protected void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        protected byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    protected static class Decoder {
+
+        protected final List<String> sharedStrings = new ArrayList<>();
+        protected final byte[] bytes;
+        protected final JsonNodeFactory nodeFactory;
+        protected int position;
+
+        protected Decoder(byte[] bytes, int position, JsonNodeFactory nodeFactory) {
+            this.bytes = bytes;
+            this.position = position;
+            this.nodeFactory = nodeFactory;
+        }
+
+        protected JsonNode readNode() throws IOException {
+            int type = readByte();
+            switch (type) {
+                case TYPE_OBJECT:
+                    int fieldCount = readVarInt();
+                    ObjectNode objectNode = nodeFactory.objectNode();
+                    for (int i = 0; i < fieldCount; i++) {
+                        String name = readFieldName();
+                        objectNode.set(name, readNode());
+                    }
+                    return objectNode;
+
+                case TYPE_ARRAY:
+                    int elementCount = readVarInt();
+                    // The element count is read from the payload, so it isn't used to size the array up front
+                    ArrayNode arrayNode = nodeFactory.arrayNode();
+                    for (int i = 0; i < elementCount; i++) {
+                        arrayNode.add(readNode());
+                    }
+                    return arrayNode;
+
+                case TYPE_STRING:
+                    return nodeFactory.textNode(readNewString());
+
+                case TYPE_SHARED_STRING:
+                    return nodeFactory.textNode(readSharedString(readVarInt()));
+
+                case TYPE_LONG:
+                    long encodedValue = readVarLong();
+                    long value = (encodedValue >>> 1) ^ -(encodedValue & 1);
+                    // Same node types as when parsing json text
+                    return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+
+                case TYPE_DOUBLE:
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits = (bits << 8) | readByte();
+                    }
+                    return nodeFactory.numberNode(Double.longBitsToDouble(bits));
+
+                case TYPE_BIG_INTEGER:
+                    return nodeFactory.numberNode(new BigInteger(readRawString()));
+
+                case TYPE_DECIMAL:
+                    return nodeFactory.numberNode(new BigDecimal(readRawString()));
+
+                case TYPE_TRUE:
+                    return nodeFactory.booleanNode(true);
+
+                case TYPE_FALSE:
+                    return nodeFactory.booleanNode(false);
+
+                case TYPE_NULL:
+                    return nodeFactory.nullNode();
+
+                default:
+                    throw new IOException("Unknown value type " + type + " at position " + (position - 1));
+            }
+        }
+
+        protected String readFieldName() throws IOException {
+            int reference = readVarInt();
+            return reference == 0 ? readNewString() : readSharedString(reference - 1);
+        }
+
+        protected String readNewString() throws IOException {
+            String value = readRawString();
+            if (value.length() <= MAX_SHARED_STRING_LENGTH) {
+                sharedStrings.add(value);
+            }
+            return value;
+        }
+
+        protected String readSharedString(int index) throws IOException {
+            if (index >= sharedStrings.size()) {
+                throw new IOException("Unknown shared string " + index + " at position " + position);
+            }
+            return sharedStrings.get(index);
+        }
+
+        protected String readRawString() throws IOException {
+            int length = readVarInt();
+            if (length > bytes.length - position) {
+                throw new EOFException("String of " + length + " bytes exceeds the end of the data at position " + position);
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        protected int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Invalid length or index " + value + " at position " + position);
+            }
+            return (int) value;
+        }
+
+        protected long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Invalid variable length number at position " + position);
+        }
+
+        protected int readByte() throws IOException {
+            if (position >= bytes.length) {
+                throw new EOFException("Unexpected end of data at position " + position);
+            }
+            return bytes[position++] & 0xFF;
+        }
+    }
+
+}
@@ -96,7 +96,8 @@ public class AsyncHistoryJobMessageReceiver {
         ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName()));
+                byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName());
+                return jobServiceConfiguration.getAsyncHistoryJsonCodec().decode(bytes, objectMapper);
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
@@ -0,0 +1,357 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJsonCodec;
+import org.flowable.job.service.impl.history.async.BinaryAsyncHistoryJsonCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A {@link HistoryEventSink} that appends the history json to a log on the local file system, from which it can be replayed
+ * (e.g. to bulk load it into another store).
+ *
+ * The log consists of segment files of a fixed size, which are memory mapped while they are written.
+ * Every write is one record holding the history json of one transaction, encoded with the configured {@link AsyncHistoryJsonCodec}
+ * and preceded by its length and checksum. When a record doesn't fit in the current segment anymore, a new segment is started
+ * and the segments that are older than the retention period or exceed the maximum number of segments are deleted.
+ *
+ * When the sink is opened again, writing continues after the last complete record of the last segment.
+ * A record that wasn't written completely (e.g. due to a crash) fails its checksum and ends the segment when replaying.
+ * Unless {@link #setForceOnWrite(boolean)} is enabled, written records are flushed to disk by the operating system,
+ * which means the latest records can be lost when the machine (not only the process) fails.
+ */
+public class AppendLogHistoryEventSink implements HistoryEventSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppendLogHistoryEventSink.class);
+
+    protected static final String SEGMENT_FILE_PREFIX = "history-";
+    protected static final String SEGMENT_FILE_SUFFIX = ".log";
+    protected static final int RECORD_HEADER_LENGTH = 8; // length and checksum
+
+    protected final Path directory;
+    protected int segmentSize = 64 * 1024 * 1024;
+    protected int maxSegmentCount;
+    protected Duration retentionPeriod;
+    protected boolean forceOnWrite;
+    protected AsyncHistoryJsonCodec codec = new BinaryAsyncHistoryJsonCodec();
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    protected long segmentNumber;
+    protected MappedByteBuffer segmentBuffer;
+
+    public AppendLogHistoryEventSink(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void write(List<ObjectNode> historyNodes) {
+        ArrayNode record = objectMapper.createArrayNode();
+        record.addAll(historyNodes);
+
+        byte[] bytes;
+        try {
+            bytes = codec.encode(record, objectMapper);
+        } catch (IOException e) {
+            throw new FlowableException("Could not serialize history for the append log", e);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+
+        synchronized (this) {
+            openIfNeeded();
+            if (segmentBuffer.remaining() < RECORD_HEADER_LENGTH + bytes.length) {
+                startSegment(segmentNumber + 1, RECORD_HEADER_LENGTH + bytes.length);
+                applyRetention();
+            }
+
+            // The length is written last, so a record of which the length is visible has been written completely (unless the machine crashes)
+            int position = segmentBuffer.position();
+            segmentBuffer.put(position + RECORD_HEADER_LENGTH, bytes);
+            segmentBuffer.putInt(position + 4, (int) checksum.getValue());
+            segmentBuffer.putInt(position, bytes.length);
+            segmentBuffer.position(position + RECORD_HEADER_LENGTH + bytes.length);
+
+            if (forceOnWrite) {
+                segmentBuffer.force();
+            }
+        }
+    }
+
+    /**
+     * Passes the history json of all the records in the retained segments to the consumer, in the order in which they were written.
+     * Records that are written while replaying are not replayed.
+     */
+    public void replay(Consumer<ObjectNode> consumer) {
+        List<Path> segments;
+        int lastSegmentEnd;
+        synchronized (this) {
+            openIfNeeded();
+            segments = listSegments();
+            lastSegmentEnd = segmentBuffer.position();
+        }
+
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (i == segments.size() - 1) {
+                    buffer.limit(lastSegmentEnd);
+                }
+                readRecords(segment, buffer, bytes -> {
+                    JsonNode record;
+                    try {
+                        record = codec.decode(bytes, objectMapper);
+                    } catch (IOException e) {
+                        throw new FlowableException("Could not deserialize history record of append log segment " + segment, e);
+                    }
+                    for (JsonNode historyNode : record) {
+                        consumer.accept((ObjectNode) historyNode);
+                    }
+                });
+
+            } catch (NoSuchFileException e) {
+                LOGGER.debug("Append log segment {} was deleted by the retention while replaying", segment);
+
+            } catch (IOException e) {
+                throw new FlowableException("Could not read append log segment " + segment, e);
+            }
+        }
+    }
+
+    /**
+     * Flushes the current segment to disk. The sink is opened again when it is used afterwards.
+     */
+    public synchronized void close() {
+        if (segmentBuffer != null) {
+            segmentBuffer.force();
+            segmentBuffer = null;
+        }
+    }
+
+    protected void openIfNeeded() {
+        if (segmentBuffer != null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new FlowableException("Could not create append log directory " + directory, e);
+        }
+
+        List<Path> segments = listSegments();
+        if (segments.isEmpty()) {
+            startSegment(1, 0);
+            return;
+        }
+
+        Path lastSegment = segments.get(segments.size() - 1);
+        segmentNumber = getSegmentNumber(lastSegment);
+        try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segmentBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        } catch (IOException e) {
+            throw new FlowableException("Could not open append log segment " + lastSegment, e);
+        }
+        segmentBuffer.position(readRecords(lastSegment, segmentBuffer.duplicate(), null));
+    }
+
+    protected void startSegment(long number, int minimumSize) {
+        if (segmentBuffer != null) {
+            segmentBuffer.force();
+            try {
+                // The modification time of a memory mapped file isn't reliably updated, but it is used for the retention
+                Files.setLastModifiedTime(getSegmentPath(segmentNumber), FileTime.from(Instant.now()));
+            } catch (IOException e) {
+                LOGGER.warn("Could not update the modification time of append log segment {}", segmentNumber, e);
+            }
+        }
+
+        Path segment = getSegmentPath(number);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segmentBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, minimumSize));
+            segmentNumber = number;
+        } catch (IOException e) {
+            throw new FlowableException("Could not create append log segment " + segment, e);
+        }
+    }
+
+    protected void applyRetention() {
+        if (maxSegmentCount <= 0 && retentionPeriod == null) {
+            return;
+        }
+
+        List<Path> segments = listSegments();
+        Instant retainedFrom = retentionPeriod != null ? Instant.now().minus(retentionPeriod) : null;
+        for (int i = 0; i < segments.size() - 1; i++) { // the current segment is always retained
+            Path segment = segments.get(i);
+            try {
+                boolean exceedsMaxCount = maxSegmentCount > 0 && segments.size() - i > maxSegmentCount;
+                boolean expired = retainedFrom != null && Files.getLastModifiedTime(segment).toInstant().isBefore(retainedFrom);
+                if (!exceedsMaxCount && !expired) {
+                    break;
+                }
+                Files.deleteIfExists(segment);
+
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete append log segment {}", segment, e);
+            }
+        }
+    }
+
+    /**
+     * Reads the records from the position of the buffer up to its limit, until a record isn't complete.
+     *
+     * @return the position after the last complete record
+     */
+    protected int readRecords(Path segment, ByteBuffer buffer, Consumer<byte[]> recordConsumer) {
+        CRC32 checksum = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_LENGTH) {
+            int position = buffer.position();
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.remaining() - RECORD_HEADER_LENGTH) {
+                if (length != 0) {
+                    LOGGER.warn("Ignoring the rest of append log segment {} from position {}, as it has an invalid record length", segment, position);
+                }
+                break;
+            }
+
+            byte[] bytes = new byte[length];
+            buffer.get(position + RECORD_HEADER_LENGTH, bytes);
+            checksum.reset();
+            checksum.update(bytes);
+            if ((int) checksum.getValue() != buffer.getInt(position + 4)) {
+                LOGGER.warn("Ignoring the rest of append log segment {} from position {}, as its record is incomplete", segment, position);
+                break;
+            }
+
+            if (recordConsumer != null) {
+                recordConsumer.accept(bytes);
+            }
+            buffer.position(position + RECORD_HEADER_LENGTH + length);
+        }
+        return buffer.position();
+    }
+
+    protected List<Path> listSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String fileName = file.getFileName().toString();
+                        return fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_SUFFIX);
+                    })
+                    .sorted() // the segment numbers are zero padded
+                    .collect(Collectors.toList());
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not list the segments of append log " + directory, e);
+        }
+    }
+
+    protected Path getSegmentPath(long number) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_FILE_PREFIX, number, SEGMENT_FILE_SUFFIX));
+    }
+
+    protected long getSegmentNumber(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(), fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public int getMaxSegmentCount() {
+        return maxSegmentCount;
+    }
+
+    /**
+     * @param maxSegmentCount the maximum number of segments that are kept, 0 (the default) to keep all segments
+     */
+    public void setMaxSegmentCount(int maxSegmentCount) {
+        this.maxSegmentCount = maxSegmentCount;
+    }
+
+    public Duration getRetentionPeriod() {
+        return retentionPeriod;
+    }
+
+    /**
+     * @param retentionPeriod how long a segment is kept after it was last written to, null (the default) to keep segments regardless of their age
+     */
+    public void setRetentionPeriod(Duration retentionPeriod) {
+        this.retentionPeriod = retentionPeriod;
+    }
+
+    public boolean isForceOnWrite() {
+        return forceOnWrite;
+    }
+
+    public void setForceOnWrite(boolean forceOnWrite) {
+        this.forceOnWrite = forceOnWrite;
+    }
+
+    public AsyncHistoryJsonCodec getCodec() {
+        return codec;
+    }
+
+    public void setCodec(AsyncHistoryJsonCodec codec) {
+        this.codec = codec;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String toString() {
+        return "AppendLogHistoryEventSink[" + directory + "]";
+    }
+
+}
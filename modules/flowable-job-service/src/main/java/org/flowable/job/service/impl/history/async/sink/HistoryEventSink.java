@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Receives the history json of transactions that are committing to store it outside of the history tables of the engine,
+ * see {@link HistoryEventSinkAsyncHistoryListener}.
+ *
+ * The history json has the same format as the json of async history jobs (a type and a data field),
+ * so it can still be loaded into the history tables later on with the async history job handlers.
+ */
+public interface HistoryEventSink {
+
+    /**
+     * Writes the history json of one transaction. An exception rolls back the transaction.
+     *
+     * @param historyNodes the history json of one transaction, in the order in which it was generated
+     */
+    void write(List<ObjectNode> historyNodes);
+
+}
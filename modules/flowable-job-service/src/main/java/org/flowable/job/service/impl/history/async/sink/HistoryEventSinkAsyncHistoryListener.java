@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistorySession;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An {@link AsyncHistoryListener} that passes the history json to a {@link HistoryEventSink} instead of creating history jobs,
+ * so no history is written to the database of the engine. It is configured as the async history listener of the engine,
+ * with async history enabled.
+ *
+ * The history json is written ahead of the commit of the transaction (when it is committing), like a write-ahead log.
+ * A failure of the sink rolls back the transaction, so no committed transaction is missing from the sink.
+ * When the commit itself fails after the history has been written, the sink also contains the history of a transaction that was not committed.
+ */
+public class HistoryEventSinkAsyncHistoryListener implements AsyncHistoryListener {
+
+    protected HistoryEventSink historyEventSink;
+
+    public HistoryEventSinkAsyncHistoryListener(HistoryEventSink historyEventSink) {
+        this.historyEventSink = historyEventSink;
+    }
+
+    @Override
+    public List<HistoryJobEntity> historyDataGenerated(JobServiceConfiguration jobServiceConfiguration, List<ObjectNode> historyObjectNodes) {
+        List<ObjectNode> historyNodes = new ArrayList<>(historyObjectNodes);
+        TransactionContext transactionContext = getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTING, commandContext -> writeHistory(historyNodes));
+        } else {
+            writeHistory(historyNodes);
+        }
+        return Collections.emptyList();
+    }
+
+    protected TransactionContext getTransactionContext() {
+        // The history is generated when the command context is closing, the session has captured the transaction context before that
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
+            if (asyncHistorySession != null && asyncHistorySession.getTransactionContext() != null) {
+                return asyncHistorySession.getTransactionContext();
+            }
+        }
+        return Context.getTransactionContext();
+    }
+
+    protected void writeHistory(List<ObjectNode> historyNodes) {
+        try {
+            historyEventSink.write(historyNodes);
+        } catch (RuntimeException e) {
+            // The history json can contain variable values, so it is not part of the message
+            throw new FlowableException("Could not write " + historyNodes.size() + " history events to " + historyEventSink, e);
+        }
+    }
+
+    public HistoryEventSink getHistoryEventSink() {
+        return historyEventSink;
+    }
+
+    public void setHistoryEventSink(HistoryEventSink historyEventSink) {
+        this.historyEventSink = historyEventSink;
+    }
+
+}
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.transformer;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merges the history json of history jobs that are executed together in one transaction, before it is transformed.
+ * For example, the start and the end of an activity can be merged into the json of the finished activity,
+ * which is then inserted once instead of being inserted and updated.
+ */
+public interface HistoryJsonMerger {
+
+    /**
+     * @param historyNodes the history json (with a {@link HistoryJsonTransformer#FIELD_NAME_TYPE} and {@link HistoryJsonTransformer#FIELD_NAME_DATA} field),
+     *            in the order in which it is transformed. Merged nodes are changed in place, the nodes they replace are removed from the list.
+     */
+    void merge(List<ObjectNode> historyNodes);
+
+}
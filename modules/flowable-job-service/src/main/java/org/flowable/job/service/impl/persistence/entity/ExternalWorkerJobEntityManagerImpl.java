@@ -15,9 +15,13 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
@@ -55,9 +59,20 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyJobAvailable(jobEntity);
         return true;
     }
 
+    protected void notifyJobAvailable(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobNotifier notifier = serviceConfiguration.getExternalWorkerJobNotifier();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (notifier != null && transactionContext != null) {
+            // The topic of an external worker job is stored as its job handler configuration
+            String topic = jobEntity.getJobHandlerConfiguration();
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> notifier.notifyJobsAvailable(topic));
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
@@ -12,17 +12,31 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> {
+public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> implements IndexedCachedEntityMatcher<JobEntity> {
+
+    public static final CachedEntityIndex<JobEntity> EXECUTION_ID_INDEX = new CachedEntityIndex<>("executionId", JobEntity::getExecutionId);
 
     @Override
     public boolean isRetained(JobEntity jobEntity, Object parameter) {
         return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<JobEntity> getIndex() {
+        return EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
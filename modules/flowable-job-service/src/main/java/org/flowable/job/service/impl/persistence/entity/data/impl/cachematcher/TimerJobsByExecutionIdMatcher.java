@@ -12,17 +12,31 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class TimerJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<TimerJobEntity> {
+public class TimerJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<TimerJobEntity> implements IndexedCachedEntityMatcher<TimerJobEntity> {
+
+    public static final CachedEntityIndex<TimerJobEntity> EXECUTION_ID_INDEX = new CachedEntityIndex<>("executionId", TimerJobEntity::getExecutionId);
 
     @Override
     public boolean isRetained(TimerJobEntity jobEntity, Object param) {
         return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param); // param = executionId
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<TimerJobEntity> getIndex() {
+        return EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
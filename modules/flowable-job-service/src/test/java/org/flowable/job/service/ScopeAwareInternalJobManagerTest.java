@@ -17,6 +17,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -190,6 +192,42 @@ class ScopeAwareInternalJobManagerTest {
         assertThat(defaultManager.invokedMethods).isEmpty();
     }
 
+    @Test
+    void preloadVariableScopesPerScopeInternalManager() {
+        TestScopeAwareInternalJobManager defaultManager = new TestScopeAwareInternalJobManager();
+        TestScopeAwareInternalJobManager cmmnManager = new TestScopeAwareInternalJobManager();
+
+        Job bpmnJob1 = mockBpmnJob(Job.class, "bpmnJob1");
+        Job cmmnJob = mockCmmnJob(Job.class, "cmmnJob");
+        Job bpmnJob2 = mockBpmnJob(Job.class, "bpmnJob2");
+
+        defaultManager.registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnManager);
+
+        InternalJobManager underTest = defaultManager;
+        underTest.preloadVariableScopes(Arrays.asList(bpmnJob1, cmmnJob, bpmnJob2));
+
+        assertThat(defaultManager.invokedMethods).containsExactly("preloadVariableScopesInternal");
+        assertThat(defaultManager.preloadedJobs).containsExactly(bpmnJob1, bpmnJob2);
+        assertThat(defaultManager.preloadedVariableNames).isNull();
+        assertThat(cmmnManager.invokedMethods).containsExactly("preloadVariableScopesInternal");
+        assertThat(cmmnManager.preloadedJobs).containsExactly(cmmnJob);
+        assertThat(cmmnManager.preloadedVariableNames).isNull();
+
+        underTest.preloadVariableScopes(Arrays.asList(bpmnJob1, cmmnJob), Arrays.asList("name", "age"));
+
+        assertThat(defaultManager.preloadedJobs).containsExactly(bpmnJob1);
+        assertThat(defaultManager.preloadedVariableNames).containsExactly("name", "age");
+        assertThat(cmmnManager.preloadedJobs).containsExactly(cmmnJob);
+        assertThat(cmmnManager.preloadedVariableNames).containsExactly("name", "age");
+
+        defaultManager.invokedMethods.clear();
+        cmmnManager.invokedMethods.clear();
+        underTest.preloadVariableScopes(new ArrayList<>());
+
+        assertThat(defaultManager.invokedMethods).isEmpty();
+        assertThat(cmmnManager.invokedMethods).isEmpty();
+    }
+
     protected <T extends Job> T mockBpmnJob(Class<T> jobClass, String mockName) {
         T job = mock(jobClass, mockName);
         when(job.getProcessInstanceId()).thenReturn(mockName);
@@ -214,6 +252,8 @@ class ScopeAwareInternalJobManagerTest {
         protected Job repeatedTimerScheduleInternal;
         protected VariableScope repeatedTimerScheduleInternalVariableScope;
         protected List<String> invokedMethods = new ArrayList<>();
+        protected List<Job> preloadedJobs;
+        protected Collection<String> preloadedVariableNames;
 
         @Override
         protected VariableScope resolveVariableScopeInternal(Job job) {
@@ -221,6 +261,13 @@ class ScopeAwareInternalJobManagerTest {
             return variableScopeByJob.get(job);
         }
 
+        @Override
+        protected void preloadVariableScopesInternal(List<Job> jobs, Collection<String> variableNames) {
+            invokedMethods.add("preloadVariableScopesInternal");
+            preloadedJobs = jobs;
+            preloadedVariableNames = variableNames;
+        }
+
         @Override
         protected boolean handleJobInsertInternal(Job job) {
             invokedMethods.add("handleJobInsertInternal");
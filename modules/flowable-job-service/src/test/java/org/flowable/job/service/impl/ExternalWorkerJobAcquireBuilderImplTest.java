@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.common.engine.impl.identity.Authentication;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.junit.jupiter.api.Test;
+
+class ExternalWorkerJobAcquireBuilderImplTest {
+
+    @Test
+    void acquisitionAfterWaitingRunsInContextOfCaller() throws Exception {
+        ExternalWorkerJobNotifier notifier = new ExternalWorkerJobNotifier();
+        notifier.setPollInterval(Duration.ofMillis(10));
+        notifier.setAcquireThreadPoolSize(1);
+
+        TestTenantInfoHolder tenantInfoHolder = new TestTenantInfoHolder();
+        JobServiceConfiguration jobServiceConfiguration = new JobServiceConfiguration(ScopeTypes.BPMN);
+        jobServiceConfiguration.setExternalWorkerJobNotifier(notifier);
+        jobServiceConfiguration.setTenantInfoHolder(tenantInfoHolder);
+
+        RecordingAcquireBuilder acquireBuilder = new RecordingAcquireBuilder(jobServiceConfiguration, tenantInfoHolder);
+        acquireBuilder.topic("simple", Duration.ofMinutes(10));
+
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquiredJobs;
+        Authentication.setAuthenticatedUserId("kermit");
+        tenantInfoHolder.setCurrentTenantId("muppets");
+        try {
+            acquiredJobs = acquireBuilder.acquireAndLock(1, "testWorker", 1, Duration.ofMillis(100));
+        } finally {
+            Authentication.setAuthenticatedUserId(null);
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+
+        assertThat(acquiredJobs.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(acquireBuilder.acquisitionContexts)
+                .hasSizeGreaterThan(1)
+                .containsOnly("kermit/muppets");
+
+        // The context of the caller is not left behind on the thread of the notifier
+        String notifierThreadContext = CompletableFuture
+                .supplyAsync(() -> Authentication.getAuthenticatedUserId() + "/" + tenantInfoHolder.getCurrentTenantId(), notifier.getExecutorService())
+                .get(5, TimeUnit.SECONDS);
+        assertThat(notifierThreadContext).isEqualTo("null/null");
+    }
+
+    static class RecordingAcquireBuilder extends ExternalWorkerJobAcquireBuilderImpl {
+
+        protected final TenantInfoHolder tenantInfoHolder;
+        protected final List<String> acquisitionContexts = new CopyOnWriteArrayList<>();
+
+        RecordingAcquireBuilder(JobServiceConfiguration jobServiceConfiguration, TenantInfoHolder tenantInfoHolder) {
+            super(null, jobServiceConfiguration);
+            this.tenantInfoHolder = tenantInfoHolder;
+        }
+
+        @Override
+        public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
+            acquisitionContexts.add(Authentication.getAuthenticatedUserId() + "/" + tenantInfoHolder.getCurrentTenantId());
+            return Collections.emptyList();
+        }
+    }
+
+    static class TestTenantInfoHolder implements TenantInfoHolder {
+
+        protected final ThreadLocal<String> currentTenantId = new ThreadLocal<>();
+
+        @Override
+        public Collection<String> getAllTenants() {
+            return Collections.singletonList("muppets");
+        }
+
+        @Override
+        public void setCurrentTenantId(String tenantId) {
+            currentTenantId.set(tenantId);
+        }
+
+        @Override
+        public String getCurrentTenantId() {
+            return currentTenantId.get();
+        }
+
+        @Override
+        public void clearCurrentTenantId() {
+            currentTenantId.remove();
+        }
+    }
+}
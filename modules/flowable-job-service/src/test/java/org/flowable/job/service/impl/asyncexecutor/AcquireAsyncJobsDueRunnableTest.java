@@ -0,0 +1,284 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.notification.AsyncJobNotificationChannel;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AcquireAsyncJobsDueRunnableTest {
+
+    protected AsyncExecutor asyncExecutor;
+
+    @BeforeEach
+    void setUp() {
+        JobServiceConfiguration jobServiceConfiguration = mock(JobServiceConfiguration.class);
+        when(jobServiceConfiguration.getEngineName()).thenReturn("test");
+
+        asyncExecutor = mock(AsyncExecutor.class);
+        when(asyncExecutor.getJobServiceConfiguration()).thenReturn(jobServiceConfiguration);
+        when(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis()).thenReturn(100);
+    }
+
+    @Test
+    void noBackoffWithoutMaxAcquireWaitTime() {
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null, AcquireJobsRunnableConfiguration.DEFAULT);
+
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(100);
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(100);
+    }
+
+    @Test
+    void backoffUntilJobsAvailable() {
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null,
+                new TestConfiguration(null, Duration.ofMillis(1000)));
+
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(100);
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(200);
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(400);
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(800);
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(1000);
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(1000);
+
+        runnable.jobsAvailable();
+        long start = System.nanoTime();
+        runnable.sleep(10_000);
+
+        // The pending notification skips the wait and resets the backoff
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(runnable.getNoJobsWaitTimeInMillis()).isEqualTo(100);
+    }
+
+    @Test
+    void notificationWakesUpWaitingThread() throws Exception {
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null, AcquireJobsRunnableConfiguration.DEFAULT);
+
+        Thread waitingThread = new Thread(() -> runnable.sleep(60_000));
+        waitingThread.start();
+        while (!runnable.isWaiting.get()) {
+            Thread.sleep(10);
+        }
+
+        runnable.jobsAvailable();
+        waitingThread.join(10_000);
+
+        assertThat(waitingThread.isAlive()).isFalse();
+    }
+
+    @Test
+    void offerExclusiveJobsGroupedByScope() {
+        when(asyncExecutor.executeAsyncJob(any())).thenReturn(true);
+        when(asyncExecutor.executeExclusiveAsyncJobs(anyList())).thenReturn(true);
+
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null,
+                new TestConfiguration(null, null, true));
+
+        JobEntity process1Job1 = createJob("process1Job1", "process1", true);
+        JobEntity process2Job = createJob("process2Job", "process2", true);
+        JobEntity process1Job2 = createJob("process1Job2", "process1", true);
+        JobEntity process1NonExclusiveJob = createJob("process1NonExclusiveJob", "process1", false);
+
+        List<JobInfoEntity> rejectedJobs = runnable.offerJobs(Arrays.asList(process1Job1, process2Job, process1Job2, process1NonExclusiveJob));
+
+        assertThat(rejectedJobs).isEmpty();
+        verify(asyncExecutor).executeExclusiveAsyncJobs(Arrays.asList(process1Job1, process1Job2));
+        verify(asyncExecutor).executeAsyncJob(process2Job);
+        verify(asyncExecutor).executeAsyncJob(process1NonExclusiveJob);
+        verify(asyncExecutor, never()).executeAsyncJob(process1Job1);
+        verify(asyncExecutor, never()).executeAsyncJob(process1Job2);
+    }
+
+    @Test
+    void rejectedExclusiveJobGroup() {
+        when(asyncExecutor.executeAsyncJob(any())).thenReturn(true);
+        when(asyncExecutor.executeExclusiveAsyncJobs(anyList())).thenReturn(false);
+
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null,
+                new TestConfiguration(null, null, true));
+
+        JobEntity job1 = createJob("job1", "process1", true);
+        JobEntity job2 = createJob("job2", "process1", true);
+        JobEntity job3 = createJob("job3", "process2", true);
+
+        assertThat(runnable.offerJobs(Arrays.asList(job1, job2, job3)))
+                .extracting(JobInfo::getId)
+                .containsExactly("job1", "job2");
+    }
+
+    @Test
+    void exclusiveJobsNotGroupedByDefault() {
+        when(asyncExecutor.executeAsyncJob(any())).thenReturn(true);
+
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null, AcquireJobsRunnableConfiguration.DEFAULT);
+
+        JobEntity job1 = createJob("job1", "process1", true);
+        JobEntity job2 = createJob("job2", "process1", true);
+
+        assertThat(runnable.offerJobs(Arrays.asList(job1, job2))).isEmpty();
+        verify(asyncExecutor).executeAsyncJob(job1);
+        verify(asyncExecutor).executeAsyncJob(job2);
+        verify(asyncExecutor, never()).executeExclusiveAsyncJobs(anyList());
+    }
+
+    @Test
+    void offerHistoryJobsInBatches() {
+        when(asyncExecutor.executeAsyncJob(any())).thenReturn(true);
+        when(asyncExecutor.executeHistoryJobs(anyList())).thenReturn(true);
+
+        TestConfiguration configuration = new TestConfiguration(null, null);
+        configuration.historyJobBatchSize = 2;
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null, configuration);
+
+        HistoryJobEntity job1 = createHistoryJob("job1");
+        HistoryJobEntity job2 = createHistoryJob("job2");
+        HistoryJobEntity job3 = createHistoryJob("job3");
+        HistoryJobEntity job4 = createHistoryJob("job4");
+        HistoryJobEntity job5 = createHistoryJob("job5");
+
+        assertThat(runnable.offerJobs(Arrays.asList(job1, job2, job3, job4, job5))).isEmpty();
+        verify(asyncExecutor).executeHistoryJobs(Arrays.asList(job1, job2));
+        verify(asyncExecutor).executeHistoryJobs(Arrays.asList(job3, job4));
+        verify(asyncExecutor).executeAsyncJob(job5);
+        verify(asyncExecutor, never()).executeAsyncJob(job1);
+    }
+
+    @Test
+    void exclusiveJobsGroupedWithHistoryJobBatches() {
+        when(asyncExecutor.executeExclusiveAsyncJobs(anyList())).thenReturn(true);
+        when(asyncExecutor.executeHistoryJobs(anyList())).thenReturn(true);
+
+        TestConfiguration configuration = new TestConfiguration(null, null, true);
+        configuration.historyJobBatchSize = 2;
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null, configuration);
+
+        JobEntity job1 = createJob("job1", "process1", true);
+        JobEntity job2 = createJob("job2", "process1", true);
+        HistoryJobEntity historyJob1 = createHistoryJob("historyJob1");
+        HistoryJobEntity historyJob2 = createHistoryJob("historyJob2");
+
+        assertThat(runnable.offerJobs(Arrays.asList(job1, historyJob1, job2, historyJob2))).isEmpty();
+        verify(asyncExecutor).executeHistoryJobs(Arrays.asList(historyJob1, historyJob2));
+        verify(asyncExecutor).executeExclusiveAsyncJobs(Arrays.asList(job1, job2));
+        verify(asyncExecutor, never()).executeAsyncJob(any());
+    }
+
+    @Test
+    void rejectedHistoryJobBatch() {
+        when(asyncExecutor.executeHistoryJobs(anyList())).thenReturn(false);
+
+        TestConfiguration configuration = new TestConfiguration(null, null);
+        configuration.historyJobBatchSize = 10;
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test", asyncExecutor, null, null, configuration);
+
+        assertThat(runnable.offerJobs(Arrays.asList(createHistoryJob("job1"), createHistoryJob("job2"))))
+                .extracting(JobInfo::getId)
+                .containsExactly("job1", "job2");
+    }
+
+    protected HistoryJobEntity createHistoryJob(String id) {
+        HistoryJobEntity job = new HistoryJobEntityImpl();
+        job.setId(id);
+        return job;
+    }
+
+    protected JobEntity createJob(String id, String processInstanceId, boolean exclusive) {
+        JobEntity job = new JobEntityImpl();
+        job.setId(id);
+        job.setProcessInstanceId(processInstanceId);
+        job.setExclusive(exclusive);
+        return job;
+    }
+
+    static class TestConfiguration implements AcquireJobsRunnableConfiguration {
+
+        protected final AsyncJobNotificationChannel notificationChannel;
+        protected final Duration maxAcquireWaitTime;
+        protected final boolean exclusiveJobGroupingEnabled;
+        protected int historyJobBatchSize = 1;
+
+        TestConfiguration(AsyncJobNotificationChannel notificationChannel, Duration maxAcquireWaitTime) {
+            this(notificationChannel, maxAcquireWaitTime, false);
+        }
+
+        TestConfiguration(AsyncJobNotificationChannel notificationChannel, Duration maxAcquireWaitTime, boolean exclusiveJobGroupingEnabled) {
+            this.notificationChannel = notificationChannel;
+            this.maxAcquireWaitTime = maxAcquireWaitTime;
+            this.exclusiveJobGroupingEnabled = exclusiveJobGroupingEnabled;
+        }
+
+        @Override
+        public boolean isGlobalAcquireLockEnabled() {
+            return false;
+        }
+
+        @Override
+        public String getGlobalAcquireLockPrefix() {
+            return "";
+        }
+
+        @Override
+        public Duration getLockWaitTime() {
+            return DEFAULT.getLockWaitTime();
+        }
+
+        @Override
+        public Duration getLockPollRate() {
+            return DEFAULT.getLockPollRate();
+        }
+
+        @Override
+        public Duration getLockForceAcquireAfter() {
+            return DEFAULT.getLockForceAcquireAfter();
+        }
+
+        @Override
+        public AsyncJobNotificationChannel getAsyncJobNotificationChannel() {
+            return notificationChannel;
+        }
+
+        @Override
+        public Duration getMaxAcquireWaitTime() {
+            return maxAcquireWaitTime;
+        }
+
+        @Override
+        public boolean isExclusiveJobGroupingEnabled() {
+            return exclusiveJobGroupingEnabled;
+        }
+
+        @Override
+        public int getHistoryJobBatchSize() {
+            return historyJobBatchSize;
+        }
+    }
+
+}
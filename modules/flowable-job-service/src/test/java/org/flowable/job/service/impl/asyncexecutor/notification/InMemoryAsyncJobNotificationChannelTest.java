@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryAsyncJobNotificationChannelTest {
+
+    @Test
+    void notifiesListenersOfEngine() {
+        InMemoryAsyncJobNotificationChannel channel = new InMemoryAsyncJobNotificationChannel();
+        AtomicInteger bpmnNotifications = new AtomicInteger();
+        AtomicInteger cmmnNotifications = new AtomicInteger();
+        Runnable bpmnListener = bpmnNotifications::incrementAndGet;
+        channel.addListener("bpmn", bpmnListener);
+        channel.addListener("cmmn", cmmnNotifications::incrementAndGet);
+
+        channel.notifyJobsAvailable("bpmn");
+        channel.notifyJobsAvailable("bpmn");
+        channel.notifyJobsAvailable("unknown");
+
+        assertThat(bpmnNotifications).hasValue(2);
+        assertThat(cmmnNotifications).hasValue(0);
+
+        channel.removeListener("bpmn", bpmnListener);
+        channel.notifyJobsAvailable("bpmn");
+
+        assertThat(bpmnNotifications).hasValue(2);
+        assertThat(channel.hasListeners()).isTrue();
+    }
+
+    @Test
+    void failingListenerDoesNotBlockOthers() {
+        InMemoryAsyncJobNotificationChannel channel = new InMemoryAsyncJobNotificationChannel();
+        AtomicInteger notifications = new AtomicInteger();
+        channel.addListener("bpmn", () -> {
+            throw new IllegalStateException("failing listener");
+        });
+        channel.addListener("bpmn", notifications::incrementAndGet);
+
+        channel.notifyJobsAvailable("bpmn");
+
+        assertThat(notifications).hasValue(1);
+    }
+
+}
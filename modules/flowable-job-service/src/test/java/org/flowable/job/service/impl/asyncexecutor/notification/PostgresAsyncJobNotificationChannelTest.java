@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PostgresAsyncJobNotificationChannelTest {
+
+    protected DataSource dataSource;
+    protected Connection connection;
+    protected PreparedStatement notifyStatement;
+    protected Statement listenStatement;
+    protected TestPostgresAsyncJobNotificationChannel channel;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        notifyStatement = mock(PreparedStatement.class);
+        listenStatement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(notifyStatement);
+        when(connection.createStatement()).thenReturn(listenStatement);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        channel = new TestPostgresAsyncJobNotificationChannel(dataSource);
+        channel.setPollTimeout(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.stopListening();
+    }
+
+    @Test
+    void notificationIsSentWithEngineNameAsPayload() throws SQLException {
+        channel.setChannelName("flowable_jobs");
+
+        channel.notifyJobsAvailable("bpmn");
+
+        verify(connection).prepareStatement("select pg_notify(?, ?)");
+        verify(notifyStatement).setString(1, "flowable_jobs");
+        verify(notifyStatement).setString(2, "bpmn");
+        verify(notifyStatement).execute();
+    }
+
+    @Test
+    void receivedPayloadNotifiesListenersOfEngine() throws Exception {
+        AtomicInteger bpmnNotifications = new AtomicInteger();
+        AtomicInteger cmmnNotifications = new AtomicInteger();
+        channel.addListener("bpmn", bpmnNotifications::incrementAndGet);
+        channel.addListener("cmmn", cmmnNotifications::incrementAndGet);
+
+        channel.payloads.put("bpmn");
+        channel.payloads.put("bpmn");
+
+        long waitUntil = System.currentTimeMillis() + 5_000;
+        while (bpmnNotifications.get() < 2 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+
+        assertThat(bpmnNotifications).hasValue(2);
+        assertThat(cmmnNotifications).hasValue(0);
+        verify(listenStatement).execute("LISTEN flowable_async_jobs");
+    }
+
+    @Test
+    void restartDoesNotKeepPreviousListenerThread() throws Exception {
+        Runnable listener = () -> {
+        };
+        channel.addListener("bpmn", listener);
+        Thread firstListenerThread = channel.listenerThread;
+
+        channel.removeListener("bpmn", listener);
+        channel.addListener("bpmn", listener);
+        Thread secondListenerThread = channel.listenerThread;
+
+        assertThat(secondListenerThread).isNotSameAs(firstListenerThread);
+        firstListenerThread.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(firstListenerThread.isAlive()).isFalse();
+        assertThat(secondListenerThread.isAlive()).isTrue();
+
+        channel.receivingThreads.clear();
+        Thread.sleep(50);
+        assertThat(channel.receivingThreads).containsOnly(secondListenerThread);
+    }
+
+    @Test
+    void invalidChannelNameIsRejected() {
+        assertThatThrownBy(() -> channel.setChannelName("jobs; drop table ACT_RU_JOB"))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("lower case SQL identifier");
+        assertThatThrownBy(() -> channel.setChannelName("Jobs"))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> channel.setChannelName(null))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        assertThat(channel.getChannelName()).isEqualTo("flowable_async_jobs");
+    }
+
+    static class TestPostgresAsyncJobNotificationChannel extends PostgresAsyncJobNotificationChannel {
+
+        protected final BlockingQueue<String> payloads = new LinkedBlockingQueue<>();
+        protected final Set<Thread> receivingThreads = ConcurrentHashMap.newKeySet();
+
+        TestPostgresAsyncJobNotificationChannel(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        protected NotificationReceiver createNotificationReceiver() {
+            return (connection, timeout) -> {
+                receivingThreads.add(Thread.currentThread());
+                String payload = null;
+                try {
+                    payload = payloads.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // Like the JDBC driver waiting on the socket, the interrupt of the thread is not kept
+                }
+                return payload != null ? List.of(payload) : Collections.emptyList();
+            };
+        }
+    }
+}
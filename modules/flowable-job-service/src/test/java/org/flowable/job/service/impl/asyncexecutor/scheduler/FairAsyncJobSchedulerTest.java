@@ -0,0 +1,203 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.job.api.JobInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FairAsyncJobSchedulerTest {
+
+    protected ManualTaskExecutor taskExecutor;
+    protected List<String> executedJobs;
+    protected List<JobInfo> rejectedJobs;
+    protected FairAsyncJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        taskExecutor = new ManualTaskExecutor();
+        executedJobs = new ArrayList<>();
+        rejectedJobs = new ArrayList<>();
+        scheduler = new FairAsyncJobScheduler();
+    }
+
+    @Test
+    void jobsAreExecutedAccordingToTenantWeights() {
+        Map<String, Integer> tenantWeights = new HashMap<>();
+        tenantWeights.put("tenantA", 2);
+        scheduler.setTenantWeights(tenantWeights);
+        scheduler.setMaxConcurrentJobs(1);
+        scheduler.start(taskExecutor, rejectedJobs::add);
+
+        for (int i = 1; i <= 6; i++) {
+            schedule("tenantA", "async-continuation", "A" + i);
+        }
+        for (int i = 1; i <= 3; i++) {
+            schedule("tenantB", "async-continuation", "B" + i);
+        }
+
+        taskExecutor.runAll();
+
+        // Tenant B does not have to wait until all jobs of tenant A are done, tenant A gets two jobs executed for every job of tenant B
+        assertThat(executedJobs).containsExactly("A1", "B1", "A2", "A3", "B2", "A4", "A5", "B3", "A6");
+        assertThat(rejectedJobs).isEmpty();
+    }
+
+    @Test
+    void categoryConcurrencyIsLimited() {
+        scheduler.setCategoryMaxConcurrentJobs(Collections.singletonMap("bpmn-history-cleanup", 1));
+        scheduler.setMaxConcurrentJobs(4);
+        scheduler.start(taskExecutor, rejectedJobs::add);
+
+        schedule("", "bpmn-history-cleanup", "cleanup1");
+        schedule("", "bpmn-history-cleanup", "cleanup2");
+        schedule("", "bpmn-history-cleanup", "cleanup3");
+        schedule("", "async-continuation", "async1");
+        schedule("", "async-continuation", "async2");
+
+        assertThat(taskExecutor.tasks).hasSize(3);
+        assertThat(scheduler.getQueueStatistics())
+                .extracting(AsyncJobQueueStatistics::getCategory, AsyncJobQueueStatistics::getQueuedJobs, AsyncJobQueueStatistics::getRunningJobs)
+                .containsExactly(
+                        tuple("bpmn-history-cleanup", 2, 1),
+                        tuple("async-continuation", 0, 2)
+                );
+
+        taskExecutor.runAll();
+
+        assertThat(executedJobs).containsExactly("cleanup1", "async1", "async2", "cleanup2", "cleanup3");
+        assertThat(scheduler.getQueueStatistics())
+                .extracting(AsyncJobQueueStatistics::getCategory, AsyncJobQueueStatistics::getExecutedJobs)
+                .containsExactly(
+                        tuple("bpmn-history-cleanup", 3L),
+                        tuple("async-continuation", 2L)
+                );
+    }
+
+    @Test
+    void jobsAreNotScheduledWhenSchedulerIsFull() {
+        scheduler.setMaxConcurrentJobs(1);
+        scheduler.setMaxQueuedJobs(1);
+        scheduler.start(taskExecutor, rejectedJobs::add);
+
+        assertThat(schedule("", "async-continuation", "job1")).isTrue();
+        assertThat(scheduler.getRemainingCapacity()).isEqualTo(1);
+        assertThat(schedule("", "async-continuation", "job2")).isTrue();
+        assertThat(scheduler.getRemainingCapacity()).isZero();
+        assertThat(schedule("", "async-continuation", "job3")).isFalse();
+
+        assertThat(scheduler.getQueueStatistics())
+                .extracting(AsyncJobQueueStatistics::getRejectedJobs)
+                .containsExactly(1L);
+
+        taskExecutor.runAll();
+
+        assertThat(executedJobs).containsExactly("job1", "job2");
+        assertThat(scheduler.getRemainingCapacity()).isEqualTo(1);
+    }
+
+    @Test
+    void jobsRejectedByTaskExecutorAreReleased() {
+        taskExecutor.reject = true;
+        scheduler.start(taskExecutor, rejectedJobs::add);
+
+        assertThat(schedule("", "async-continuation", "job1")).isTrue();
+
+        assertThat(executedJobs).isEmpty();
+        assertThat(rejectedJobs)
+                .extracting(JobInfo::getId)
+                .containsExactly("job1");
+        assertThat(scheduler.getQueueStatistics())
+                .extracting(AsyncJobQueueStatistics::getRunningJobs, AsyncJobQueueStatistics::getRejectedJobs)
+                .containsExactly(tuple(0, 1L));
+    }
+
+    @Test
+    void queuedJobsAreDroppedOnShutdown() {
+        scheduler.setMaxConcurrentJobs(1);
+        scheduler.start(taskExecutor, rejectedJobs::add);
+
+        schedule("", "async-continuation", "job1");
+        schedule("", "async-continuation", "job2");
+        scheduler.shutdown();
+
+        taskExecutor.runAll();
+
+        assertThat(executedJobs).containsExactly("job1");
+        assertThat(schedule("", "async-continuation", "job3")).isFalse();
+    }
+
+    protected boolean schedule(String tenantId, String handlerType, String jobId) {
+        JobInfo job = mock(JobInfo.class, jobId);
+        when(job.getId()).thenReturn(jobId);
+        when(job.getTenantId()).thenReturn(tenantId);
+        when(job.getJobHandlerType()).thenReturn(handlerType);
+        return scheduler.schedule(Collections.singletonList(job), () -> executedJobs.add(jobId));
+    }
+
+    static class ManualTaskExecutor implements AsyncTaskExecutor {
+
+        protected final LinkedList<Runnable> tasks = new LinkedList<>();
+        protected boolean reject;
+
+        @Override
+        public void execute(Runnable task) {
+            if (reject) {
+                throw new RejectedExecutionException("rejected");
+            }
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+
+        @Override
+        public CompletableFuture<?> submit(Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> CompletableFuture<T> submit(Callable<T> task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public int getRemainingCapacity() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class BinaryAsyncHistoryJsonCodecTest {
+
+    protected final ObjectMapper objectMapper = new ObjectMapper();
+    protected final BinaryAsyncHistoryJsonCodec codec = new BinaryAsyncHistoryJsonCodec();
+
+    @Test
+    void roundTrip() throws IOException {
+        ArrayNode historyJson = objectMapper.createArrayNode();
+        for (int i = 0; i < 3; i++) {
+            ObjectNode historyNode = historyJson.addObject();
+            historyNode.put("type", "activity-full");
+            ObjectNode data = historyNode.putObject("data");
+            data.put("processInstanceId", "8c9e7ee0-a1f4-11ee-8c90-0242ac120002");
+            data.put("activityId", "task" + i);
+            data.put("count", i);
+            data.put("negative", -1 - i);
+            data.put("long", Long.MAX_VALUE - i);
+            data.put("double", 2.5 * i);
+            data.put("decimal", new BigDecimal("1.50"));
+            data.put("bigInteger", BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN));
+            data.put("boolean", i % 2 == 0);
+            data.putNull("endTime");
+            data.put("text", "\u00dcn\u00efcode \u20ac \ud83d\ude00");
+            data.putArray("values").add(1).add("task" + i).add(false);
+        }
+
+        byte[] bytes = codec.encode(historyJson, objectMapper);
+
+        assertThat(BinaryAsyncHistoryJsonCodec.isBinaryEncoded(bytes)).isTrue();
+        assertThat(codec.decode(bytes, objectMapper)).isEqualTo(historyJson);
+        assertThat(bytes.length).isLessThan(objectMapper.writeValueAsBytes(historyJson).length / 2);
+    }
+
+    @Test
+    void decodesSameNumberTypesAsJsonText() throws IOException {
+        ObjectNode historyJson = objectMapper.createObjectNode();
+        historyJson.put("int", 42L);
+        historyJson.put("long", 1L << 40);
+        historyJson.put("bigInteger", BigInteger.valueOf(7));
+
+        JsonNode decoded = codec.decode(codec.encode(historyJson, objectMapper), objectMapper);
+
+        assertThat(decoded).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(historyJson)));
+        assertThat(decoded.get("int").isInt()).isTrue();
+        assertThat(decoded.get("long").isLong()).isTrue();
+    }
+
+    @Test
+    void decodesJsonText() throws IOException {
+        byte[] bytes = "{\"type\":\"activity-start\",\"data\":{\"activityId\":\"start\"}}".getBytes();
+
+        assertThat(BinaryAsyncHistoryJsonCodec.isBinaryEncoded(bytes)).isFalse();
+        assertThat(codec.decode(bytes, objectMapper).path("data").path("activityId").asText()).isEqualTo("start");
+    }
+
+    @Test
+    void truncatedData() throws IOException {
+        ObjectNode historyJson = objectMapper.createObjectNode();
+        historyJson.put("type", "activity-start");
+        byte[] bytes = codec.encode(historyJson, objectMapper);
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(bytes, bytes.length - 2), objectMapper))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class AppendLogHistoryEventSinkTest {
+
+    protected final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    protected Path directory;
+
+    @Test
+    void replayInWriteOrder() {
+        AppendLogHistoryEventSink sink = new AppendLogHistoryEventSink(directory);
+        sink.write(Arrays.asList(historyNode("activity-start", "task1"), historyNode("activity-end", "task1")));
+        sink.write(Arrays.asList(historyNode("activity-start", "task2")));
+
+        assertThat(replayActivityIds(sink)).containsExactly("task1", "task1", "task2");
+    }
+
+    @Test
+    void continueAfterReopen() {
+        AppendLogHistoryEventSink sink = new AppendLogHistoryEventSink(directory);
+        sink.write(Arrays.asList(historyNode("activity-start", "task1")));
+        sink.close();
+
+        AppendLogHistoryEventSink reopenedSink = new AppendLogHistoryEventSink(directory);
+        reopenedSink.write(Arrays.asList(historyNode("activity-start", "task2")));
+
+        assertThat(replayActivityIds(reopenedSink)).containsExactly("task1", "task2");
+        assertThat(listSegments()).hasSize(1);
+    }
+
+    @Test
+    void startNewSegmentAndApplyRetention() {
+        AppendLogHistoryEventSink sink = new AppendLogHistoryEventSink(directory);
+        sink.setSegmentSize(128);
+        sink.setMaxSegmentCount(2);
+        for (int i = 0; i < 10; i++) {
+            sink.write(Arrays.asList(historyNode("activity-start", "task" + i)));
+        }
+
+        List<String> activityIds = replayActivityIds(sink);
+        assertThat(listSegments()).hasSize(2);
+        assertThat(activityIds).isNotEmpty().endsWith("task8", "task9");
+        assertThat(activityIds).doesNotContain("task0");
+    }
+
+    @Test
+    void ignoreIncompleteRecord() throws IOException {
+        AppendLogHistoryEventSink sink = new AppendLogHistoryEventSink(directory);
+        sink.write(Arrays.asList(historyNode("activity-start", "task1")));
+        sink.write(Arrays.asList(historyNode("activity-start", "task2")));
+        sink.close();
+
+        // Corrupt the last byte of the second record, as if it wasn't written completely
+        Path segment = listSegments().get(0);
+        AppendLogHistoryEventSink reopenedSink = new AppendLogHistoryEventSink(directory);
+        List<Integer> recordEnds = new ArrayList<>();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int position = 0;
+            int length;
+            while ((length = readInt(file, position)) > 0) {
+                position += 8 + length;
+                recordEnds.add(position);
+            }
+            file.seek(recordEnds.get(1) - 1);
+            int lastByte = file.read();
+            file.seek(recordEnds.get(1) - 1);
+            file.write(lastByte ^ 0xFF);
+        }
+
+        assertThat(replayActivityIds(reopenedSink)).containsExactly("task1");
+
+        reopenedSink.write(Arrays.asList(historyNode("activity-start", "task3")));
+        assertThat(replayActivityIds(reopenedSink)).containsExactly("task1", "task3");
+    }
+
+    protected int readInt(RandomAccessFile file, int position) throws IOException {
+        file.seek(position);
+        return file.readInt();
+    }
+
+    protected List<String> replayActivityIds(AppendLogHistoryEventSink sink) {
+        List<String> activityIds = new ArrayList<>();
+        sink.replay(historyNode -> activityIds.add(historyNode.path("data").path("activityId").asText()));
+        return activityIds;
+    }
+
+    protected List<Path> listSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected ObjectNode historyNode(String type, String activityId) {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put("type", type);
+        historyNode.putObject("data").put("activityId", activityId);
+        return historyNode;
+    }
+}
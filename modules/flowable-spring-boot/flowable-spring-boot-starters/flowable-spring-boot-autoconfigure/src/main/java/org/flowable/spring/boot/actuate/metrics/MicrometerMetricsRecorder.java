@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.metrics.MetricId;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A {@link MetricsRecorder} that records the Flowable timers and counters in a Micrometer {@link MeterRegistry}.
+ * The meters are cached per name and tags, so the registry is only consulted the first time a metric is recorded.
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    protected final MeterRegistry meterRegistry;
+    protected final ConcurrentMap<MetricId, Timer> timers = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<MetricId, Counter> counters = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void recordTime(String name, long durationInNanos, String... tags) {
+        timers.computeIfAbsent(new MetricId(name, tags), id -> Timer.builder(name).tags(tags).register(meterRegistry))
+                .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        counters.computeIfAbsent(new MetricId(name, tags), id -> Counter.builder(name).tags(tags).register(meterRegistry))
+                .increment(amount);
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+}
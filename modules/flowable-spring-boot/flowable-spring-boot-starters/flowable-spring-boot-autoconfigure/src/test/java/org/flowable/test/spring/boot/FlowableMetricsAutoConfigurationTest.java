@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.flowable.common.engine.impl.metrics.MetricsCommandInterceptor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.FlowableMetricsAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.MicrometerMetricsRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FlowableMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableMetricsAutoConfiguration.class,
+            ProcessEngineServicesAutoConfiguration.class,
+            ProcessEngineAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+        ))
+        .withClassLoader(new FilteredClassLoader(EntityManagerFactory.class));
+
+    @Test
+    public void metricsAreDisabledByDefault() {
+        contextRunner
+            .withUserConfiguration(MeterRegistryConfiguration.class)
+            .run(context -> {
+                assertThat(context)
+                    .hasSingleBean(ProcessEngine.class)
+                    .doesNotHaveBean(MetricsRecorder.class);
+
+                ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+                assertThat(((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getMetricsRecorder()).isNull();
+            });
+    }
+
+    @Test
+    public void metricsAreNotRecordedWithoutMeterRegistry() {
+        contextRunner
+            .withPropertyValues("flowable.metrics.enabled=true")
+            .run(context -> assertThat(context)
+                .hasSingleBean(ProcessEngine.class)
+                .doesNotHaveBean(MetricsRecorder.class));
+    }
+
+    @Test
+    public void metricsAreRecordedInMeterRegistry() {
+        contextRunner
+            .withUserConfiguration(MeterRegistryConfiguration.class)
+            .withPropertyValues("flowable.metrics.enabled=true")
+            .run(context -> {
+                assertThat(context)
+                    .hasSingleBean(ProcessEngine.class)
+                    .hasSingleBean(MetricsRecorder.class);
+
+                MetricsRecorder metricsRecorder = context.getBean(MetricsRecorder.class);
+                assertThat(metricsRecorder).isInstanceOf(MicrometerMetricsRecorder.class);
+
+                ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+                assertThat(((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getMetricsRecorder())
+                    .isSameAs(metricsRecorder);
+
+                processEngine.getManagementService().executeCommand(commandContext -> null);
+
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                Timer commandTimer = meterRegistry.find(MetricsRecorder.COMMAND)
+                    .tag(MetricsRecorder.TAG_COMMAND, MetricsCommandInterceptor.LAMBDA_COMMAND_NAME)
+                    .tag(MetricsRecorder.TAG_OUTCOME, MetricsRecorder.OUTCOME_SUCCESS)
+                    .timer();
+                assertThat(commandTimer).isNotNull();
+                assertThat(commandTimer.count()).isEqualTo(1);
+
+                assertThat(meterRegistry.find(MetricsRecorder.SQL_STATEMENT).timers()).isNotEmpty();
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -56,7 +57,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, DirtyTrackingEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -193,6 +194,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -273,11 +275,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setName(String taskName) {
         this.name = taskName;
+        markDirty();
     }
 
     @Override
     public void setDescription(String description) {
         this.description = description;
+        markDirty();
     }
 
     @Override
@@ -285,6 +289,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
         assigneeUpdatedCount++;
+        markDirty();
     }
     
     @Override
@@ -297,11 +302,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
             this.assignee = assignee;
             assigneeUpdatedCount++;
         }
+        markDirty();
     }
 
     @Override
     public void setOwner(String owner) {
         this.owner = owner;
+        markDirty();
     }
     
     @Override
@@ -312,21 +319,25 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         } else {
             this.owner = owner;
         }
+        markDirty();
     }
 
     @Override
     public void setDueDate(Date dueDate) {
         this.dueDate = dueDate;
+        markDirty();
     }
 
     @Override
     public void setPriority(int priority) {
         this.priority = priority;
+        markDirty();
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        markDirty();
     }
 
     @Override
@@ -374,6 +385,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setParentTaskId(String parentTaskId) {
         this.parentTaskId = parentTaskId;
+        markDirty();
     }
 
     @Override
@@ -384,6 +396,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setFormKey(String formKey) {
         this.formKey = formKey;
+        markDirty();
     }
 
     // Override from VariableScopeImpl
@@ -477,6 +490,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        markDirty();
     }
 
     @Override
@@ -497,6 +511,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -507,6 +522,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
         this.taskDefinitionId = taskDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -517,6 +533,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
 
     @Override
@@ -527,6 +544,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -537,6 +555,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -547,11 +566,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
         this.scopeDefinitionId = scopeDefinitionId;
+        markDirty();
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
         this.propagatedStageInstanceId = propagatedStageInstanceId;
+        markDirty();
     }
 
     @Override
@@ -581,6 +602,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
         this.taskDefinitionKey = taskDefinitionKey;
+        markDirty();
     }
 
     @Override
@@ -606,11 +628,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        markDirty();
     }
 
     @Override
@@ -708,6 +732,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setDelegationState(DelegationState delegationState) {
         this.delegationState = delegationState;
+        markDirty();
     }
 
     public String getDelegationStateString() { // Needed for Activiti 5 compatibility, not exposed in interface
@@ -716,6 +741,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     public void setDelegationStateString(String delegationStateString) {
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        markDirty();
     }
 
     @Override
@@ -757,6 +783,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -851,6 +878,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setClaimTime(Date claimTime) {
         this.claimTime = claimTime;
+        markDirty();
     }
 
     @Override
@@ -870,15 +898,18 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     public void setIsCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -889,6 +920,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
 
     @Override
@@ -904,6 +936,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSubTaskCount(int subTaskCount) {
         this.subTaskCount = subTaskCount;
+        markDirty();
     }
 
     @Override
@@ -12,17 +12,31 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Filip Hrisafov
  */
-public class TasksByProcessInstanceIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByProcessInstanceIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> implements IndexedCachedEntityMatcher<TaskEntity> {
+
+    public static final CachedEntityIndex<TaskEntity> PROCESS_INSTANCE_ID_INDEX = new CachedEntityIndex<>("processInstanceId", TaskEntity::getProcessInstanceId);
 
     @Override
     public boolean isRetained(TaskEntity taskEntity, Object parameter) {
         return taskEntity.getProcessInstanceId() != null && parameter.equals(taskEntity.getProcessInstanceId());
     }
 
+    @Override
+    public CachedEntityIndex<TaskEntity> getIndex() {
+        return PROCESS_INSTANCE_ID_INDEX;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
 }
@@ -42,6 +42,11 @@ public interface InternalVariableInstanceQuery {
      */
     InternalVariableInstanceQuery processInstanceId(String processInstanceId);
 
+    /**
+     * Query variables with the given process instance ids
+     */
+    InternalVariableInstanceQuery processInstanceIds(Collection<String> processInstanceIds);
+
     /**
      * Query variables with the given execution id
      */
@@ -40,6 +40,8 @@ public class InternalVariableInstanceQueryImpl
     protected String taskId;
     protected Collection<String> taskIds;
     protected String processInstanceId;
+    protected Collection<String> processInstanceIds;
+    protected List<List<String>> safeProcessInstanceIds;
     protected String executionId;
     protected Collection<String> executionIds;
     protected boolean withoutTaskId;
@@ -98,6 +100,15 @@ public class InternalVariableInstanceQueryImpl
         return this;
     }
 
+    @Override
+    public InternalVariableInstanceQuery processInstanceIds(Collection<String> processInstanceIds) {
+        if (processInstanceIds == null || processInstanceIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null or empty");
+        }
+        this.processInstanceIds = processInstanceIds;
+        return this;
+    }
+
     @Override
     public InternalVariableInstanceQuery executionId(String executionId) {
         if (StringUtils.isEmpty(executionId)) {
@@ -229,6 +240,18 @@ public class InternalVariableInstanceQueryImpl
         return processInstanceId;
     }
 
+    public Collection<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public List<List<String>> getSafeProcessInstanceIds() {
+        return safeProcessInstanceIds;
+    }
+
+    public void setSafeProcessInstanceIds(List<List<String>> safeProcessInstanceIds) {
+        this.safeProcessInstanceIds = safeProcessInstanceIds;
+    }
+
     public String getExecutionId() {
         return executionId;
     }
@@ -316,6 +339,10 @@ public class InternalVariableInstanceQueryImpl
             return false;
         }
 
+        if (param.processInstanceIds != null && !param.processInstanceIds.contains(entity.getProcessInstanceId())) {
+            return false;
+        }
+
         if (param.withoutTaskId && entity.getTaskId() != null) {
             return false;
         }
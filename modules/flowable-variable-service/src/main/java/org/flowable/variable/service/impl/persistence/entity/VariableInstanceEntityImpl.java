@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -27,7 +28,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -85,11 +86,19 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void forceUpdate() {
         forcedUpdate = true;
+        markDirty();
+    }
+
+    @Override
+    public boolean isDirty() {
+        // The byte array reference can be changed without going through this entity, hence it always needs the persistent state check
+        return isDirty || byteArrayRef != null;
     }
     
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
@@ -142,6 +151,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
         type.setValue(value, this);
         typeName = type.getTypeName();
         cachedValue = value;
+        markDirty();
     }
 
     // getters and setters ////////////////////////////////////////////////////////
@@ -149,6 +159,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -170,6 +181,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTypeName(String typeName) {
         this.typeName = typeName;
+        markDirty();
     }
 
     @Override
@@ -180,6 +192,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setType(VariableType type) {
         this.type = type;
+        markDirty();
     }
 
     @Override
@@ -215,6 +228,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
     
     @Override
@@ -225,6 +239,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -235,6 +250,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -255,6 +271,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        markDirty();
     }
 
     @Override
@@ -265,6 +282,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        markDirty();
     }
 
     @Override
@@ -275,6 +293,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        markDirty();
     }
 
     @Override
@@ -285,6 +304,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        markDirty();
     }
 
     @Override
@@ -295,6 +315,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setMetaInfo(String metaInfo) {
         this.metaInfo = metaInfo;
+        markDirty();
     }
 
     @Override
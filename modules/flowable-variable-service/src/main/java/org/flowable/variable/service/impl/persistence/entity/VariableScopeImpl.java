@@ -83,12 +83,19 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     /**
-     * Only to be used when creating a new entity, to avoid an extra call to the database.
+     * Only to be used when creating a new entity or when the variables were fetched in bulk, to avoid an extra call to the database.
      */
     public void internalSetVariableInstances(Map<String, VariableInstanceEntity> variableInstances) {
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * @return true if the variable instances of this scope have already been fetched or set
+     */
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -74,11 +74,13 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     @Override
     public List<VariableInstanceEntity> findVariablesInstancesByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery) {
+        setSafeInValueLists(internalVariableInstanceQuery);
         return getList("selectVariablesByQuery", internalVariableInstanceQuery, internalVariableInstanceQuery, true);
     }
 
     @Override
     public VariableInstanceEntity findVariablesInstanceByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery) {
+        setSafeInValueLists(internalVariableInstanceQuery);
         return getEntity("selectVariablesByQuery", internalVariableInstanceQuery, internalVariableInstanceQuery, true);
     }
     
@@ -158,4 +160,11 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     protected IdGenerator getIdGenerator() {
         return variableServiceConfiguration.getIdGenerator();
     }
+
+    protected void setSafeInValueLists(InternalVariableInstanceQueryImpl internalVariableInstanceQuery) {
+        if (internalVariableInstanceQuery.getProcessInstanceIds() != null) {
+            internalVariableInstanceQuery.setSafeProcessInstanceIds(createSafeInValuesList(internalVariableInstanceQuery.getProcessInstanceIds()));
+        }
+    }
+
 }
@@ -14,13 +14,17 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl.cachemat
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByScopeIdAndScopeTypeMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByScopeIdAndScopeTypeMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> implements IndexedCachedEntityMatcher<VariableInstanceEntity> {
+
+    public static final CachedEntityIndex<VariableInstanceEntity> SCOPE_ID_INDEX = new CachedEntityIndex<>("scopeId", VariableInstanceEntity::getScopeId);
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -29,4 +33,15 @@ public class VariableInstanceByScopeIdAndScopeTypeMatcher extends CachedEntityMa
                 && map.get("scopeType").equals(variableInstanceEntity.getScopeType());
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<VariableInstanceEntity> getIndex() {
+        return SCOPE_ID_INDEX;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("scopeId");
+    }
+
+}